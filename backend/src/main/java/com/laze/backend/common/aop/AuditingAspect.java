@@ -78,22 +78,29 @@ public class AuditingAspect {
         final String currentEmpId = empIdFromAuth;
         final String currentEmpNm = empNmFromAuth;
 
+        int stamped = 0;
         for (Object arg : args) {
             if (arg instanceof Auditable) { // 단일 객체 처리
                 processAuditable((Auditable) arg, now, currentEmpId, currentEmpNm, isNew);
-            } else if (arg instanceof Collection) { // 컬렉션(List 등) 처리
-                ((Collection<?>) arg).stream()
-                    .filter(item -> item instanceof Auditable)
-                    .forEach(item -> processAuditable((Auditable) item, now, currentEmpId, currentEmpNm, isNew));
+                stamped++;
+            } else if (arg instanceof Collection) { // 컬렉션(List 등) 처리: 일괄 등록/수정은 호출 1회에 전체를 같은 값으로 설정
+                for (Object item : (Collection<?>) arg) {
+                    if (item instanceof Auditable) {
+                        processAuditable((Auditable) item, now, currentEmpId, currentEmpNm, isNew);
+                        stamped++;
+                    }
+                }
             }
             // 필요시 Map 등 다른 타입 처리 추가
         }
+        if (stamped > 0) {
+            log.debug("Set {} audit fields on {} object(s)", isNew ? "registration" : "modification", stamped);
+        }
     }
 
     // Auditable 객체 필드 설정 로직 분리
     private void processAuditable(Auditable auditableEntity, LocalDateTime now, String userId, String userName, boolean isNew) {
         if (isNew) {
-            log.debug("Setting registration audit fields for: {}", auditableEntity.getClass().getSimpleName());
             auditableEntity.setRegDtm(now);
             auditableEntity.setRegEmpId(userId);
             auditableEntity.setRegEmpNm(userName);
@@ -101,7 +108,6 @@ public class AuditingAspect {
             auditableEntity.setChgEmpId(userId);
             auditableEntity.setChgEmpNm(userName);
         } else {
-            log.debug("Setting modification audit fields for: {}", auditableEntity.getClass().getSimpleName());
             auditableEntity.setChgDtm(now);
             auditableEntity.setChgEmpId(userId);
             auditableEntity.setChgEmpNm(userName);
@@ -0,0 +1,85 @@
+package com.laze.backend.common.batch;
+
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * 목록 등록/수정을 JDBC 배치(batchSqlSessionTemplate, ExecutorType.BATCH)로 실행.
+ *
+ * 항목마다 mapper 구문을 호출하면 addBatch 로 쌓이고, batch.flush-size 건마다 flushStatements(executeBatch)로
+ * 전송한다. (1만 건 = flush-size 단위 전송 수만큼의 왕복) useGeneratedKeys 구문은 flush 시점에 생성된 키가
+ * 각 파라미터 객체에 설정된다.
+ *
+ * 반드시 트랜잭션 안에서 호출해야 한다. (트랜잭션이 없으면 구문마다 세션이 닫혀 배치로 묶이지 않음)
+ * 같은 트랜잭션에서 기본(SIMPLE) mapper 를 먼저 사용하면 MyBatis 가 실행기 변경을 거부하므로
+ * 배치 구문을 먼저 실행하거나 별도 트랜잭션으로 분리한다.
+ */
+@Slf4j
+@Component
+public class BatchStatementExecutor {
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final int flushSize;
+    private final int maxItems;
+
+    public BatchStatementExecutor(@Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                                  @Value("${batch.flush-size:500}") int flushSize,
+                                  @Value("${batch.max-items:10000}") int maxItems) {
+        this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+        this.flushSize = Math.max(1, flushSize);
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 항목별 mapper 구문을 배치로 실행
+     * @param mapperType mapper 인터페이스 (배치 템플릿에서 얻음)
+     * @param items 처리할 항목 (batch.max-items 이하)
+     * @param statement 항목 1건에 대한 mapper 호출 (예: SampleMapper::insertSample)
+     * @return 반영된 행 수 (드라이버가 건수를 알려주지 않은 구문은 1건으로 계산)
+     * @throws BusinessException 항목 수 초과 (INVALID_INPUT_VALUE)
+     */
+    public <M, T> int execute(Class<M> mapperType, Collection<T> items, BiConsumer<M, T> statement) {
+        if (items.size() > maxItems) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Too many items: " + items.size() + " (max " + maxItems + ")");
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Batch statements must run inside a transaction");
+        }
+        M mapper = batchSqlSessionTemplate.getMapper(mapperType);
+        int affected = 0;
+        int queued = 0;
+        for (T item : items) {
+            statement.accept(mapper, item);
+            if (++queued == flushSize) {
+                affected += flush();
+                queued = 0;
+            }
+        }
+        if (queued > 0) {
+            affected += flush();
+        }
+        log.debug("Batch executed. mapper: {}, items: {}, affected: {}", mapperType.getSimpleName(), items.size(), affected);
+        return affected;
+    }
+
+    private int flush() {
+        int affected = 0;
+        for (BatchResult result : batchSqlSessionTemplate.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                affected += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,90 @@
+package com.laze.backend.common.config;
+
+import com.laze.backend.security.session.SessionAttributeCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Cookie;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+
+import java.time.Duration;
+
+/**
+ * DB(JDBC) 세션 저장소 설정 (security.session.store=jdbc 일 때만 활성화)
+ *
+ * 세션을 SPRING_SESSION / SPRING_SESSION_ATTRIBUTES 테이블에 저장하여
+ * 여러 백엔드 노드가 sticky session 없이 세션을 공유하고, 재시작 후에도 로그인이 유지되도록 한다.
+ * (테이블 DDL: resources/db/mariadb/spring-session.sql)
+ *
+ * - 속성 값은 SessionAttributeCodec 으로 직렬화 (SecurityContext 는 바이너리 포맷)
+ * - SaveMode.ON_SET_ATTRIBUTE: 요청 중 setAttribute 된 속성만 다시 기록 (조회만 한 속성은 기록하지 않음)
+ * - 기본(memory)일 때는 Spring Boot 세션 자동 구성을 제외하므로 기존 Tomcat 메모리 세션을 그대로 사용
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "security.session.store", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class JdbcSessionConfig {
+
+    /**
+     * Spring Session JDBC 가 속성 직렬화에 사용하는 ConversionService (Bean 이름 고정)
+     */
+    @Bean
+    public ConversionService springSessionConversionService(SessionAttributeCodec sessionAttributeCodec) {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, sessionAttributeCodec::encode);
+        conversionService.addConverter(byte[].class, Object.class, sessionAttributeCodec::decode);
+        return conversionService;
+    }
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+        @Value("${security.session.jdbc.table-name:SPRING_SESSION}") String tableName,
+        @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        return repository -> {
+            repository.setTableName(tableName);
+            repository.setDefaultMaxInactiveInterval(timeout);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+            repository.setFlushMode(FlushMode.ON_SAVE);
+            log.info("JDBC session store enabled. table: {}, timeout: {}", tableName, timeout);
+        };
+    }
+
+    /**
+     * 세션 쿠키는 기존 server.servlet.session.cookie 설정(JSESSIONID 등)을 그대로 따른다.
+     */
+    @Bean
+    public CookieSerializer cookieSerializer(ServerProperties serverProperties) {
+        Cookie cookie = serverProperties.getServlet().getSession().getCookie();
+        DefaultCookieSerializer serializer = new DefaultCookieSerializer();
+        if (cookie.getName() != null) {
+            serializer.setCookieName(cookie.getName());
+        }
+        if (cookie.getHttpOnly() != null) {
+            serializer.setUseHttpOnlyCookie(cookie.getHttpOnly());
+        }
+        if (cookie.getSecure() != null) {
+            serializer.setUseSecureCookie(cookie.getSecure());
+        }
+        if (cookie.getSameSite() != null) {
+            serializer.setSameSite(cookie.getSameSite().attributeValue());
+        }
+        if (cookie.getPath() != null) {
+            serializer.setCookiePath(cookie.getPath());
+        }
+        // Tomcat 세션 ID 와 같이 쿠키 값을 Base64 인코딩하지 않음
+        serializer.setUseBase64Encoding(false);
+        return serializer;
+    }
+}
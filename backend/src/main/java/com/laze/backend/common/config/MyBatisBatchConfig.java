@@ -0,0 +1,42 @@
+package com.laze.backend.common.config;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.MybatisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * MyBatis 배치 실행 설정 클래스
+ * 기본 SqlSessionTemplate 과 별도로 JDBC 배치(addBatch/executeBatch)로 실행하는 템플릿을 등록합니다.
+ *
+ * 배치 템플릿의 구문은 트랜잭션 안에서 호출해야 하나의 배치로 묶이며,
+ * 커밋(또는 flushStatements) 시점에 한 번에 전송됩니다.
+ */
+@Configuration
+public class MyBatisBatchConfig {
+
+    /**
+     * 기본 SqlSessionTemplate (Mapper 인터페이스 주입용)
+     * SqlSessionTemplate Bean 을 추가로 등록하면 MyBatis 자동 구성의 기본 템플릿이 생성되지 않으므로 동일하게 직접 등록합니다.
+     */
+    @Bean
+    @Primary
+    public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory, MybatisProperties properties) {
+        ExecutorType executorType = properties.getExecutorType();
+        return executorType != null
+            ? new SqlSessionTemplate(sqlSessionFactory, executorType)
+            : new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    /**
+     * ExecutorType.BATCH SqlSessionTemplate
+     * 사용: batchSqlSessionTemplate.getMapper(XxxMapper.class)
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+}
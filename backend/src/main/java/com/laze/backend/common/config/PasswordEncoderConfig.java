@@ -1,8 +1,9 @@
 package com.laze.backend.common.config;
 
+import com.laze.backend.security.crypto.AdaptiveBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -15,16 +16,26 @@ public class PasswordEncoderConfig {
      * BCrypt 알고리즘을 사용하는 PasswordEncoder 빈을 생성합니다.
      * 이 인코더는 사용자 비밀번호 해싱 및 검증에 사용됩니다.
      *
-     * BCryptPasswordEncoder는 다음과 같은 특징이 있습니다:
+     * BCrypt 는 다음과 같은 특징이 있습니다:
      * - 단방향 해싱 알고리즘으로 원본 비밀번호를 복호화할 수 없음
      * - 솔트(salt)가 자동으로 생성되어 저장됨
-     * - 기본적으로 10라운드의 해싱 작업을 수행 (보안 강도)
+     * - cost(라운드 수 = 2^cost) 가 해시 문자열에 포함되므로 cost 가 다른 기존 해시도 그대로 검증 가능
      * - 매번 다른 해시 값을 생성하지만, matches() 메서드로 검증 가능
      *
-     * @return BCryptPasswordEncoder 인스턴스
+     * 기본은 고정 cost(security.password.bcrypt.cost, 기본 10)를 사용하고, cost 를 0 으로 설정한 경우에만
+     * 기동 시 이 장비에서 해싱 1회가 target-ms 이하인 가장 큰 cost 를 측정하여 사용합니다.
+     * cost 가 목표보다 낮은 기존 해시는 로그인 성공 시 재해싱됩니다.
+     *
+     * @return AdaptiveBCryptPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AdaptiveBCryptPasswordEncoder passwordEncoder(@Value("${security.password.bcrypt.cost:10}") int cost,
+                                                         @Value("${security.password.bcrypt.target-ms:100}") long targetMillis,
+                                                         @Value("${security.password.bcrypt.min-cost:10}") int minCost,
+                                                         @Value("${security.password.bcrypt.max-cost:14}") int maxCost) {
+        if (cost > 0) {
+            return AdaptiveBCryptPasswordEncoder.fixed(cost);
+        }
+        return AdaptiveBCryptPasswordEncoder.calibrate(targetMillis, minCost, maxCost);
     }
 }
@@ -0,0 +1,16 @@
+package com.laze.backend.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 주기 작업(@Scheduled)을 활성화합니다. (예: 비밀번호 오류 횟수 배치 반영)
+ * 스케줄러 스레드 수는 application.yml 의 spring.task.scheduling.pool.size 로 조정합니다. (기본 4)
+ * 작업이 모두 한 풀을 공유하므로 DB 조회 작업(세션 동기화, 변경 감지, 참조 데이터/메뉴 그래프 재적재 등)이
+ * 늘어나면 짧은 주기 작업이 밀리지 않도록 함께 늘립니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
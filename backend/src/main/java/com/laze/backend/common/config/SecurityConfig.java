@@ -2,32 +2,46 @@ package com.laze.backend.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.laze.backend.common.dto.ApiResponse;
+import com.laze.backend.common.exception.ErrorCode;
+import com.laze.backend.common.exception.ErrorResponseWriter;
+import com.laze.backend.security.filter.AuthorityRefreshFilter;
 import com.laze.backend.security.filter.CustomAuthenticationFilter;
 import com.laze.backend.security.filter.MenuAccessControlFilter;
+import com.laze.backend.security.filter.TokenAuthenticationFilter;
+import com.laze.backend.security.handler.CustomAuthenticationFailureHandler;
 import com.laze.backend.security.handler.CustomAuthenticationSuccessHandler;
 import com.laze.backend.security.provider.CmpUserAuthenticationProvider;
-import jakarta.servlet.http.HttpServletResponse;
+import com.laze.backend.security.route.RouteAuthorizationManager;
+import com.laze.backend.security.route.RouteAuthorizationTable;
+import com.laze.backend.security.service.AuthorityRefreshService;
+import com.laze.backend.security.throttle.LoginThrottle;
+import com.laze.backend.security.token.AuthTokenService;
+import com.laze.backend.security.token.AuthenticationMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.session.ChangeSessionIdAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.CompositeSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.ConcurrentSessionControlAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
@@ -36,9 +50,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -49,12 +62,24 @@ public class SecurityConfig {
 
     private final CorsConfigurationSource corsConfigurationSource; // CORS 설정 Bean
     private final CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler; // 로그인 성공 핸들러
+    private final CustomAuthenticationFailureHandler customAuthenticationFailureHandler; // 로그인 실패 핸들러
     private final CmpUserAuthenticationProvider cmpUserAuthenticationProvider; // 커스텀 Provider Bean 주입
     private final AuthenticationConfiguration authenticationConfiguration; // AuthenticationManager 얻기 위함
     private final ObjectMapper objectMapper; // <<< ObjectMapper 주입 추가
+    private final ErrorResponseWriter errorResponseWriter; // 미리 직렬화된 401/403 응답
+    private final AuthTokenService authTokenService; // 무상태(TOKEN) 모드 토큰 검증
+    private final LoginThrottle loginThrottle; // 로그인 시도 사전 차단 (IP/계정 버킷, 부정 캐시)
+    private final SessionRegistry sessionRegistry; // 동시 세션 제어 (security.session.registry: local | jdbc)
+    private final AuthorityRefreshService authorityRefreshService; // 권한 변경 표시된 세션의 권한 재조회
+
+    private static final int MAXIMUM_SESSIONS = 1;
+
+    @Value("${security.auth.mode:SESSION}")
+    private AuthenticationMode authenticationMode; // SESSION: 세션 기반, TOKEN: 서명 토큰 기반 무상태
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource, MenuAccessControlFilter menuAccessControlFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource, MenuAccessControlFilter menuAccessControlFilter,
+                                           RouteAuthorizationTable routeAuthorizationTable) throws Exception {
 
         // CsrfTokenRequestAttributeHandler 생성 (Spring Security 6.x에서 권장)
         CsrfTokenRequestAttributeHandler requestHandler = new CsrfTokenRequestAttributeHandler();
@@ -73,10 +98,8 @@ public class SecurityConfig {
                 )
             )
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/", "/error", "/api/user/login", "/api/user/csrf").permitAll()
-                .requestMatchers("/api/menus").authenticated()
-                .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
-                .anyRequest().authenticated() // 나머지 인증 필요
+                // 경로별 규칙은 routeAuthorizationTable() 에 정의 (메뉴 권한 필터와 조회 결과 공유)
+                .anyRequest().access(new RouteAuthorizationManager(routeAuthorizationTable))
             )
             .exceptionHandling(ex -> ex
                 .authenticationEntryPoint(authenticationEntryPoint()) // 401 Unauthorized 처리
@@ -93,19 +116,48 @@ public class SecurityConfig {
                     objectMapper.writeValue(response.getWriter(), apiResponse);
                 })
                 .invalidateHttpSession(true)
-                .deleteCookies("JSESSIONID", "XSRF-TOKEN")
-            )
-            .sessionManagement(session -> session
-                .sessionFixation().changeSessionId()
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                .invalidSessionUrl("/login?expired=true")
-                .maximumSessions(1) // 동일 사용자는 하나의 세션만 허용
+                .deleteCookies("JSESSIONID", "XSRF-TOKEN", authTokenService.getCookieName())
             )
             .authenticationProvider(cmpUserAuthenticationProvider);
 
+        if (authenticationMode == AuthenticationMode.TOKEN) {
+            // 무상태 모드: 세션을 만들거나 조회하지 않고 요청마다 서명 토큰으로 인증
+            http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .addFilterBefore(new TokenAuthenticationFilter(authTokenService, authTokenService.getCookieName()), UsernamePasswordAuthenticationFilter.class);
+        } else {
+            http
+                .sessionManagement(session -> session
+                    .sessionFixation().changeSessionId()
+                    .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                    .invalidSessionUrl("/login?expired=true")
+                    .maximumSessions(MAXIMUM_SESSIONS) // 동일 사용자는 하나의 세션만 허용
+                    .sessionRegistry(sessionRegistry)
+                )
+                // 로그인 이후 권한이 바뀐 세션은 인가 전에 권한 재조회 (security.change-log)
+                .addFilterBefore(new AuthorityRefreshFilter(authorityRefreshService, new HttpSessionSecurityContextRepository()),
+                    AuthorizationFilter.class);
+        }
+        log.info("Authentication mode: {}", authenticationMode);
+
         return http.build();
     }
 
+    /**
+     * 요청 경로별 접근 규칙 (인가 + 메뉴 접근 제어 공용)
+     * 정확한 경로 -> 접두어 경로(/**) -> 메뉴 경로(/api/{MENUID}/...) -> 그 외 인증 필요 순으로 판별
+     */
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+            .permitAll("/", "/error", "/api/user/login", "/api/user/csrf")
+            .authenticated("/api/menus/**", "/api/csrf", "/api/user/**") // 메뉴 권한 확인 제외
+            .hasAuthority("ADMIN", "/api/admin/**", "/actuator/sessionmemory", "/actuator/menuaccess")
+            .menuPrefix("/api/")
+            .build();
+    }
+
     @Bean
     public AuthenticationManager authenticationManager() throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
@@ -120,49 +172,40 @@ public class SecurityConfig {
         // 필터에 로그인 성공 핸들러 설정
         filter.setAuthenticationSuccessHandler(customAuthenticationSuccessHandler);
 
-        filter.setAuthenticationFailureHandler((request, response, exception) -> {
-            log.warn("Login failed for user '{}': {}", request.getParameter(CustomAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY), exception.getMessage());
-
-            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-
-            // 실패 원인에 따른 에러 코드 및 메시지 설정
-            String errorCode = "LOGIN_FAILED"; // 기본 실패 코드
-            String errorMessage = "아이디 또는 비밀번호가 올바르지 않습니다."; // 기본 메시지
-
-            // 특정 예외 타입에 따라 메시지 구체화
-            if (exception instanceof LockedException) {
-                errorCode = "ACCOUNT_LOCKED";
-                errorMessage = "계정이 잠겼습니다.";
-            } else if (exception instanceof DisabledException) {
-                errorCode = "ACCOUNT_DISABLED";
-                errorMessage = "비활성화된 계정입니다.";
-            } else if (exception instanceof UsernameNotFoundException) {
-                errorCode = "USER_NOT_FOUND";
-                errorMessage = "존재하지 않는 사용자입니다.";
-            }
-
-            ApiResponse<Void> failResponse = ApiResponse.fail(errorCode, errorMessage);
-            try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                objectMapper.writeValue(response.getWriter(), failResponse);
-            } catch (IOException e) {
-                log.error("Error writing JSON error response", e);
-            }
-        });
+        // 필터에 로그인 실패 핸들러 설정
+        filter.setAuthenticationFailureHandler(customAuthenticationFailureHandler);
+
+        // 비밀번호 검증 전 사전 차단 설정
+        filter.setLoginThrottle(loginThrottle);
+
+        // 직접 등록한 로그인 필터에는 sessionManagement 설정이 적용되지 않으므로 세션 전략을 명시적으로 지정
+        if (authenticationMode != AuthenticationMode.TOKEN) {
+            filter.setSessionAuthenticationStrategy(sessionAuthenticationStrategy());
+        }
 
         return filter;
 
     }
 
+    /**
+     * 로그인 성공 시 세션 처리: 동시 세션 초과분 만료 -> 세션 ID 변경(고정 공격 방지) -> 레지스트리 등록
+     */
+    private SessionAuthenticationStrategy sessionAuthenticationStrategy() {
+        ConcurrentSessionControlAuthenticationStrategy concurrentControl = new ConcurrentSessionControlAuthenticationStrategy(sessionRegistry);
+        concurrentControl.setMaximumSessions(MAXIMUM_SESSIONS);
+        return new CompositeSessionAuthenticationStrategy(List.of(
+            concurrentControl,
+            new ChangeSessionIdAuthenticationStrategy(),
+            new RegisterSessionAuthenticationStrategy(sessionRegistry)));
+    }
+
     // --- 인증/인가 실패 시 JSON 응답 처리를 위한 핸들러 Bean 추가 ---
     @Bean
     public AuthenticationEntryPoint authenticationEntryPoint() {
         // 401 Unauthorized 에러 발생 시 호출될 핸들러
         return (request, response, authException) -> {
             log.warn("Authentication required: {}", authException.getMessage());
-            sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "AUTH_REQUIRED", "인증이 필요합니다.", authException);
+            errorResponseWriter.write(response, ErrorCode.AUTH_REQUIRED);
         };
     }
 
@@ -174,20 +217,10 @@ public class SecurityConfig {
             log.debug("Request details - method: {}, remote addr: {}, user: {}",
                 request.getMethod(), request.getRemoteAddr(),
                 SecurityContextHolder.getContext().getAuthentication().getName());
-            sendErrorResponse(response, HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다.", accessDeniedException);
+            errorResponseWriter.write(response, ErrorCode.SECURITY_ACCESS_DENIED);
         };
     }
 
-    // --- 공통 에러 응답 전송 메소드 ---
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String code, String message, Exception exception) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        ApiResponse<Void> errorResponse = ApiResponse.fail(code, message);
-        // 주입받은 objectMapper 사용
-        objectMapper.writeValue(response.getWriter(), errorResponse);
-    }
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
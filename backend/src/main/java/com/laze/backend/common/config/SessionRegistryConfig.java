@@ -0,0 +1,19 @@
+package com.laze.backend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
+
+/**
+ * 세션 레지스트리 설정 클래스
+ * 서블릿 세션 생성/소멸/ID 변경을 Spring 이벤트로 발행하여 세션 레지스트리(LocalSessionRegistry, JdbcSessionRegistry)가
+ * 만료/로그아웃된 세션을 정리할 수 있도록 합니다.
+ */
+@Configuration
+public class SessionRegistryConfig {
+
+    @Bean
+    public HttpSessionEventPublisher httpSessionEventPublisher() {
+        return new HttpSessionEventPublisher();
+    }
+}
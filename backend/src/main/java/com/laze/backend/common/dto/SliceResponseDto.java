@@ -0,0 +1,26 @@
+package com.laze.backend.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없이 다음 페이지 여부만 가진 목록 응답 (keyset 페이징)
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 전달하여 조회한다.
+ */
+@Getter
+public class SliceResponseDto<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor; // 다음 페이지 조회 커서 (마지막 페이지면 null)
+    private final int numberOfElements;
+
+    public SliceResponseDto(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.numberOfElements = content.size();
+    }
+}
@@ -3,13 +3,32 @@ package com.laze.backend.common.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 비즈니스 로직 처리 중 발생하는 예외를 위한 기본 클래스.
  * 에러 코드, 메시지, HTTP 상태 코드를 포함할 수 있음.
+ *
+ * 4xx(클라이언트 오류) 코드는 스택 트레이스를 수집하지 않는다 (stackless).
+ * 4xx 는 로그에 스택을 남기지 않으므로 수집 비용(fillInStackTrace)만 드는데,
+ * 스캔/공격으로 4xx 가 대량 발생하면 이 비용이 CPU/할당의 대부분을 차지한다.
+ * 상세 메시지 없는 4xx 는 of(ErrorCode) 로 미리 만든 공유 인스턴스를 재사용할 수 있다.
  */
 @Getter
 public class BusinessException extends RuntimeException {
 
+    /** 4xx 코드별 공유 인스턴스 (stackless + suppression 비활성 -> 불변이므로 여러 스레드에서 throw 가능) */
+    private static final Map<ErrorCode, BusinessException> SHARED = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            if (errorCode.getStatus().is4xxClientError()) {
+                SHARED.put(errorCode, new BusinessException(errorCode, errorCode.getMessage(), false));
+            }
+        }
+    }
+
     private final ErrorCode errorCode; // String 대신 ErrorCode Enum 사용
 
     /**
@@ -17,8 +36,7 @@ public class BusinessException extends RuntimeException {
      * @param errorCode 미리 정의된 ErrorCode
      */
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage()); // 예외 메시지는 Enum 에서 가져옴
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), true); // 예외 메시지는 Enum 에서 가져옴
     }
 
     /**
@@ -27,10 +45,30 @@ public class BusinessException extends RuntimeException {
      * @param detailMessage 추가 상세 메시지
      */
     public BusinessException(ErrorCode errorCode, String detailMessage) {
-        super(errorCode.getMessage() + " (" + detailMessage + ")"); // 상세 메시지 추가
+        this(errorCode, errorCode.getMessage() + " (" + detailMessage + ")", true); // 상세 메시지 추가
+    }
+
+    private BusinessException(ErrorCode errorCode, String message, boolean enableSuppression) {
+        super(message, null, enableSuppression, !errorCode.getStatus().is4xxClientError());
         this.errorCode = errorCode;
     }
 
+    /**
+     * 상세 메시지 없는 예외. 4xx 코드는 할당 없이 공유 인스턴스를 반환한다.
+     * @param errorCode 미리 정의된 ErrorCode
+     */
+    public static BusinessException of(ErrorCode errorCode) {
+        BusinessException shared = SHARED.get(errorCode);
+        return shared != null ? shared : new BusinessException(errorCode);
+    }
+
+    /**
+     * 상세 메시지 없이 ErrorCode 기본 메시지만 가진 예외인지 여부 (미리 직렬화된 응답 사용 가능)
+     */
+    public boolean hasDefaultMessage() {
+        return errorCode.getMessage().equals(getMessage());
+    }
+
     public String getCode() {
         return errorCode.getCode();
     }
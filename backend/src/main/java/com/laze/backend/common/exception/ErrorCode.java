@@ -13,11 +13,25 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED("COMMON-002", "허용되지 않은 요청 메소드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
     RESOURCE_NOT_FOUND("COMMON-003", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     ACCESS_DENIED("COMMON-004", "접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    STREAM_BUSY("COMMON-005", "대용량 조회 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // --- 인증/인가 관련 에러 ---
     AUTHENTICATION_FAILED("AUTH-001", "인증에 실패하였습니다.", HttpStatus.UNAUTHORIZED),
     LOGIN_FAILED("AUTH-002", "로그인 정보가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED),
 
+    // --- 보안 필터/로그인 실패 응답 (클라이언트 호환을 위해 기존 응답 코드 문자열 유지) ---
+    AUTH_REQUIRED("AUTH_REQUIRED", "인증이 필요합니다.", HttpStatus.UNAUTHORIZED),
+    SECURITY_ACCESS_DENIED("ACCESS_DENIED", "접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    MENU_ACCESS_DENIED("MENU_ACCESS_DENIED", "메뉴 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    INVALID_USER_TYPE("INVALID_USER_TYPE", "사용자 정보 처리 중 오류가 발생했습니다.", HttpStatus.FORBIDDEN),
+    LOGIN_BAD_CREDENTIALS("LOGIN_FAILED", "아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED),
+    ACCOUNT_LOCKED("ACCOUNT_LOCKED", "계정이 잠겼습니다.", HttpStatus.UNAUTHORIZED),
+    ACCOUNT_DISABLED("ACCOUNT_DISABLED", "비활성화된 계정입니다.", HttpStatus.UNAUTHORIZED),
+    LOGIN_USER_NOT_FOUND("USER_NOT_FOUND", "존재하지 않는 사용자입니다.", HttpStatus.UNAUTHORIZED),
+    LOGIN_BUSY("LOGIN_BUSY", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    LOGIN_THROTTLED("LOGIN_THROTTLED", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    TENANT_QUOTA_EXCEEDED("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
     // --- 사용자 관련 에러 ---
     USER_NOT_FOUND("USER-001", "사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     DUPLICATE_USERNAME("USER-002", "이미 존재하는 사용자 아이디입니다.", HttpStatus.CONFLICT),
@@ -0,0 +1,71 @@
+package com.laze.backend.common.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.dto.ApiResponse;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 고정 에러 응답(ApiResponse.fail(code, message)) 을 ErrorCode 별로 미리 직렬화해 두고 그대로 쓰는 헬퍼.
+ *
+ * 보안 필터/핸들러의 401/403, 로그인 실패 응답은 내용이 항상 같으므로 요청마다 ApiResponse 를 만들고
+ * Jackson 으로 직렬화할 필요가 없다. 기동 시 ObjectMapper 로 한 번 직렬화한 UTF-8 byte[] 를
+ * 응답 OutputStream 에 바로 쓴다 (Writer/인코더/직렬화 버퍼 할당 없음, 응답 형식은 기존과 동일).
+ */
+@Component
+public class ErrorResponseWriter {
+
+    public static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, objectMapper.writeValueAsBytes(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage())));
+        }
+    }
+
+    /**
+     * 상태 코드/헤더/본문을 응답에 직접 기록
+     * @param response HttpServletResponse 객체
+     * @param errorCode 응답할 에러 코드
+     * @throws IOException 응답 쓰기 오류 시
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        outputStream.flush();
+    }
+
+    /**
+     * 컨트롤러/예외 핸들러 반환용 (ByteArrayHttpMessageConverter 가 본문을 그대로 기록)
+     */
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        byte[] body = bodies.get(errorCode);
+        return ResponseEntity.status(errorCode.getStatus())
+            .contentType(MEDIA_TYPE)
+            .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(body.length))
+            .body(body);
+    }
+
+    /**
+     * 미리 직렬화된 본문 (호출 측에서 수정하면 안 됨)
+     */
+    byte[] body(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+}
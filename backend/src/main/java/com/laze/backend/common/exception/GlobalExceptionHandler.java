@@ -1,6 +1,7 @@
 package com.laze.backend.common.exception;
 
 import com.laze.backend.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -13,22 +14,26 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter; // 고정 에러 응답은 미리 직렬화된 본문 사용
+
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
+    public ResponseEntity<?> handleBusinessException(BusinessException e) {
         ErrorCode errorCode = e.getErrorCode();
         log.warn("BusinessException occurred: Code={}, Message={}", errorCode.getCode(), e.getMessage());
+        if (e.hasDefaultMessage()) {
+            return errorResponseWriter.toResponseEntity(errorCode);
+        }
         return ResponseEntity.status(errorCode.getStatus())
             .body(ApiResponse.fail(errorCode.getCode(), e.getMessage()));
     }
 
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(AccessDeniedException e) {
+    public ResponseEntity<byte[]> handleAccessDeniedException(AccessDeniedException e) {
         log.warn("AccessDeniedException occurred: {}", e.getMessage());
-        ErrorCode accessDenied = ErrorCode.ACCESS_DENIED;
-        return ResponseEntity.status(accessDenied.getStatus())
-            .body(ApiResponse.fail(accessDenied.getCode(), accessDenied.getMessage()));
+        return errorResponseWriter.toResponseEntity(ErrorCode.ACCESS_DENIED);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -62,11 +67,15 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.fail(invalidInput.getCode(), errorMessage));
     }
 
+    @ExceptionHandler(StreamAbortedException.class)
+    public void handleStreamAbortedException(StreamAbortedException e) {
+        // 이미 응답을 보내는 중이므로 본문을 덧붙이지 않고 컨테이너로 전파 (연결 종료, 로그는 발생 지점에서 기록)
+        throw e;
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+    public ResponseEntity<byte[]> handleException(Exception e) {
         log.error("Unhandled Exception occurred", e);
-        ErrorCode internalError = ErrorCode.INTERNAL_SERVER_ERROR;
-        return ResponseEntity.status(internalError.getStatus())
-            .body(ApiResponse.fail(internalError.getCode(), internalError.getMessage()));
+        return errorResponseWriter.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 }
@@ -0,0 +1,15 @@
+package com.laze.backend.common.exception;
+
+/**
+ * 응답을 보내기 시작한 뒤(커밋 이후) 실패한 스트리밍 응답.
+ *
+ * 상태 코드/본문을 바꿀 수 없으므로 GlobalExceptionHandler 는 에러 본문을 쓰지 않고 다시 던진다.
+ * 컨테이너까지 전파되면 Tomcat 은 커밋된 응답의 연결을 즉시 끊으므로
+ * 클라이언트는 정상 종료된 응답(NDJSON 의 마지막 줄 등)과 구분할 수 있다.
+ */
+public class StreamAbortedException extends RuntimeException {
+
+    public StreamAbortedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.laze.backend.common.paging;
+
+/**
+ * offset 페이징 전체 건수 조회 방식
+ */
+public enum CountMode {
+    EXACT,  // 항상 정확한 건수 (마지막 페이지처럼 조회 결과로 알 수 있으면 count 생략)
+    CACHED  // 최근 건수 재사용 (paging.count.cache-ttl-seconds 동안 실제 건수와 다를 수 있음)
+}
@@ -0,0 +1,43 @@
+package com.laze.backend.common.paging;
+
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이징 커서 (정렬 키를 URL 안전 Base64 로 감싼 문자열)
+ * 클라이언트는 커서를 해석하지 않고 nextCursor 를 그대로 다시 전달한다.
+ */
+public final class PageCursor {
+
+    private static final String LONG_PREFIX = "L:";
+
+    private PageCursor() {
+    }
+
+    public static String encodeLong(long key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((LONG_PREFIX + key).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor 커서 (null/빈 값이면 첫 페이지)
+     * @return 정렬 키 (첫 페이지면 null)
+     * @throws BusinessException 형식이 잘못된 커서 (INVALID_INPUT_VALUE)
+     */
+    public static Long decodeLong(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(LONG_PREFIX)) {
+                return Long.parseLong(decoded.substring(LONG_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 처리 (NumberFormatException 포함)
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Invalid page cursor: " + cursor);
+    }
+}
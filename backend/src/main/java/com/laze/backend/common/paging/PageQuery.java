@@ -0,0 +1,51 @@
+package com.laze.backend.common.paging;
+
+import lombok.Getter;
+
+/**
+ * 목록 조회 mapper 에 @Param("page") 로 전달하는 페이징 조건 (mapper/common/PagingSql.xml 규약).
+ *
+ * - offset 페이징 : after 없음, offset = page * size
+ * - keyset 페이징 : after = 이전 페이지 마지막 행의 정렬 키, offset 은 항상 0
+ *                  (정렬 키 인덱스 범위 조회이므로 몇 번째 페이지든 첫 페이지와 비용이 같음)
+ * fetchSize 는 size + 1 이며, 초과 1건으로 다음 페이지 존재 여부를 count 없이 판단한다.
+ * @param <K> 정렬 키 타입
+ */
+@Getter
+public final class PageQuery<K> {
+
+    private final long offset;
+    private final int size;
+    private final K after;
+
+    private PageQuery(long offset, int size, K after) {
+        this.offset = offset;
+        this.size = size;
+        this.after = after;
+    }
+
+    /**
+     * offset 페이징 조건
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     */
+    public static <K> PageQuery<K> offset(int page, int size) {
+        return new PageQuery<>((long) page * size, size, null);
+    }
+
+    /**
+     * keyset 페이징 조건
+     * @param after 이전 페이지 마지막 행의 정렬 키 (null 이면 첫 페이지)
+     * @param size 페이지 크기
+     */
+    public static <K> PageQuery<K> after(K after, int size) {
+        return new PageQuery<>(0, size, after);
+    }
+
+    /**
+     * 실제 조회 건수 (다음 페이지 판단용 1건 포함)
+     */
+    public int getFetchSize() {
+        return size + 1;
+    }
+}
@@ -0,0 +1,227 @@
+package com.laze.backend.common.paging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laze.backend.common.dto.PageResponseDto;
+import com.laze.backend.common.dto.SliceResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * MyBatis 목록 조회 페이징 (PageQuery + mapper/common/PagingSql.xml 규약).
+ *
+ * - offset(...) : 페이지 번호 화면용. size + 1 건을 조회하고 전체 건수는 아래 순서로 구한다.
+ *     1. 조회 결과로 알 수 있으면(마지막 페이지) count 생략
+ *     2. CountMode.CACHED 이고 최근 건수가 있으면 재사용 (현재 페이지와 모순되지 않게 보정)
+ *     3. 그 외에는 count 실행. paging.count.concurrent=true 면 목록 조회와 동시에 전용 풀에서 실행
+ *   offset 이 커질수록 DB 가 건너뛸 행을 읽어야 하므로 깊은 페이지는 느려진다.
+ * - keyset(...) : 무한 스크롤/내보내기용. 이전 페이지 마지막 정렬 키 이후를 조회하므로
+ *   (정렬 키에 인덱스가 있으면) 몇 번째 페이지든 첫 페이지와 비용이 같고, count 를 실행하지 않는다.
+ *
+ * 동시 count 는 다른 스레드에서 별도 커넥션으로 실행한다. 호출 측이 트랜잭션 안이면(커넥션 점유 중)
+ * 커넥션 풀 대기로 서로 막힐 수 있으므로 동시 실행하지 않고 목록 조회 후 순차 실행한다.
+ * (동시 count 를 쓰려면 서비스 메소드를 트랜잭션 없이 호출) 풀이 가득 차면 역시 순차 실행한다.
+ * 동시 count 는 paging.count.timeout-ms 까지만 기다리고, 초과하거나 결과가 필요 없어지면(마지막 페이지, 목록 조회 실패) 취소한다.
+ *
+ * 메트릭
+ * - paging.count{source=derived|cached|query} : 전체 건수를 구한 방식별 횟수
+ */
+@Slf4j
+@Component
+public class PagingTemplate {
+
+    private final int maxSize;
+    private final boolean concurrentCount;
+    private final long countTimeoutMillis;
+    private final ThreadPoolExecutor countExecutor;
+    private final Cache<String, Long> countCache;
+
+    private final Counter derivedCounter;
+    private final Counter cachedCounter;
+    private final Counter queryCounter;
+
+    public PagingTemplate(MeterRegistry meterRegistry,
+                          @Value("${paging.max-size:100}") int maxSize,
+                          @Value("${paging.count.concurrent:true}") boolean concurrentCount,
+                          @Value("${paging.count.pool-size:4}") int poolSize,
+                          @Value("${paging.count.queue-capacity:64}") int queueCapacity,
+                          @Value("${paging.count.cache-ttl-seconds:60}") long cacheTtlSeconds,
+                          @Value("${paging.count.cache-max-size:10000}") long cacheMaxSize,
+                          @Value("${paging.count.timeout-ms:5000}") long countTimeoutMillis) {
+        this.maxSize = maxSize;
+        this.concurrentCount = concurrentCount;
+        this.countTimeoutMillis = countTimeoutMillis;
+        this.countExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CountThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.countExecutor.allowCoreThreadTimeOut(true);
+        this.countCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+            .build();
+
+        this.derivedCounter = countCounter(meterRegistry, "derived");
+        this.cachedCounter = countCounter(meterRegistry, "cached");
+        this.queryCounter = countCounter(meterRegistry, "query");
+
+        log.info("Paging template initialized. maxSize: {}, concurrentCount: {}, countPool: {}, countCacheTtl: {}s",
+            maxSize, concurrentCount, poolSize, cacheTtlSeconds);
+    }
+
+    /**
+     * offset 페이징 조회
+     * @param page 페이지 번호 (0부터 시작, 음수는 0)
+     * @param size 페이지 크기 (1 ~ paging.max-size 로 보정)
+     * @param countMode 전체 건수 조회 방식
+     * @param countKey 건수 캐시 키 (조회 조건별로 달라야 함, 예: "sample" 또는 "sample:" + 검색어)
+     * @param query PageQuery 를 받아 size + 1 건까지 조회하는 mapper 호출
+     * @param count 같은 조건의 전체 건수 조회 mapper 호출
+     */
+    public <T, K> PageResponseDto<T> offset(int page, int size, CountMode countMode, String countKey,
+                                            Function<PageQuery<K>, List<T>> query, LongSupplier count) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = clampSize(size);
+        PageQuery<K> pageQuery = PageQuery.offset(pageNumber, pageSize);
+
+        // 최근 건수로 보아 마지막 페이지가 아니면(조회 결과로 건수를 알 수 없으면) 목록 조회와 동시에 count 시작
+        // (트랜잭션 안이면 호출 스레드가 커넥션을 점유하고 있으므로 동시 실행하지 않음)
+        Long recent = countCache.getIfPresent(countKey);
+        Long cached = countMode == CountMode.CACHED ? recent : null;
+        boolean likelyLast = recent != null && recent <= pageQuery.getOffset() + pageSize;
+        Future<Long> pendingCount = cached == null && !likelyLast && concurrentCount
+            && !TransactionSynchronizationManager.isActualTransactionActive() ? submitCount(count) : null;
+
+        List<T> rows;
+        try {
+            rows = query.apply(pageQuery);
+        } catch (RuntimeException e) {
+            cancel(pendingCount);
+            throw e;
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        long seen = pageQuery.getOffset() + content.size(); // 현재 페이지까지 확인된 최소 건수
+
+        long total;
+        if (!hasNext && (!content.isEmpty() || pageNumber == 0)) {
+            // 마지막 페이지: 건수 = offset + 조회 건수 (먼저 시작한 count 는 취소)
+            cancel(pendingCount);
+            total = seen;
+            derivedCounter.increment();
+        } else if (cached != null) {
+            // 캐시 이후 행이 늘었을 수 있으므로 현재 페이지와 모순되지 않게 보정
+            total = hasNext ? Math.max(cached, seen + 1) : Math.min(cached, seen);
+            cachedCounter.increment();
+            return new PageResponseDto<>(List.copyOf(content), pageNumber, pageSize, total);
+        } else {
+            total = pendingCount != null ? await(pendingCount, count) : count.getAsLong();
+            queryCounter.increment();
+        }
+        countCache.put(countKey, total);
+        return new PageResponseDto<>(List.copyOf(content), pageNumber, pageSize, total);
+    }
+
+    /**
+     * keyset 페이징 조회 (전체 건수 없음)
+     * @param after 이전 페이지 마지막 정렬 키 (null 이면 첫 페이지, PageCursor 로 커서에서 복원)
+     * @param size 페이지 크기 (1 ~ paging.max-size 로 보정)
+     * @param query PageQuery 를 받아 정렬 키 이후 size + 1 건까지 조회하는 mapper 호출
+     * @param cursorOf 행의 정렬 키를 커서로 변환 (예: row -> PageCursor.encodeLong(row.getId()))
+     */
+    public <T, K> SliceResponseDto<T> keyset(K after, int size, Function<PageQuery<K>, List<T>> query,
+                                             Function<T, String> cursorOf) {
+        int pageSize = clampSize(size);
+        List<T> rows = query.apply(PageQuery.after(after, pageSize));
+        if (rows.size() <= pageSize) {
+            return new SliceResponseDto<>(List.copyOf(rows), pageSize, null);
+        }
+        List<T> content = List.copyOf(rows.subList(0, pageSize));
+        return new SliceResponseDto<>(content, pageSize, cursorOf.apply(content.get(pageSize - 1)));
+    }
+
+    /**
+     * 건수 캐시 무효화 (대량 등록/삭제 직후 등 즉시 반영이 필요할 때)
+     */
+    public void evictCount(String countKey) {
+        countCache.invalidate(countKey);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        countExecutor.shutdownNow();
+    }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, maxSize));
+    }
+
+    private Future<Long> submitCount(LongSupplier count) {
+        try {
+            return countExecutor.submit(count::getAsLong);
+        } catch (RejectedExecutionException e) {
+            log.debug("Count pool saturated, counting after page query");
+            return null;
+        }
+    }
+
+    private long await(Future<Long> pendingCount, LongSupplier count) {
+        try {
+            return pendingCount.get(countTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 전용 풀 대기/커넥션 대기 등으로 늦어지면 취소하고 호출 스레드에서 실행
+            pendingCount.cancel(true);
+            log.warn("Concurrent page count timed out after {} ms, counting on caller thread", countTimeoutMillis);
+            return count.getAsLong();
+        } catch (InterruptedException e) {
+            pendingCount.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for page count", e);
+        } catch (ExecutionException e) {
+            // 동시 count 실패 시 호출 스레드에서 한 번 더 실행 (예외는 그대로 전파)
+            log.warn("Concurrent page count failed, retrying on caller thread: {}", e.getCause().toString());
+            return count.getAsLong();
+        }
+    }
+
+    private static void cancel(Future<Long> pendingCount) {
+        if (pendingCount != null) {
+            pendingCount.cancel(true);
+        }
+    }
+
+    private static Counter countCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("paging.count")
+            .description("Page total counts by how they were obtained")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private static final class CountThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "page-count-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.laze.backend.common.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 lock-free 토큰 버킷 (GCRA: Generic Cell Rate Algorithm).
+ *
+ * 버킷마다 "이론적 도착 시각(TAT)" 하나만 AtomicLong 으로 보관하고 CAS 로 갱신한다.
+ * - 허용 조건: max(TAT, now) + 간격 - now &lt;= 간격 x burst
+ * - 토큰 잔량/마지막 충전 시각을 따로 두지 않으므로 잠금 없이 원자적으로 판단 가능
+ * - TAT 가 현재 시각보다 과거인 버킷은 가득 찬 상태와 같으므로 evictIdle() 로 제거해도 동작이 같다
+ *
+ * 스프링 빈이 아니며, 용도별(로그인 IP/계정, 테넌트 등)로 생성하여 사용한다.
+ */
+public final class GcraRateLimiter {
+
+    private final long intervalNanos;   // 토큰 1개가 충전되는 간격
+    private final long toleranceNanos;  // 간격 x burst (허용 가능한 최대 선행량)
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerMinute 분당 허용 건수 (지속 속도)
+     * @param burst 연속 허용 건수 (버킷 크기)
+     */
+    public GcraRateLimiter(double permitsPerMinute, int burst) {
+        this(permitsPerMinute, burst, System::nanoTime);
+    }
+
+    GcraRateLimiter(double permitsPerMinute, int burst, LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerMinute must be > 0 and burst >= 1");
+        }
+        this.intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / permitsPerMinute);
+        this.toleranceNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     * @param key 버킷 키
+     * @return 0 이면 허용, 양수면 거절이며 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + intervalNanos;
+            long ahead = next - now;
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(= 최근 사용 없는) 키 제거. 주기적으로 호출하여 키 수가 무한히 늘지 않도록 한다.
+     * @return 제거한 키 수
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (Iterator<AtomicLong> it = buckets.values().iterator(); it.hasNext(); ) {
+            long tat = it.next().get();
+            if (tat == Long.MIN_VALUE || tat - now < 0) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 추적 중인 키 수
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,150 @@
+package com.laze.backend.common.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.dto.ApiResponse;
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.common.exception.ErrorCode;
+import com.laze.backend.common.exception.StreamAbortedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * MyBatis Cursor 결과를 응답으로 바로 쓰는 스트리밍 응답 (전체 목록을 List 로 만들지 않음).
+ *
+ * 행을 하나씩 읽어 Jackson 으로 응답 스트림에 쓰므로 메모리 사용량은 행 수와 무관하다.
+ * 응답 쓰기는 요청 스레드에서 블로킹으로 처리하므로 클라이언트가 느리면 소켓 쓰기가 대기하고,
+ * 그동안 다음 행을 읽지 않는다 (DB 는 fetchSize 단위로만 전송).
+ * Cursor 는 열린 SqlSession 이 필요하므로 읽기 전용 트랜잭션 안에서 열고 끝까지 읽는다.
+ * 스트리밍 중에는 DB 커넥션과 요청 스레드를 점유하므로 동시 스트리밍 수를 stream.max-concurrent 로 제한한다.
+ * (초과 시 응답을 쓰기 전에 503 STREAM_BUSY)
+ *
+ * 응답 시작(커밋) 후의 오류는 상태 코드를 바꿀 수 없으므로 로그를 남기고 StreamAbortedException 으로 바꿔 던진다.
+ * (에러 본문을 덧붙이지 않고 연결을 끊어 클라이언트가 불완전한 응답으로 인지하게 함)
+ * 커밋 전 오류는 그대로 던져 일반 에러 응답으로 처리한다.
+ * 클라이언트가 먼저 연결을 끊으면 읽기를 중단하고 정상 종료한다.
+ *
+ * 메트릭
+ * - stream.active : 진행 중인 스트리밍 수
+ * - stream.rows   : 스트리밍한 행 수
+ */
+@Slf4j
+@Component
+public class CursorResponseWriter {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Counter rowCounter;
+
+    public CursorResponseWriter(ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${stream.max-concurrent:4}") int maxConcurrent) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.rowCounter = Counter.builder("stream.rows")
+            .description("Rows written by cursor streaming responses")
+            .register(meterRegistry);
+        Gauge.builder("stream.active", permits, p -> maxConcurrent - p.availablePermits())
+            .description("Cursor streaming responses in progress")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cursor 결과를 응답으로 스트리밍
+     * @param format 응답 형식
+     * @param response 응답 (호출 후 완료 상태, Controller 는 반환값 없이 종료)
+     * @param cursorOpener 읽기 전용 트랜잭션 안에서 호출되는 Cursor 조회 (mapper 의 Cursor 반환 메소드)
+     * @throws BusinessException 동시 스트리밍 수 초과 (STREAM_BUSY, 응답 시작 전)
+     * @throws StreamAbortedException 응답 시작 후 조회/직렬화 실패
+     */
+    public <T> void write(StreamFormat format, HttpServletResponse response, Supplier<Cursor<T>> cursorOpener) {
+        if (!permits.tryAcquire()) {
+            log.warn("Cursor streaming rejected. max concurrent: {}", maxConcurrent);
+            throw new BusinessException(ErrorCode.STREAM_BUSY);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Cursor<T> cursor = cursorOpener.get()) {
+                    return writeRows(format, response, cursor);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize streamed row", e);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 (응답 쓰기 실패) -> 읽기 중단
+                    log.debug("Cursor streaming aborted by client: {}", e.toString());
+                    return -1L;
+                }
+            });
+            log.info("Cursor streaming {}. format: {}, rows: {}, elapsed: {} ms", rows < 0 ? "aborted" : "completed",
+                format, rows, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
+            log.error("Cursor streaming failed after response committed. format: {}, elapsed: {} ms",
+                format, (System.nanoTime() - startNanos) / 1_000_000, e);
+            throw new StreamAbortedException("Cursor streaming failed after response committed", e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> long writeRows(StreamFormat format, HttpServletResponse response, Cursor<T> cursor) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(format == StreamFormat.NDJSON ? NDJSON_CONTENT_TYPE : "application/json");
+
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림 종료는 컨테이너가 처리
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // 중간 오류 시 닫는 괄호를 붙여 완전한 응답처럼 보이지 않게 함
+            if (format == StreamFormat.NDJSON) {
+                generator.setRootValueSeparator(null); // 행 구분은 줄바꿈만 사용
+                for (T row : cursor) {
+                    generator.writeObject(row);
+                    generator.writeRaw('\n');
+                    rows++;
+                }
+            } else {
+                // ApiResponse.ok(data) 와 같은 구조: {"success":true,"code":"OK","message":"...","data":[...]}
+                ApiResponse<Void> ok = ApiResponse.ok();
+                generator.writeStartObject();
+                generator.writeBooleanField("success", ok.isSuccess());
+                generator.writeStringField("code", ok.getCode());
+                generator.writeStringField("message", ok.getMessage());
+                generator.writeArrayFieldStart("data");
+                for (T row : cursor) {
+                    generator.writeObject(row);
+                    rows++;
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        } finally {
+            rowCounter.increment(rows);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,9 @@
+package com.laze.backend.common.stream;
+
+/**
+ * 대용량 목록 스트리밍 응답 형식
+ */
+public enum StreamFormat {
+    NDJSON, // 행마다 JSON 한 줄 (application/x-ndjson)
+    JSON    // 표준 ApiResponse 봉투의 data 배열로 스트리밍 (application/json, 기존 클라이언트 호환)
+}
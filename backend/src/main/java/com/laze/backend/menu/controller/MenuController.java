@@ -1,14 +1,26 @@
 package com.laze.backend.menu.controller;
 
 import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuSearchHit;
+import com.laze.backend.menu.dto.MenuTree;
 import com.laze.backend.menu.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+
 import java.util.List;
 
 @Tag(name = "Menu API", description = "메뉴 조회 API")
@@ -19,10 +31,32 @@ public class MenuController {
 
     private final MenuService menuService;
 
-    @Operation(summary = "내 메뉴 목록 조회", description = "현재 로그인된 사용자가 접근 가능한 메뉴 목록을 트리 구조로 조회")
-    @GetMapping
+    @Operation(summary = "내 메뉴 목록 조회", description = "현재 로그인된 사용자가 접근 가능한 메뉴 목록을 트리 구조로 조회 (ETag / If-None-Match 지원)")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = MenuDto.class))))
+    @ApiResponse(responseCode = "304", description = "If-None-Match 가 현재 메뉴 트리의 ETag 와 같음 (본문 없음)")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("isAuthenticated()") // 최소한 인증된 사용자만 호출 가능하도록 설정
-    public List<MenuDto> getMyMenus() {
-        return menuService.getUserMenus();
+    public ResponseEntity<byte[]> getMyMenus() {
+        // 권한 구성별로 캐시된 트리의 직렬화 결과(ApiResponse 형식)를 그대로 응답 (요청마다 직렬화하지 않음)
+        // If-None-Match 가 ETag 와 같으면 ResponseEntity 처리 단계에서 본문 없이 304 로 바뀐다.
+        // 브라우저가 저장 후 매번 재검증하도록 private, no-cache 지정 (Spring Security 기본값 no-store 대체)
+        MenuTree tree = menuService.getUserMenuTree();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .eTag(tree.etag())
+            .body(tree.json());
+    }
+
+    @Operation(summary = "내 메뉴 검색", description = "현재 로그인된 사용자가 권한을 가진 메뉴를 메뉴명으로 검색 (입력 중 검색용, 메모리 색인 조회)")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = MenuSearchHit.class))))
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public List<MenuSearchHit> searchMyMenus(
+        @Parameter(description = "검색어 (대소문자/공백 무시, 한글 초성 가능)") @RequestParam("q") String query,
+        @Parameter(description = "최대 결과 수") @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return menuService.searchMenus(query, limit);
     }
 }
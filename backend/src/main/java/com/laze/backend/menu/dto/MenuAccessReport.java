@@ -0,0 +1,30 @@
+package com.laze.backend.menu.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메뉴 API 사용 통계 보고서 (actuator menuaccess, 현재 노드의 기동 이후 누적)
+ *
+ * @param since          집계 시작 시각 (노드 기동)
+ * @param requestCount   전체 요청 수
+ * @param bucketBoundsMs 처리 시간 구간 상한 (ms, buckets 는 이 구간 + 초과 1개)
+ * @param menus          메뉴별 합계 (요청 수 상위)
+ * @param companyMenus   (회사, 메뉴)별 합계 (요청 수 상위)
+ */
+public record MenuAccessReport(LocalDateTime since, long requestCount, List<Long> bucketBoundsMs,
+                               List<Usage> menus, List<Usage> companyMenus) {
+
+    /**
+     * @param cmpCd 회사 코드 (메뉴별 합계는 null)
+     * @param menuId 메뉴 ID
+     * @param requests 요청 수
+     * @param errors 5xx 또는 처리 중 예외 수
+     * @param averageMs 평균 처리 시간
+     * @param maxMs 최대 처리 시간
+     * @param buckets 처리 시간 구간별 요청 수
+     */
+    public record Usage(String cmpCd, String menuId, long requests, long errors, double averageMs, long maxMs,
+                        List<Long> buckets) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.laze.backend.menu.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴 API 1분 집계 1건 (FW_MENU_ACCESS_STAT)
+ *
+ * @param statDtm        집계 구간 시작 (분)
+ * @param cmpCd          회사 코드
+ * @param menuId         메뉴 ID
+ * @param requestCount   요청 수
+ * @param errorCount     5xx 또는 처리 중 예외 수
+ * @param elapsedMsSum   처리 시간 합계 (ms)
+ * @param elapsedMsMax   최대 처리 시간 (ms)
+ * @param buckets        처리 시간 구간별 요청 수 (MenuAccessStats.BUCKET_BOUNDS_MS 순서, 마지막은 초과)
+ */
+public record MenuAccessStatRow(LocalDateTime statDtm, String cmpCd, String menuId, long requestCount, long errorCount,
+                                long elapsedMsSum, long elapsedMsMax, long[] buckets) {
+}
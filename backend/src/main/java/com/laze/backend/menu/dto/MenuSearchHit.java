@@ -0,0 +1,9 @@
+package com.laze.backend.menu.dto;
+
+/**
+ * 메뉴 검색 결과 1건 (/api/menus/search).
+ *
+ * path 는 최상위 메뉴부터 상위 메뉴까지의 메뉴명을 " > " 로 이은 경로이며, 최상위 메뉴는 빈 문자열이다.
+ */
+public record MenuSearchHit(String menuId, String menuNm, String scrId, String menuIcon, String path) {
+}
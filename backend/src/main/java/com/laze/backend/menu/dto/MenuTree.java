@@ -0,0 +1,13 @@
+package com.laze.backend.menu.dto;
+
+import java.util.List;
+
+/**
+ * 권한 구성별로 미리 만들어 둔 메뉴 트리 (MenuTreeCache 에 보관, 같은 권한 구성의 사용자가 공유).
+ *
+ * roots 와 모든 children 은 수정 불가 리스트이며 MenuDto 도 수정하지 않는다.
+ * json 은 ApiResponse.ok(roots) 를 미리 직렬화한 응답 본문(표준 응답 형식)이며, etag 는 json 의 해시로 만든 강한 ETag(따옴표 포함)이다.
+ * 메뉴 구성 / 권한 구성이 바뀌어 내용이 달라지면 etag 도 달라지고, 내용이 같으면 노드/재기동과 무관하게 같다.
+ */
+public record MenuTree(List<MenuDto> roots, byte[] json, String etag) {
+}
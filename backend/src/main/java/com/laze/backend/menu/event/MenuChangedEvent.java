@@ -0,0 +1,10 @@
+package com.laze.backend.menu.event;
+
+/**
+ * 메뉴(FW_MENU) 또는 권한 그룹 메뉴 매핑(FW_AUTH_MENU) 변경 알림.
+ * 메뉴/권한을 변경하는 쪽에서 ApplicationEventPublisher 로 발행하면 메뉴 트리 캐시가 비워진다.
+ *
+ * @param reason 변경 사유 (로그용)
+ */
+public record MenuChangedEvent(String reason) {
+}
@@ -0,0 +1,14 @@
+package com.laze.backend.menu.mapper;
+
+import com.laze.backend.menu.dto.MenuAccessStatRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface MenuAccessStatMapper {
+
+    /**
+     * 1분 집계 더하기 (같은 구간/회사/메뉴가 있으면 합산, 배치 템플릿으로 실행)
+     */
+    int upsertStat(@Param("row") MenuAccessStatRow row);
+}
@@ -20,4 +20,21 @@ public interface MenuMapper {
      */
     List<MenuDto> findAccessibleMenus(@Param("authorities") Collection<String> authorities);
 
+    /**
+     * findAccessibleMenus 와 같은 결과를 closure 테이블(FW_MENU_CLOSURE) 조인으로 조회
+     * 트리 깊이와 무관하게 조인 1회 (재귀 없음)
+     *
+     * @param authorities 사용자가 가진 권한(Role 또는 Authority) 문자열 컬렉션
+     * @return 접근 가능한 메뉴 DTO 목록
+     */
+    List<MenuDto> findAccessibleMenusByClosure(@Param("authorities") Collection<String> authorities);
+
+    /**
+     * 활성 메뉴 전체 조회 (USE_YN='Y', 메뉴 그래프 적재용)
+     * 메뉴 레벨과 순서로 정렬하여 반환
+     *
+     * @return 활성 메뉴 DTO 목록 (children 미포함)
+     */
+    List<MenuDto> findActiveMenus();
+
 }
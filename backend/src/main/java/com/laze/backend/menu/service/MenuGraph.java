@@ -0,0 +1,181 @@
+package com.laze.backend.menu.service;
+
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuSearchHit;
+import com.laze.backend.security.permission.MenuIdRegistry;
+import com.laze.backend.security.permission.MenuPermissionSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 활성 메뉴 전체(FW_MENU, USE_YN='Y')의 메모리 그래프. 생성 후 변경하지 않는다.
+ *
+ * 메뉴는 (MENU_LEV, MENU_ORD) 순으로 정렬된 위치(position)를 가지며
+ * - parents[position]            : 상위 메뉴 위치 (상위가 없거나 비활성이면 -1)
+ * - positions[MenuIdRegistry 인덱스] : 메뉴 위치 (미존재/비활성이면 -1)
+ * 로 표현한다. 사용자 메뉴 트리는 권한 메뉴에서 상위로 올라가며 표시(조상 폐포)한 뒤
+ * 정렬 순서대로 한 번 훑어 만든다. SQL 재귀 조회(findAccessibleMenus)와 결과가 같다.
+ * (상위 메뉴가 비활성인 메뉴는 최상위로 취급)
+ * 메뉴명 검색 인덱스(MenuSearchIndex)도 함께 만들어 메뉴 검색 역시 SQL 없이 처리한다.
+ */
+public final class MenuGraph {
+
+    private static final Comparator<MenuDto> DISPLAY_ORDER = Comparator
+        .comparing(MenuDto::getMenuLev, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(MenuDto::getMenuOrd, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final MenuDto[] menus;   // 위치별 메뉴 (트리 생성 시 복사 원본)
+    private final int[] parents;     // 위치별 상위 메뉴 위치
+    private final int[] positions;   // MenuIdRegistry 인덱스 -> 위치
+    private final int[] indexes;     // 위치 -> MenuIdRegistry 인덱스
+    private final MenuSearchIndex searchIndex;
+
+    private MenuGraph(MenuDto[] menus, int[] parents, int[] positions, int[] indexes, MenuSearchIndex searchIndex) {
+        this.menus = menus;
+        this.parents = parents;
+        this.positions = positions;
+        this.indexes = indexes;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * 활성 메뉴 목록으로 그래프 생성 (메뉴 ID 는 전역 레지스트리에 인터닝)
+     * @param activeMenus 활성 메뉴 전체 (순서 무관, children 은 사용하지 않음)
+     */
+    public static MenuGraph of(List<MenuDto> activeMenus) {
+        MenuDto[] menus = activeMenus.toArray(new MenuDto[0]);
+        Arrays.sort(menus, DISPLAY_ORDER);
+
+        MenuIdRegistry registry = MenuIdRegistry.global();
+        int[] indexes = new int[menus.length];
+        int maxIndex = -1;
+        for (int position = 0; position < menus.length; position++) {
+            indexes[position] = registry.intern(menus[position].getMenuId());
+            maxIndex = Math.max(maxIndex, indexes[position]);
+        }
+        int[] positions = new int[maxIndex + 1];
+        Arrays.fill(positions, -1);
+        for (int position = 0; position < menus.length; position++) {
+            positions[indexes[position]] = position;
+        }
+
+        int[] parents = new int[menus.length];
+        for (int position = 0; position < menus.length; position++) {
+            String hrnMenuId = menus[position].getHrnMenuId();
+            parents[position] = hrnMenuId == null || hrnMenuId.isEmpty() ? -1 : positionOf(positions, registry.indexOf(hrnMenuId));
+        }
+        String[] names = new String[menus.length];
+        for (int position = 0; position < menus.length; position++) {
+            names[position] = menus[position].getMenuNm();
+        }
+        return new MenuGraph(menus, parents, positions, indexes, MenuSearchIndex.of(names));
+    }
+
+    /**
+     * 권한 메뉴와 그 상위 메뉴 전체로 트리 생성 (SQL 없음)
+     * @param granted 권한이 있는 메뉴
+     * @return 최상위 메뉴 목록 (정렬 순서, 각 노드는 새로 만든 MenuDto)
+     */
+    public List<MenuDto> tree(MenuPermissionSet granted) {
+        // 1. 조상 폐포 표시 (이미 표시된 메뉴를 만나면 그 위는 표시되어 있으므로 중단)
+        boolean[] included = new boolean[menus.length];
+        granted.forEachIndex(index -> {
+            for (int position = positionOf(positions, index); position >= 0 && !included[position]; position = parents[position]) {
+                included[position] = true;
+            }
+        });
+
+        // 2. 표시된 메뉴 복사 후 정렬 순서대로 상위 메뉴의 children 에 연결
+        MenuDto[] nodes = new MenuDto[menus.length];
+        for (int position = 0; position < menus.length; position++) {
+            if (included[position]) {
+                nodes[position] = copyOf(menus[position]);
+            }
+        }
+        List<MenuDto> roots = new ArrayList<>();
+        for (int position = 0; position < menus.length; position++) {
+            MenuDto node = nodes[position];
+            if (node == null) {
+                continue;
+            }
+            int parent = parents[position];
+            if (parent < 0) {
+                roots.add(node);
+            } else {
+                nodes[parent].getChildren().add(node);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 권한이 있는 메뉴 중 메뉴명 검색 (SQL 없음)
+     * @param query 검색어 (대소문자/공백 무시, 한글 초성 가능)
+     * @param granted 권한이 있는 메뉴 (트리에 경로로만 보이는 상위 메뉴는 결과에서 제외)
+     * @param limit 최대 결과 수
+     * @return 접두어 일치 -> 부분 일치 순, 각각 표시 순서
+     */
+    public List<MenuSearchHit> search(String query, MenuPermissionSet granted, int limit) {
+        int[] found = searchIndex.search(query, position -> granted.containsIndex(indexes[position]), limit);
+        List<MenuSearchHit> hits = new ArrayList<>(found.length);
+        for (int position : found) {
+            MenuDto menu = menus[position];
+            hits.add(new MenuSearchHit(menu.getMenuId(), menu.getMenuNm(), menu.getScrId(), menu.getMenuIcon(), pathOf(position)));
+        }
+        return hits;
+    }
+
+    /**
+     * 활성 메뉴 전체 (표시 순서, 파일 스냅샷 저장용, 수정 불가)
+     */
+    public List<MenuDto> menus() {
+        return List.of(menus);
+    }
+
+    /**
+     * 활성 메뉴 수
+     */
+    public int size() {
+        return menus.length;
+    }
+
+    /**
+     * 같은 메뉴 구성인지 (주기적 재적재 시 변경 여부 판단)
+     */
+    public boolean sameMenus(MenuGraph other) {
+        return other != null && Arrays.equals(menus, other.menus);
+    }
+
+    private String pathOf(int position) {
+        StringBuilder path = new StringBuilder();
+        for (int parent = parents[position]; parent >= 0; parent = parents[parent]) {
+            path.insert(0, path.length() > 0 ? menus[parent].getMenuNm() + " > " : menus[parent].getMenuNm());
+        }
+        return path.toString();
+    }
+
+    private static int positionOf(int[] positions, int index) {
+        return index >= 0 && index < positions.length ? positions[index] : -1;
+    }
+
+    private static MenuDto copyOf(MenuDto source) {
+        MenuDto menu = new MenuDto();
+        menu.setMenuId(source.getMenuId());
+        menu.setMenuNm(source.getMenuNm());
+        menu.setBizDvcd(source.getBizDvcd());
+        menu.setHrnMenuId(source.getHrnMenuId());
+        menu.setMenuLev(source.getMenuLev());
+        menu.setMenuOrd(source.getMenuOrd());
+        menu.setScrId(source.getScrId());
+        menu.setMenuMrkYn(source.getMenuMrkYn());
+        menu.setMenuIcon(source.getMenuIcon());
+        menu.setUseYn(source.getUseYn());
+        menu.setCreatedAt(source.getCreatedAt());
+        menu.setUpdatedAt(source.getUpdatedAt());
+        menu.setChildren(new ArrayList<>());
+        return menu;
+    }
+}
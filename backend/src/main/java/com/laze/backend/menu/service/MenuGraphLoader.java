@@ -0,0 +1,94 @@
+package com.laze.backend.menu.service;
+
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.menu.mapper.MenuMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메뉴 그래프(MenuGraph) 적재/갱신.
+ *
+ * 기동 직후와 menu.graph.refresh-interval-ms 주기로 활성 메뉴 전체를 조회하여 그래프를 교체하고,
+ * 메뉴 구성이 바뀌었으면 메뉴 트리 캐시를 비운다. MenuChangedEvent 수신 시에는 즉시 다시 적재한다.
+ * (트리 캐시보다 먼저 처리되도록 가장 높은 우선순위로 수신)
+ * 기동 시 파일 스냅샷(ReferenceSnapshotStore)이 있으면 DB 조회 전에 그 내용으로 먼저 적재한다.
+ * 적재 전이거나 적재에 실패하면 current() 가 null 이며 MenuServiceImpl 은 SQL 조회(재귀 CTE 또는 closure 테이블)를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuGraphLoader {
+
+    private final MenuMapper menuMapper;
+    private final MenuTreeCache menuTreeCache;
+
+    private volatile MenuGraph graph;
+    private volatile long loadedAt; // 마지막으로 DB 조회에 성공한 시각 (0: 아직 없음)
+
+    /**
+     * 현재 메뉴 그래프 (미적재 시 null)
+     */
+    public MenuGraph current() {
+        return graph;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${menu.graph.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            if (reload()) {
+                menuTreeCache.invalidateAll();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load menu graph, keeping {}: {}", graph != null ? graph.size() + " menus" : "SQL fallback", e.getMessage());
+        }
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onMenuChanged(MenuChangedEvent event) {
+        scheduledReload();
+    }
+
+    /**
+     * 활성 메뉴 전체 재조회 후 그래프 교체
+     * @return 메뉴 구성이 바뀌었으면 true (최초 적재 포함)
+     */
+    public synchronized boolean reload() {
+        MenuGraph loaded = MenuGraph.of(menuMapper.findActiveMenus());
+        loadedAt = System.currentTimeMillis();
+        if (loaded.sameMenus(graph)) {
+            return false;
+        }
+        graph = loaded;
+        log.info("Menu graph loaded: {} active menus", loaded.size());
+        return true;
+    }
+
+    /**
+     * 파일 스냅샷의 활성 메뉴로 그래프 적재 (기동 직후 DB 조회 전, 이미 적재되었으면 무시)
+     * @return 적재했으면 true
+     */
+    public synchronized boolean restore(List<MenuDto> activeMenus) {
+        if (graph != null) {
+            return false;
+        }
+        graph = MenuGraph.of(activeMenus);
+        log.info("Menu graph restored from snapshot: {} active menus", graph.size());
+        return true;
+    }
+
+    /**
+     * 마지막으로 DB 조회에 성공한 시각 (epoch millis, 파일 스냅샷으로만 적재된 상태면 0)
+     */
+    public long loadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,253 @@
+package com.laze.backend.menu.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 메뉴명 검색 인덱스 (MenuGraph 와 함께 생성, 불변).
+ *
+ * 메뉴명은 소문자로 바꾸고 공백을 제거한 문자열(정규화 이름)과 한글 초성 문자열로 검색한다.
+ * - 접두어 : 단어/정규화 이름/초성 토큰을 정렬한 배열에서 이진 탐색 (정렬 배열 = 메모리가 적은 접두어 트리)
+ * - 부분 일치 : 1글자 / 2글자(bigram) 역색인의 위치 목록을 교집합한 뒤 실제 포함 여부 확인
+ * 결과는 접두어 일치 -> 부분 일치 순이며 각각 메뉴 표시 순서(MenuGraph 위치)를 따른다.
+ * 한글은 음절 단위로 색인하므로 형태소 분석 없이 "사용자", "자관" 처럼 임의 위치 검색이 가능하고,
+ * 자음만 입력하면("ㅅㅇㅈ") 초성으로 찾는다.
+ */
+final class MenuSearchIndex {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    /** 초성 (유니코드 한글 음절 순서) */
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final String[] texts;          // 위치별 검색 대상 (정규화 이름 + '\n' + 초성)
+    private final String[] tokens;         // 접두어 검색 토큰 (정렬)
+    private final int[] tokenPositions;    // tokens 와 같은 순서의 메뉴 위치
+    private final Map<Integer, int[]> unigrams; // 글자 -> 메뉴 위치 (오름차순, 중복 없음)
+    private final Map<Integer, int[]> bigrams;  // 연속 2글자 -> 메뉴 위치
+
+    private MenuSearchIndex(String[] texts, String[] tokens, int[] tokenPositions,
+                            Map<Integer, int[]> unigrams, Map<Integer, int[]> bigrams) {
+        this.texts = texts;
+        this.tokens = tokens;
+        this.tokenPositions = tokenPositions;
+        this.unigrams = unigrams;
+        this.bigrams = bigrams;
+    }
+
+    /**
+     * @param names 위치별 메뉴명 (null 허용)
+     */
+    static MenuSearchIndex of(String[] names) {
+        String[] texts = new String[names.length];
+        List<String> tokenList = new ArrayList<>();
+        List<Integer> tokenPositionList = new ArrayList<>();
+        Map<Integer, GrowableInts> unigramPostings = new HashMap<>();
+        Map<Integer, GrowableInts> bigramPostings = new HashMap<>();
+
+        for (int position = 0; position < names.length; position++) {
+            String name = names[position] != null ? names[position].toLowerCase(Locale.ROOT) : "";
+            String normalized = normalize(name);
+            String initials = initialsOf(normalized);
+            texts[position] = initials.isEmpty() ? normalized : normalized + '\n' + initials;
+
+            for (String word : name.split("[\\s_\\-/()\\[\\]·]+")) {
+                if (!word.isEmpty() && !word.equals(normalized)) {
+                    tokenList.add(word);
+                    tokenPositionList.add(position);
+                }
+            }
+            for (String token : new String[]{normalized, initials}) {
+                if (!token.isEmpty()) {
+                    tokenList.add(token);
+                    tokenPositionList.add(position);
+                }
+            }
+
+            String text = texts[position];
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\n') {
+                    continue;
+                }
+                unigramPostings.computeIfAbsent((int) c, k -> new GrowableInts()).addOnce(position);
+                if (i + 1 < text.length() && text.charAt(i + 1) != '\n') {
+                    bigramPostings.computeIfAbsent(bigramKey(c, text.charAt(i + 1)), k -> new GrowableInts()).addOnce(position);
+                }
+            }
+        }
+
+        Integer[] order = new Integer[tokenList.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> tokenList.get(a).compareTo(tokenList.get(b)));
+        String[] tokens = new String[order.length];
+        int[] tokenPositions = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            tokens[i] = tokenList.get(order[i]);
+            tokenPositions[i] = tokenPositionList.get(order[i]);
+        }
+
+        return new MenuSearchIndex(texts, tokens, tokenPositions, toArrays(unigramPostings), toArrays(bigramPostings));
+    }
+
+    /**
+     * 검색
+     * @param query 검색어 (대소문자/공백 무시)
+     * @param accept 결과에 포함할 메뉴 위치 (권한 확인)
+     * @param limit 최대 결과 수
+     * @return 메뉴 위치 (접두어 일치 -> 부분 일치, 각각 표시 순서)
+     */
+    int[] search(String query, IntPredicate accept, int limit) {
+        String q = query != null ? normalize(query.toLowerCase(Locale.ROOT)) : "";
+        if (q.isEmpty() || limit <= 0) {
+            return NO_POSITIONS;
+        }
+        int[] result = new int[limit];
+        int count = 0;
+
+        // 1. 접두어 일치 (정렬된 토큰 중 q 이상인 첫 토큰부터 q 로 시작하는 동안)
+        BitSet prefixed = new BitSet(texts.length);
+        for (int i = lowerBound(q); i < tokens.length && tokens[i].startsWith(q); i++) {
+            prefixed.set(tokenPositions[i]);
+        }
+        for (int position = prefixed.nextSetBit(0); position >= 0 && count < limit; position = prefixed.nextSetBit(position + 1)) {
+            if (accept.test(position)) {
+                result[count++] = position;
+            }
+        }
+
+        // 2. 부분 일치 (가장 짧은 위치 목록을 기준으로 나머지 n-gram 포함 여부 확인)
+        if (count < limit) {
+            int[][] lists = gramLists(q);
+            if (lists != null) {
+                int[] shortest = lists[0];
+                for (int[] list : lists) {
+                    if (list.length < shortest.length) {
+                        shortest = list;
+                    }
+                }
+                for (int position : shortest) {
+                    if (count >= limit) {
+                        break;
+                    }
+                    if (!prefixed.get(position) && containsAll(lists, position)
+                        && texts[position].contains(q) && accept.test(position)) {
+                        result[count++] = position;
+                    }
+                }
+            }
+        }
+        return count == limit ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 검색어의 n-gram 별 위치 목록 (색인에 없는 n-gram 이 있으면 일치 없음으로 null)
+     */
+    private int[][] gramLists(String q) {
+        if (q.length() == 1) {
+            int[] positions = unigrams.get((int) q.charAt(0));
+            return positions != null ? new int[][]{positions} : null;
+        }
+        int[][] lists = new int[q.length() - 1][];
+        for (int i = 0; i + 1 < q.length(); i++) {
+            lists[i] = bigrams.get(bigramKey(q.charAt(i), q.charAt(i + 1)));
+            if (lists[i] == null) {
+                return null;
+            }
+        }
+        return lists;
+    }
+
+    private static boolean containsAll(int[][] lists, int position) {
+        for (int[] list : lists) {
+            if (Arrays.binarySearch(list, position) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(String q) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(q) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 공백 제거 (소문자 변환은 호출 측)
+     */
+    private static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절의 초성만 이은 문자열 (한글이 없으면 빈 문자열)
+     */
+    private static String initialsOf(String text) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                builder.append(CHOSEONG[(c - '가') / (21 * 28)]);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static Integer bigramKey(char first, char second) {
+        return first << 16 | second;
+    }
+
+    private static Map<Integer, int[]> toArrays(Map<Integer, GrowableInts> postings) {
+        Map<Integer, int[]> arrays = new HashMap<>(postings.size() * 4 / 3 + 1);
+        postings.forEach((key, positions) -> arrays.put(key, positions.toArray()));
+        return arrays;
+    }
+
+    /**
+     * 위치 목록 (위치를 오름차순으로 추가하므로 마지막 값과 같으면 생략)
+     */
+    private static final class GrowableInts {
+        private int[] values = new int[4];
+        private int size;
+
+        private void addOnce(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
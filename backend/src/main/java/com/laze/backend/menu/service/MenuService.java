@@ -1,6 +1,8 @@
 package com.laze.backend.menu.service;
 
 import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuSearchHit;
+import com.laze.backend.menu.dto.MenuTree;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.Collection;
@@ -12,4 +14,18 @@ public interface MenuService {
      * @return 메뉴 DTO 트리 리스트
      */
     List<MenuDto> getUserMenus();
+
+    /**
+     * 현재 로그인한 사용자의 메뉴 트리 (같은 권한 구성의 사용자와 공유하는 캐시 값, 직렬화된 JSON 포함)
+     * @return 메뉴 트리 (수정 불가)
+     */
+    MenuTree getUserMenuTree();
+
+    /**
+     * 현재 로그인한 사용자가 권한을 가진 메뉴 중 메뉴명 검색 (메모리 색인, DB 조회 없음)
+     * @param query 검색어 (대소문자/공백 무시, 한글 초성 가능)
+     * @param limit 최대 결과 수 (menu.search.max-results 초과 시 제한)
+     * @return 검색 결과 (접두어 일치 우선, 메뉴 표시 순서)
+     */
+    List<MenuSearchHit> searchMenus(String query, int limit);
 }
@@ -0,0 +1,95 @@
+package com.laze.backend.menu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laze.backend.menu.dto.MenuTree;
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 권한 구성별 메뉴 트리 캐시.
+ *
+ * SQL 로 만든 트리는 권한 그룹 ID 집합에 의해서만 결정되므로 (회사, 정렬된 권한 집합)을 키로,
+ * 메뉴 권한 집합(MenuPermissionSet)으로 만든 트리는 집합 내용을 키로 미리 만든 트리(MenuTree)를 공유한다.
+ * (세션마다 권한 집합의 갱신 시점이 다를 수 있으므로 권한 그룹이 같아도 내용이 다르면 다른 트리)
+ * 로그인 이후 메뉴 조회는 캐시 적중 시 DB/트리 구성 없이 끝난다.
+ *
+ * - 크기 제한(menu.cache.max-size, 권한 구성 수 기준) 초과 시 Caffeine 정책으로 제거
+ * - MenuChangedEvent 수신 시 전체 무효화. 조회 중이던 트리가 무효화 뒤에 들어가지 않도록
+ *   키에 세대 번호를 붙이고 무효화 때마다 세대를 올린다.
+ * - 이벤트 없이 DB 에서 직접 바뀐 메뉴는 menu.cache.expire-after-write-minutes 이후 반영
+ *
+ * 메트릭: cache.gets / cache.size 등 (cache=menuTree)
+ */
+@Slf4j
+@Component
+public class MenuTreeCache {
+
+    private final Cache<String, MenuTree> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MenuTreeCache(MeterRegistry meterRegistry,
+                         @Value("${menu.cache.max-size:1000}") long maxSize,
+                         @Value("${menu.cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "menuTree");
+    }
+
+    /**
+     * 권한 구성에 해당하는 메뉴 트리 조회 (없으면 loader 로 만들어 저장, 같은 키의 동시 요청은 한 번만 생성)
+     * @param cmpCd 회사 코드 (회사 구분 없는 트리면 null)
+     * @param authorities 권한 그룹 ID (순서/중복 무관)
+     * @param loader 캐시 미스 시 트리 생성
+     */
+    public MenuTree get(String cmpCd, Collection<String> authorities, Supplier<MenuTree> loader) {
+        return cache.get(generation.get() + "|" + cmpCd + "|" + fingerprint(authorities), key -> loader.get());
+    }
+
+    /**
+     * 메뉴 권한 집합에 해당하는 메뉴 트리 조회 (키는 집합 내용, 없으면 loader 로 만들어 저장)
+     * @param cmpCd 회사 코드
+     * @param granted 접근 가능 메뉴
+     * @param loader 캐시 미스 시 트리 생성 (granted 로만 구성해야 함)
+     */
+    public MenuTree get(String cmpCd, MenuPermissionSet granted, Supplier<MenuTree> loader) {
+        return cache.get(generation.get() + "|" + cmpCd + "|#" + granted.contentKey(), key -> loader.get());
+    }
+
+    /**
+     * 권한 구성 정규화 키 (정렬 + 중복 제거)
+     */
+    public static String fingerprint(Collection<String> authorities) {
+        return String.join(",", new TreeSet<>(authorities));
+    }
+
+    @EventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidateAll();
+        log.info("Menu tree cache invalidated: {}", event.reason());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -1,15 +1,26 @@
 package com.laze.backend.menu.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.dto.ApiResponse;
 import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuSearchHit;
+import com.laze.backend.menu.dto.MenuTree;
 import com.laze.backend.menu.mapper.MenuMapper;
+import com.laze.backend.menu.service.MenuGraph;
+import com.laze.backend.menu.service.MenuGraphLoader;
 import com.laze.backend.menu.service.MenuService;
+import com.laze.backend.menu.service.MenuTreeCache;
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -19,23 +30,102 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MenuServiceImpl implements MenuService {
 
+    /**
+     * 메모리 그래프를 쓸 수 없을 때의 메뉴 계층 조회 방식
+     */
+    public enum HierarchyQuery {
+        CTE,     // 재귀 CTE (findAccessibleMenus)
+        CLOSURE  // closure 테이블 조인 (findAccessibleMenusByClosure, db/mariadb/fw-menu-closure.sql 필요)
+    }
+
     private final MenuMapper menuMapper;
+    private final MenuTreeCache menuTreeCache; // 권한 구성별 트리 캐시 (로그인 이후 조회는 메모리 조회)
+    private final MenuGraphLoader menuGraphLoader; // 메모리 메뉴 그래프 (미적재 시 SQL 조회)
+    private final ObjectMapper objectMapper;
+
+    @Value("${menu.hierarchy.query:CTE}")
+    private HierarchyQuery hierarchyQuery = HierarchyQuery.CTE;
+
+    @Value("${menu.search.max-results:50}")
+    private int searchMaxResults = 50;
 
     @Override
-    @Transactional(readOnly = true)
     public List<MenuDto> getUserMenus() {
+        return getUserMenuTree().roots();
+    }
+
+    @Override
+    public MenuTree getUserMenuTree() {
         // 1. 현재 사용자의 권한 정보 가져오기
         Collection<String> authorities = getCurrentUserAuthorities();
         log.debug("Current user authorities: {}", authorities);
 
-        // 2. DB에서 접근 가능한 모든 메뉴 목록 조회 (평탄화된 리스트)
-        List<MenuDto> allAccessibleMenus = menuMapper.findAccessibleMenus(authorities);
+        // 2. 같은 권한 구성의 트리가 캐시에 없을 때만 트리 구성
+        //    로그인 시 구성된 메뉴 권한(비트셋)이 있으면 메모리 그래프로 (캐시 키는 권한 집합 내용),
+        //    아니면 SQL 조회(menu.hierarchy.query)로 구성 (캐시 키는 권한 그룹)
+        MenuGraph graph = menuGraphLoader.current();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (graph != null && authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+            && userDetails.getAccessibleMenuIds() != null) {
+            MenuPermissionSet granted = userDetails.getAccessibleMenuIds();
+            return menuTreeCache.get(userDetails.getCmpCd(), granted, () -> toMenuTree(graph.tree(granted)));
+        }
+        return menuTreeCache.get(null, authorities, () -> loadMenuTree(authorities));
+    }
+
+    @Override
+    public List<MenuSearchHit> searchMenus(String query, int limit) {
+        // 메모리 그래프의 검색 인덱스만 사용 (DB 조회 없음), 그래프 미적재 또는 세션 메뉴 권한이 없으면 빈 결과
+        MenuGraph graph = menuGraphLoader.current();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (graph == null || authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)
+            || userDetails.getAccessibleMenuIds() == null) {
+            log.debug("Menu search unavailable (graph loaded: {})", graph != null);
+            return Collections.emptyList();
+        }
+        return graph.search(query, userDetails.getAccessibleMenuIds(), Math.min(limit, searchMaxResults));
+    }
+
+    /**
+     * SQL 조회(menu.hierarchy.query: 재귀 CTE 또는 closure 테이블)로 트리 구성
+     */
+    MenuTree loadMenuTree(Collection<String> authorities) {
+        // 권한이 없으면 접근 가능한 메뉴도 없음 (빈 IN 절 조회 방지)
+        List<MenuDto> allAccessibleMenus;
+        if (authorities.isEmpty()) {
+            allAccessibleMenus = Collections.emptyList();
+        } else if (hierarchyQuery == HierarchyQuery.CLOSURE) {
+            allAccessibleMenus = menuMapper.findAccessibleMenusByClosure(authorities);
+        } else {
+            allAccessibleMenus = menuMapper.findAccessibleMenus(authorities);
+        }
         log.debug("Found {} accessible menus from DB.", allAccessibleMenus.size());
 
-        // 3. 평탄화된 메뉴 리스트를 트리 구조로 변환
-        List<MenuDto> menuTree = buildMenuTree(allAccessibleMenus);
+        // 평탄화된 메뉴 리스트를 트리 구조로 변환
+        return toMenuTree(buildMenuTree(allAccessibleMenus));
+    }
 
-        return menuTree;
+    /**
+     * 트리를 공유용으로 고정 (수정 불가 리스트 + 직렬화 + ETag)
+     * 응답 본문은 ApiResponseWrapper 를 거치지 않으므로 표준 응답 형식(ApiResponse.ok)으로 직렬화한다.
+     */
+    MenuTree toMenuTree(List<MenuDto> tree) {
+        List<MenuDto> roots = freeze(tree);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.ok(roots));
+            return new MenuTree(roots, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu tree", e);
+        }
+    }
+
+    private static List<MenuDto> freeze(List<MenuDto> menus) {
+        for (MenuDto menu : menus) {
+            if (menu.getChildren() != null) {
+                menu.setChildren(freeze(menu.getChildren()));
+            }
+        }
+        return List.copyOf(menus);
     }
 
     /**
@@ -0,0 +1,326 @@
+package com.laze.backend.menu.stats;
+
+import com.laze.backend.menu.dto.MenuAccessReport;
+import com.laze.backend.menu.dto.MenuAccessReport.Usage;
+import com.laze.backend.menu.dto.MenuAccessStatRow;
+import com.laze.backend.menu.mapper.MenuAccessStatMapper;
+import com.laze.backend.security.permission.MenuIdRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메뉴 API(/api/{메뉴ID}/...) 사용 통계 (MenuAccessControlFilter 에서 요청마다 기록).
+ *
+ * 용량 산정용으로 (회사, 메뉴)별 요청 수 / 오류 수 / 처리 시간 합계 / 최대 / 처리 시간 구간별 건수를 모은다.
+ * - 기록 : 회사별 메뉴 인덱스(MenuIdRegistry) 배열의 셀에 LongAdder 로 더한다. 셀이 이미 있으면 잠금이 없고,
+ *          처음 접근하는 (회사, 메뉴) 만 셀 생성 시 잠근다. 메뉴별 합계는 조회 시 회사 셀을 합산한다.
+ * - 반영 : 매 분 0초에 직전 1분 값을 셀에서 꺼내(sumThenReset) 노드 누적값에 더하고,
+ *          persist=true 면 FW_MENU_ACCESS_STAT 에 배치로 합산한다. (db/mariadb/fw-menu-access-stat.sql)
+ *          반영 실패분은 max-pending-rows 까지 보관했다가 다음 분에 다시 시도한다.
+ * - 조회 : actuator menuaccess (노드 기동 이후 누적 + 진행 중인 1분)
+ */
+@Slf4j
+@Component
+public class MenuAccessStats {
+
+    /** 처리 시간 구간 상한 (ms), 마지막 구간은 3초 초과 */
+    public static final long[] BUCKET_BOUNDS_MS = {10, 50, 100, 250, 500, 1000, 3000};
+
+    private static final long[] BUCKET_BOUNDS_NANOS = Arrays.stream(BUCKET_BOUNDS_MS).map(TimeUnit.MILLISECONDS::toNanos).toArray();
+    private static final int BUCKET_COUNT = BUCKET_BOUNDS_MS.length + 1;
+
+    private final Map<String, CompanyCells> companies = new ConcurrentHashMap<>();
+    private final Deque<MenuAccessStatRow> unwritten = new ArrayDeque<>(); // 반영 실패분 (flush 안에서만 접근)
+    private final LocalDateTime since = LocalDateTime.now();
+
+    private final MenuAccessStatMapper batchMenuAccessStatMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean persist;
+    private final int batchSize;
+    private final int maxPendingRows;
+    private final Counter flushedCounter;
+    private final Counter flushFailedCounter;
+
+    public MenuAccessStats(@Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${menu.access-stats.enabled:true}") boolean enabled,
+                           @Value("${menu.access-stats.persist:false}") boolean persist,
+                           @Value("${menu.access-stats.batch-size:500}") int batchSize,
+                           @Value("${menu.access-stats.max-pending-rows:100000}") int maxPendingRows) {
+        this.batchMenuAccessStatMapper = batchSqlSessionTemplate.getMapper(MenuAccessStatMapper.class);
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.persist = persist;
+        this.batchSize = batchSize;
+        this.maxPendingRows = maxPendingRows;
+        this.flushedCounter = Counter.builder("menu.access.stats.flushed")
+            .description("Menu access statistic rows written to FW_MENU_ACCESS_STAT")
+            .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("menu.access.stats.flush.failed")
+            .description("Menu access statistic rows that failed to be written and were kept for retry")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 메뉴 API 요청 1건 기록 (요청 처리 후)
+     * @param cmpCd 회사 코드
+     * @param menuIndex MenuIdRegistry 인덱스
+     * @param elapsedNanos 처리 시간
+     * @param error 5xx 응답 또는 처리 중 예외
+     */
+    public void record(String cmpCd, int menuIndex, long elapsedNanos, boolean error) {
+        if (!enabled || cmpCd == null || menuIndex < 0) {
+            return;
+        }
+        CompanyCells company = companies.get(cmpCd);
+        if (company == null) {
+            company = companies.computeIfAbsent(cmpCd, k -> new CompanyCells());
+        }
+        company.cell(menuIndex).record(elapsedNanos, error);
+    }
+
+    /**
+     * 직전 1분 값을 노드 누적값에 더하고 DB 에 반영 (매 분 0초)
+     */
+    @Scheduled(cron = "${menu.access-stats.flush-cron:0 * * * * *}")
+    public void flush() {
+        flush(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1));
+    }
+
+    /**
+     * @param statDtm 집계 구간 시작 (분)
+     */
+    synchronized void flush(LocalDateTime statDtm) {
+        MenuIdRegistry registry = MenuIdRegistry.global();
+        List<MenuAccessStatRow> rows = new ArrayList<>();
+        companies.forEach((cmpCd, company) -> company.forEach((menuIndex, cell) -> {
+            Window window = cell.drain();
+            if (window.count > 0) {
+                rows.add(new MenuAccessStatRow(statDtm, cmpCd, registry.idAt(menuIndex), window.count, window.errors,
+                    TimeUnit.NANOSECONDS.toMillis(window.elapsedNanos), TimeUnit.NANOSECONDS.toMillis(window.maxNanos), window.buckets));
+            }
+        }));
+        if (!persist) {
+            return;
+        }
+
+        // 이전 실패분 먼저 (보관 상한 초과 시 오래된 것부터 버림)
+        unwritten.addAll(rows);
+        while (unwritten.size() > maxPendingRows) {
+            unwritten.pollFirst();
+        }
+        List<MenuAccessStatRow> pending = new ArrayList<>(unwritten);
+        unwritten.clear();
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<MenuAccessStatRow> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(batchMenuAccessStatMapper::upsertStat));
+                flushedCounter.increment(chunk.size());
+            } catch (RuntimeException e) {
+                unwritten.addAll(chunk);
+                flushFailedCounter.increment(chunk.size());
+                log.error("Failed to write menu access statistics ({} rows), will retry", chunk.size(), e);
+            }
+        }
+        log.debug("Flushed menu access statistics for {}: {} rows, {} pending", statDtm, rows.size(), unwritten.size());
+    }
+
+    /**
+     * 노드 기동 이후 누적 + 진행 중인 1분
+     * @param cmpCd 회사 코드 (null 이면 전체)
+     * @param top 메뉴별 / (회사, 메뉴)별 상위 개수
+     */
+    public synchronized MenuAccessReport report(String cmpCd, int top) {
+        MenuIdRegistry registry = MenuIdRegistry.global();
+        List<Usage> companyMenus = new ArrayList<>();
+        Map<Integer, Window> menus = new HashMap<>();
+        long requestCount = 0;
+        for (Map.Entry<String, CompanyCells> entry : companies.entrySet()) {
+            if (cmpCd != null && !cmpCd.equals(entry.getKey())) {
+                continue;
+            }
+            List<Map.Entry<Integer, Window>> cells = new ArrayList<>();
+            entry.getValue().forEach((menuIndex, cell) -> cells.add(Map.entry(menuIndex, cell.total())));
+            for (Map.Entry<Integer, Window> cell : cells) {
+                Window total = cell.getValue();
+                if (total.count == 0) {
+                    continue;
+                }
+                requestCount += total.count;
+                companyMenus.add(usage(entry.getKey(), registry.idAt(cell.getKey()), total));
+                menus.merge(cell.getKey(), total, Window::plus);
+            }
+        }
+        List<Usage> menuUsages = new ArrayList<>(menus.size());
+        menus.forEach((menuIndex, total) -> menuUsages.add(usage(null, registry.idAt(menuIndex), total)));
+        return new MenuAccessReport(since, requestCount, Arrays.stream(BUCKET_BOUNDS_MS).boxed().toList(),
+            top(menuUsages, top), top(companyMenus, top));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static List<Usage> top(List<Usage> usages, int top) {
+        return usages.stream()
+            .sorted(Comparator.comparingLong(Usage::requests).reversed())
+            .limit(top)
+            .toList();
+    }
+
+    private static Usage usage(String cmpCd, String menuId, Window total) {
+        return new Usage(cmpCd, menuId, total.count, total.errors,
+            total.elapsedNanos / 1_000_000.0 / total.count, TimeUnit.NANOSECONDS.toMillis(total.maxNanos),
+            Arrays.stream(total.buckets).boxed().toList());
+    }
+
+    private static int bucketOf(long elapsedNanos) {
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            if (elapsedNanos <= BUCKET_BOUNDS_NANOS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_NANOS.length;
+    }
+
+    /**
+     * 회사 1곳의 메뉴 인덱스별 셀. 조회는 잠금 없이 배열을 읽고, 셀 생성/배열 확장만 잠근다.
+     */
+    private static final class CompanyCells {
+        private volatile AtomicReferenceArray<Cell> cells = new AtomicReferenceArray<>(64);
+
+        private Cell cell(int menuIndex) {
+            AtomicReferenceArray<Cell> current = cells;
+            if (menuIndex < current.length()) {
+                Cell cell = current.get(menuIndex);
+                if (cell != null) {
+                    return cell;
+                }
+            }
+            return create(menuIndex);
+        }
+
+        private synchronized Cell create(int menuIndex) {
+            AtomicReferenceArray<Cell> current = cells;
+            if (menuIndex >= current.length()) {
+                AtomicReferenceArray<Cell> grown = new AtomicReferenceArray<>(Math.max(current.length() * 2, menuIndex + 1));
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                cells = current = grown;
+            }
+            Cell cell = current.get(menuIndex);
+            if (cell == null) {
+                cell = new Cell();
+                current.set(menuIndex, cell);
+            }
+            return cell;
+        }
+
+        private void forEach(CellConsumer action) {
+            AtomicReferenceArray<Cell> current = cells;
+            for (int i = 0; i < current.length(); i++) {
+                Cell cell = current.get(i);
+                if (cell != null) {
+                    action.accept(i, cell);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface CellConsumer {
+        void accept(int menuIndex, Cell cell);
+    }
+
+    /**
+     * (회사, 메뉴) 1건의 진행 중인 1분 값(LongAdder) + 반영이 끝난 누적값(flush/report 에서만 접근)
+     */
+    private static final class Cell {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private Window flushed = Window.EMPTY;
+
+        private Cell() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long elapsed, boolean error) {
+            count.increment();
+            if (error) {
+                errors.increment();
+            }
+            elapsedNanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+            buckets[bucketOf(elapsed)].increment();
+        }
+
+        /**
+         * 진행 중인 1분 값을 꺼내 누적값에 더함 (동시에 기록된 요청은 다음 1분에 포함)
+         */
+        private Window drain() {
+            long[] bucketCounts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                bucketCounts[i] = buckets[i].sumThenReset();
+            }
+            Window window = new Window(count.sumThenReset(), errors.sumThenReset(), elapsedNanos.sumThenReset(),
+                maxNanos.getThenReset(), bucketCounts);
+            flushed = flushed.plus(window);
+            return window;
+        }
+
+        private Window total() {
+            long[] bucketCounts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                bucketCounts[i] = buckets[i].sum();
+            }
+            return flushed.plus(new Window(count.sum(), errors.sum(), elapsedNanos.sum(), maxNanos.get(), bucketCounts));
+        }
+    }
+
+    private record Window(long count, long errors, long elapsedNanos, long maxNanos, long[] buckets) {
+
+        private static final Window EMPTY = new Window(0, 0, 0, 0, new long[BUCKET_COUNT]);
+
+        private Window plus(Window other) {
+            long[] sum = new long[BUCKET_COUNT];
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] = buckets[i] + other.buckets[i];
+            }
+            return new Window(count + other.count, errors + other.errors, elapsedNanos + other.elapsedNanos,
+                Math.max(maxNanos, other.maxNanos), sum);
+        }
+    }
+}
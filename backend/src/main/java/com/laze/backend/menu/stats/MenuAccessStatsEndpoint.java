@@ -0,0 +1,29 @@
+package com.laze.backend.menu.stats;
+
+import com.laze.backend.menu.dto.MenuAccessReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 API 사용 통계 actuator 엔드포인트 (GET /actuator/menuaccess?cmpCd=AD1000&amp;top=20, ADMIN 권한).
+ *
+ * 현재 노드의 기동 이후 메뉴별 / (회사, 메뉴)별 요청 수, 오류 수, 처리 시간 분포를 요청 수 상위 순으로 보고한다.
+ * 노드 전체 / 기간별 값은 FW_MENU_ACCESS_STAT (menu.access-stats.persist=true) 에서 조회한다.
+ */
+@Component
+@Endpoint(id = "menuaccess")
+@RequiredArgsConstructor
+public class MenuAccessStatsEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+
+    private final MenuAccessStats menuAccessStats;
+
+    @ReadOperation
+    public MenuAccessReport report(@Nullable String cmpCd, @Nullable Integer top) {
+        return menuAccessStats.report(cmpCd, top != null && top > 0 ? top : DEFAULT_TOP);
+    }
+}
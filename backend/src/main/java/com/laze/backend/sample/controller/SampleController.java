@@ -2,11 +2,18 @@ package com.laze.backend.sample.controller;
 
 // --- !!! 반환 타입 변경 및 ResponseEntity 제거 !!! ---
 import com.laze.backend.common.annotation.NoApiResponseWrapper;
+import com.laze.backend.common.dto.PageResponseDto;
+import com.laze.backend.common.dto.SliceResponseDto;
+import com.laze.backend.common.paging.CountMode;
+import com.laze.backend.common.stream.CursorResponseWriter;
+import com.laze.backend.common.stream.StreamFormat;
+import com.laze.backend.sample.dto.SampleBulkRequestDto;
 import com.laze.backend.sample.dto.SampleRequestDto;
 import com.laze.backend.sample.dto.SampleResponseDto;
 import com.laze.backend.sample.service.SampleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
@@ -23,13 +30,37 @@ import java.util.List;
 public class SampleController {
 
     private final SampleService sampleService;
+    private final CursorResponseWriter cursorResponseWriter;
 
-    @Operation(summary = "샘플 목록 조회")
+    @Operation(summary = "샘플 목록 조회", description = "전체를 메모리에 적재하므로 대용량은 /stream 사용")
     @GetMapping
     public List<SampleResponseDto> getAllSamples() {
         return sampleService.getAllSamples();
     }
 
+    @Operation(summary = "샘플 전체 목록 스트리밍 조회",
+        description = "대용량 전체 조회용 (format=NDJSON: 행마다 JSON 한 줄, JSON: 표준 응답 형식의 data 배열)")
+    @GetMapping("/stream")
+    @NoApiResponseWrapper // 응답을 직접 씀
+    public void streamAllSamples(@RequestParam(defaultValue = "NDJSON") StreamFormat format, HttpServletResponse response) {
+        cursorResponseWriter.write(format, response, sampleService::openSampleCursor);
+    }
+
+    @Operation(summary = "샘플 목록 페이지 조회", description = "페이지 번호 화면용 (count=CACHED 면 최근 전체 건수 재사용)")
+    @GetMapping("/page")
+    public PageResponseDto<SampleResponseDto> getSamplePage(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @RequestParam(defaultValue = "CACHED") CountMode count) {
+        return sampleService.getSamplePage(page, size, count);
+    }
+
+    @Operation(summary = "샘플 목록 연속 조회", description = "무한 스크롤용 (응답의 nextCursor 를 cursor 로 전달, 전체 건수 없음)")
+    @GetMapping("/scroll")
+    public SliceResponseDto<SampleResponseDto> scrollSamples(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return sampleService.scrollSamples(cursor, size);
+    }
+
     @Operation(summary = "샘플 상세 조회")
     @GetMapping("/{sampleId}")
     public SampleResponseDto getSampleById(@PathVariable Long sampleId) {
@@ -43,6 +74,13 @@ public class SampleController {
         return sampleService.createSample(requestDto);
     }
 
+    @Operation(summary = "샘플 일괄 등록", description = "JDBC 배치로 등록하고 생성된 샘플 ID 를 요청 순서대로 반환")
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Long> createSamples(@Valid @RequestBody SampleBulkRequestDto requestDto) {
+        return sampleService.createSamples(requestDto.getSamples());
+    }
+
     @Operation(summary = "샘플 삭제")
     @DeleteMapping("/{sampleId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -0,0 +1,22 @@
+package com.laze.backend.sample.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "샘플 데이터 일괄 등록 요청 DTO")
+public class SampleBulkRequestDto {
+
+    @NotEmpty(message = "등록할 샘플이 없습니다.")
+    @Valid // 각 항목 검증
+    @Schema(description = "등록할 샘플 목록 (최대 batch.max-items 건)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<SampleRequestDto> samples;
+}
@@ -1,5 +1,7 @@
 package com.laze.backend.sample.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.laze.backend.common.entity.Auditable;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank; // Validation 어노테이션
 import jakarta.validation.constraints.Size;
@@ -7,11 +9,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor; // 기본 생성자 (for Jackson/Validation)
 import lombok.Setter; // Setter 필요 (요청 Body 매핑 위해)
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @Schema(description = "샘플 데이터 생성 요청 DTO")
-public class SampleRequestDto {
+public class SampleRequestDto implements Auditable {
+
+    @JsonIgnore // 요청 값은 사용하지 않음
+    @Schema(hidden = true)
+    private Long sampleId; // 등록 후 생성된 ID (insertSample useGeneratedKeys)
 
     @NotBlank(message = "샘플 이름은 필수입니다.") // Validation: 비어있으면 안됨
     @Size(max = 100, message = "샘플 이름은 최대 100자까지 가능합니다.") // Validation: 길이 제한
@@ -22,6 +30,26 @@ public class SampleRequestDto {
     @Schema(description = "설명", example = "새로운 샘플 데이터에 대한 설명입니다.")
     private String description;
 
+    // --- 감사 필드 (AuditingAspect 가 설정, 요청 값은 사용하지 않음) ---
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String regEmpId;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String regEmpNm;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private LocalDateTime regDtm;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String chgEmpId;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String chgEmpNm;
+    @JsonIgnore
+    @Schema(hidden = true)
+    private LocalDateTime chgDtm;
+
     // Service 에서 사용할 Entity 변환 메소드 (선택 사항)
     // public SampleEntity toEntity() { ... }
 }
@@ -1,8 +1,10 @@
 package com.laze.backend.sample.mapper;
 
+import com.laze.backend.common.paging.PageQuery;
 import com.laze.backend.sample.dto.SampleRequestDto;
 import com.laze.backend.sample.dto.SampleResponseDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param; // 필요시 사용
 
 import java.util.List;
@@ -32,7 +34,22 @@ public interface SampleMapper {
      */
     List<SampleResponseDto> findAllSamples();
 
-    // 필요시 페이징 적용된 목록 조회 메소드 추가
-    // List<SampleResponseDto> findSamplesPaged(Map<String, Object> params);
-    // int countSamples(Map<String, Object> params); // 페이징 시 전체 개수 조회
+    /**
+     * 모든 샘플 데이터 스트리밍 조회 (SAMPLE_ID 내림차순, fetchSize 단위로 DB 에서 읽음)
+     * 열린 트랜잭션 안에서만 사용 (CursorResponseWriter)
+     * @return 샘플 데이터 Cursor (사용 후 close)
+     */
+    Cursor<SampleResponseDto> streamAllSamples();
+
+    /**
+     * 샘플 목록 페이징 조회 (SAMPLE_ID 내림차순, mapper/common/PagingSql.xml 규약)
+     * @param page offset 페이징 또는 keyset 페이징(page.after = 이전 페이지 마지막 SAMPLE_ID) 조건
+     * @return 최대 page.fetchSize 건
+     */
+    List<SampleResponseDto> findSamplesPage(@Param("page") PageQuery<Long> page);
+
+    /**
+     * 샘플 전체 개수 조회 (offset 페이징 전체 건수)
+     */
+    long countSamples();
 }
@@ -1,17 +1,27 @@
 package com.laze.backend.sample.service;
 
+import com.laze.backend.common.dto.PageResponseDto;
+import com.laze.backend.common.dto.SliceResponseDto;
+import com.laze.backend.common.paging.CountMode;
 import com.laze.backend.sample.dto.SampleRequestDto;
 import com.laze.backend.sample.dto.SampleResponseDto;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 public interface SampleService {
     /** 샘플 생성 */
     SampleResponseDto createSample(SampleRequestDto requestDto);
+    /** 샘플 일괄 등록 (JDBC 배치), 생성된 ID 를 요청 순서대로 반환 */
+    List<Long> createSamples(List<SampleRequestDto> requestDtos);
     /** 샘플 단건 조회 */
     SampleResponseDto getSampleById(Long sampleId);
     /** 샘플 전체 목록 조회 */
     List<SampleResponseDto> getAllSamples();
-    // 필요시 페이징 조회 메소드 등 추가
-    // PageResponseDto<SampleResponseDto> findSamples(Pageable pageable, SampleSearchCondition condition);
+    /** 샘플 전체 목록 Cursor 조회 (호출 측 트랜잭션 안에서만 사용, 대용량 스트리밍 응답용) */
+    Cursor<SampleResponseDto> openSampleCursor();
+    /** 샘플 목록 페이지 번호 조회 (offset 페이징, 전체 건수 포함) */
+    PageResponseDto<SampleResponseDto> getSamplePage(int page, int size, CountMode countMode);
+    /** 샘플 목록 연속 조회 (keyset 페이징, cursor 가 없으면 첫 페이지) */
+    SliceResponseDto<SampleResponseDto> scrollSamples(String cursor, int size);
 }
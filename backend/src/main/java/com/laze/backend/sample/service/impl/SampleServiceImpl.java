@@ -1,14 +1,22 @@
 package com.laze.backend.sample.service.impl;
 
+import com.laze.backend.common.batch.BatchStatementExecutor;
+import com.laze.backend.common.dto.PageResponseDto;
+import com.laze.backend.common.dto.SliceResponseDto;
 import com.laze.backend.common.exception.BusinessException;
 import com.laze.backend.common.exception.ErrorCode;
+import com.laze.backend.common.paging.CountMode;
+import com.laze.backend.common.paging.PageCursor;
+import com.laze.backend.common.paging.PagingTemplate;
 import com.laze.backend.sample.dto.SampleRequestDto;
 import com.laze.backend.sample.dto.SampleResponseDto;
 import com.laze.backend.sample.mapper.SampleMapper;
 import com.laze.backend.sample.service.SampleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,7 +26,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SampleServiceImpl implements SampleService {
 
+    private static final String SAMPLE_COUNT_KEY = "sample"; // 전체 건수 캐시 키 (검색 조건 추가 시 조건 포함)
+
     private final SampleMapper sampleMapper;
+    private final PagingTemplate pagingTemplate;
+    private final BatchStatementExecutor batchStatementExecutor;
 
     @Override
     @Transactional // 데이터 변경이 있으므로 트랜잭션 적용
@@ -31,6 +43,7 @@ public class SampleServiceImpl implements SampleService {
         // 현재는 DTO 를 바로 Mapper 로 전달 (간단한 경우)
         int insertedCount = sampleMapper.insertSample(requestDto);
         log.info("Inserted count: {}", insertedCount);
+        pagingTemplate.evictCount(SAMPLE_COUNT_KEY);
 
         // 삽입 후 ID를 알 수 있다면 해당 ID로 다시 조회하여 반환하는 것이 일반적
         // (MyBatis <selectKey> 등을 사용하거나, 별도 조회 쿼리 실행)
@@ -46,6 +59,17 @@ public class SampleServiceImpl implements SampleService {
             .build();
     }
 
+    @Override
+    @Transactional // 배치 구문은 트랜잭션 안에서만 하나의 배치로 묶임 (기본 mapper 보다 먼저 실행)
+    public List<Long> createSamples(List<SampleRequestDto> requestDtos) {
+        // 감사 필드는 AuditingAspect 가 호출 1회에 목록 전체를 같은 값으로 설정 (항목별 호출 없음)
+        log.info("Creating {} samples in batch", requestDtos.size());
+        int insertedCount = batchStatementExecutor.execute(SampleMapper.class, requestDtos, SampleMapper::insertSample);
+        log.info("Inserted count: {}", insertedCount);
+        pagingTemplate.evictCount(SAMPLE_COUNT_KEY);
+        return requestDtos.stream().map(SampleRequestDto::getSampleId).toList();
+    }
+
     @Override
     @Transactional(readOnly = true) // 조회는 readOnly 트랜잭션
     public SampleResponseDto getSampleById(Long sampleId) {
@@ -61,4 +85,26 @@ public class SampleServiceImpl implements SampleService {
         log.info("Finding all samples");
         return sampleMapper.findAllSamples();
     }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY) // Cursor 는 트랜잭션(SqlSession)이 끝나면 닫힘
+    public Cursor<SampleResponseDto> openSampleCursor() {
+        log.info("Opening sample cursor");
+        return sampleMapper.streamAllSamples();
+    }
+
+    @Override // 트랜잭션 없음: 목록 조회와 전체 건수 count 를 서로 다른 커넥션에서 동시에 실행 (PagingTemplate)
+    public PageResponseDto<SampleResponseDto> getSamplePage(int page, int size, CountMode countMode) {
+        log.info("Finding sample page: {}, size: {}, count: {}", page, size, countMode);
+        return pagingTemplate.offset(page, size, countMode, SAMPLE_COUNT_KEY,
+            sampleMapper::findSamplesPage, sampleMapper::countSamples);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDto<SampleResponseDto> scrollSamples(String cursor, int size) {
+        log.info("Scrolling samples after cursor: {}, size: {}", cursor, size);
+        return pagingTemplate.keyset(PageCursor.decodeLong(cursor), size,
+            sampleMapper::findSamplesPage, sample -> PageCursor.encodeLong(sample.getSampleId()));
+    }
 }
@@ -0,0 +1,57 @@
+package com.laze.backend.security.controller;
+
+import com.laze.backend.common.dto.ApiResponse;
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.dto.ReferenceDataStatusDto;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.security.reference.ReferenceDataLoader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 참조 데이터(회사/부서/권한 그룹 메뉴) 캐시 관리 API. /api/admin/** 는 ADMIN 권한 필요
+ */
+@Tag(name = "Reference Data Admin API", description = "참조 데이터 캐시 관리 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reference-data")
+public class ReferenceDataAdminController {
+
+    private final ReferenceDataLoader referenceDataLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Operation(summary = "참조 데이터 캐시 상태 조회", description = "현재 노드의 스냅샷 버전과 건수")
+    @GetMapping
+    public ApiResponse<ReferenceDataStatusDto> getStatus() {
+        return ApiResponse.ok(status(false));
+    }
+
+    @Operation(summary = "참조 데이터 즉시 갱신",
+        description = "회사/부서/권한 그룹 메뉴를 다시 조회하여 현재 노드의 스냅샷을 교체하고 메뉴 트리 캐시를 비움 (로그인 중인 세션은 다음 요청부터 반영)")
+    @PostMapping("/refresh")
+    public ApiResponse<ReferenceDataStatusDto> refresh() {
+        boolean changed = referenceDataLoader.refresh();
+        if (!changed) {
+            // 참조 데이터에 포함되지 않는 메뉴(FW_MENU) 자체 변경도 즉시 반영
+            eventPublisher.publishEvent(new MenuChangedEvent("manual refresh"));
+        }
+        return ApiResponse.ok(status(changed));
+    }
+
+    private ReferenceDataStatusDto status(boolean changed) {
+        ReferenceData referenceData = referenceDataLoader.getReferenceData();
+        return ReferenceDataStatusDto.builder()
+            .version(referenceData.version())
+            .changed(changed)
+            .companyCount(referenceData.companyCount())
+            .departmentCount(referenceData.departmentCount())
+            .authGroupCount(referenceData.authGroupCount())
+            .build();
+    }
+}
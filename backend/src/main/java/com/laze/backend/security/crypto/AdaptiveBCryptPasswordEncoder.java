@@ -0,0 +1,119 @@
+package com.laze.backend.security.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실행 장비에 맞춰 BCrypt cost 를 정하는 PasswordEncoder.
+ *
+ * - encode     : 목표 cost 로 해싱
+ * - matches    : 저장된 해시의 cost 와 무관하게 검증 (cost 는 해시 문자열에 포함됨)
+ * - upgradeEncoding : 저장된 해시의 cost 가 목표 cost 보다 낮으면 true (상향만)
+ *                     -> 로그인 성공 시 평문 비밀번호로 다시 해싱하여 저장 (PasswordRehashService)
+ *                     목표보다 높은 해시는 그대로 둔다. (노드별 목표 cost 가 달라도 같은 계정을 오르내리며 재해싱하지 않음)
+ *
+ * 목표 cost 는 기본적으로 설정값(cost)으로 고정하고, cost 를 0 으로 설정한 경우에만 기동 시 calibrate() 로
+ * 해싱 1회가 목표 시간(target-ms)을 넘지 않는 가장 큰 cost 를 측정하여 정한다.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    public static final int UNKNOWN_COST = -1;
+
+    /** 측정 기준 cost (수 ms 수준이라 기동 지연이 작음) */
+    private static final int PROBE_COST = 6;
+    private static final int PROBE_ROUNDS = 5;
+
+    private final int targetCost;
+    private final double probeMillis; // PROBE_COST 1회 해싱 소요 시간 (cost 별 소요 시간 추정 기준)
+    private final BCryptPasswordEncoder delegate;
+
+    private AdaptiveBCryptPasswordEncoder(int targetCost, double probeMillis) {
+        this.targetCost = targetCost;
+        this.probeMillis = probeMillis;
+        this.delegate = new BCryptPasswordEncoder(targetCost);
+    }
+
+    /**
+     * 고정 cost 인코더 (측정은 소요 시간 추정용으로만 수행)
+     */
+    public static AdaptiveBCryptPasswordEncoder fixed(int cost) {
+        return new AdaptiveBCryptPasswordEncoder(cost, measureProbe());
+    }
+
+    /**
+     * 현재 장비에서 해싱 1회가 targetMillis 이하인 가장 큰 cost 를 [minCost, maxCost] 범위에서 선택
+     * (cost 가 1 증가할 때마다 소요 시간은 2배)
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(long targetMillis, int minCost, int maxCost) {
+        double probeMillis = measureProbe();
+        int cost = minCost;
+        while (cost < maxCost && estimate(probeMillis, cost + 1) <= targetMillis) {
+            cost++;
+        }
+        log.info("BCrypt cost calibrated. cost: {}, estimated: {} ms (target: {} ms, range: {}-{})",
+            cost, Math.round(estimate(probeMillis, cost)), targetMillis, minCost, maxCost);
+        return new AdaptiveBCryptPasswordEncoder(cost, probeMillis);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost != UNKNOWN_COST && cost < targetCost;
+    }
+
+    public int getTargetCost() {
+        return targetCost;
+    }
+
+    /**
+     * 이 장비에서 해당 cost 해싱(=로그인 1회 검증) 예상 소요 시간(ms)
+     */
+    public double estimateMillis(int cost) {
+        return estimate(probeMillis, cost);
+    }
+
+    /**
+     * BCrypt 해시 문자열($2a$10$...)의 cost
+     * @return cost, BCrypt 형식이 아니면 UNKNOWN_COST
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+            || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return UNKNOWN_COST;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (tens < '0' || tens > '3' || ones < '0' || ones > '9') {
+            return UNKNOWN_COST;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static double estimate(double probeMillis, int cost) {
+        return probeMillis * Math.pow(2, cost - PROBE_COST);
+    }
+
+    private static double measureProbe() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_COST);
+        probe.encode("calibration"); // JIT 예열
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+}
@@ -1,16 +1,32 @@
 package com.laze.backend.security.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.laze.backend.security.permission.MenuIdRegistry;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Set;
-
+import java.util.List;
+
+/**
+ * 로그인 사용자 정보.
+ *
+ * 회사/부서 정보와 메뉴 권한은 필드로 복사하지 않고 ReferenceData 스냅샷의 공유 인스턴스를 참조한다.
+ * referenceVersion 이 0 이 아니면 스냅샷 버전이 바뀐 뒤 처음 접근할 때 새 스냅샷에서 다시 찾는다.
+ * (관리자의 회사/부서/권한 변경이 재로그인 없이 반영됨, 스냅샷에서 사라진 회사/부서는 기존 값 유지)
+ * referenceVersion 이 0 이면 빌더로 받은 값을 그대로 사용한다. (참조 데이터 미적재, 토큰 모드 등)
+ * 권한 그룹 자체가 바뀐 경우(FW_AUTH_EMP)는 authoritySeq 로 판단하여 요청 단계에서 새 객체로 교체한다. (PermissionChanges)
+ */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class CustomUserDetails implements UserDetails {
 
     // --- UserDetails 필수 필드 ---
@@ -33,22 +49,142 @@ public class CustomUserDetails implements UserDetails {
     private final String hpNo;
     private final String mail;
 
-    // FW_CMP 테이블 정보
-    private final String cmpNm;
-    private final String bizcpRegNo;
-    private final String ceoNm;
-    private final String rprsTelNo;
-    private final String postNo;
-    private final String addr;
-
-    // FW_DEPT 테이블 정보
-    private final String deptNm;
-    private final String hqCd;
-    private final String hqNm;
-    private final String dpldEmpId;
-
-    // 접근 가능 메뉴 정보
-    private final Set<String> accessibleMenuIds; // 접근 가능한 메뉴 ID 목록
+    // FW_CMP / FW_DEPT 테이블 정보 (ReferenceData 공유 인스턴스)
+    @JsonIgnore
+    private volatile CompanyInfo company;
+    @JsonIgnore
+    private volatile DepartmentInfo department;
+
+    // 접근 가능 메뉴 정보 (비트셋 기반, Set<String> 으로도 사용 가능, 같은 권한 그룹 조합이면 공유 인스턴스)
+    private volatile MenuPermissionSet accessibleMenuIds; // 접근 가능한 메뉴 ID 목록
+
+    // 로그인(또는 권한 갱신) 시점의 변경 감지 번호 (PermissionChanges.appliedSeq)
+    private final long authoritySeq;
+
+    // 참조한 ReferenceData 버전 (0: 갱신하지 않음)
+    @Getter(AccessLevel.NONE)
+    private volatile long referenceVersion;
+
+    public CompanyInfo getCompany() {
+        refreshReferences();
+        return company;
+    }
+
+    public DepartmentInfo getDepartment() {
+        refreshReferences();
+        return department;
+    }
+
+    public MenuPermissionSet getAccessibleMenuIds() {
+        refreshReferences();
+        return accessibleMenuIds;
+    }
+
+    // --- 회사/부서 정보 (로그인 응답 JSON 필드 유지) ---
+    public String getCmpNm() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.cmpNm() : null;
+    }
+
+    public String getBizcpRegNo() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.bizcpRegNo() : null;
+    }
+
+    public String getCeoNm() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.ceoNm() : null;
+    }
+
+    public String getRprsTelNo() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.rprsTelNo() : null;
+    }
+
+    public String getPostNo() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.postNo() : null;
+    }
+
+    public String getAddr() {
+        CompanyInfo info = getCompany();
+        return info != null ? info.addr() : null;
+    }
+
+    public String getDeptNm() {
+        DepartmentInfo info = getDepartment();
+        return info != null ? info.deptNm() : null;
+    }
+
+    public String getHqCd() {
+        DepartmentInfo info = getDepartment();
+        return info != null ? info.hqCd() : null;
+    }
+
+    public String getHqNm() {
+        DepartmentInfo info = getDepartment();
+        return info != null ? info.hqNm() : null;
+    }
+
+    public String getDpldEmpId() {
+        DepartmentInfo info = getDepartment();
+        return info != null ? info.dpldEmpId() : null;
+    }
+
+    /**
+     * 메뉴 접근 권한 확인
+     * @param menuId 메뉴 ID
+     * @return 접근 가능 여부
+     */
+    public boolean hasMenuAccess(String menuId) {
+        return hasMenuAccess(MenuIdRegistry.global().indexOf(menuId));
+    }
+
+    /**
+     * 메뉴 접근 권한 확인 (MenuIdRegistry 인덱스 기준, 비트 검사 1회)
+     * @param menuIndex 메뉴 인덱스 (미등록 메뉴는 MenuIdRegistry.NOT_FOUND)
+     * @return 접근 가능 여부
+     */
+    public boolean hasMenuAccess(int menuIndex) {
+        MenuPermissionSet menus = getAccessibleMenuIds();
+        return menus != null && menus.containsIndex(menuIndex);
+    }
+
+    /**
+     * ReferenceData 버전이 바뀌었으면 회사/부서/메뉴 권한을 새 스냅샷에서 다시 찾음 (요청 경로에서는 volatile 비교 1회)
+     */
+    private void refreshReferences() {
+        long version = referenceVersion;
+        if (version == 0) {
+            return;
+        }
+        ReferenceData referenceData = ReferenceData.global();
+        long current = referenceData.version();
+        if (current == version || current == 0) {
+            return;
+        }
+        CompanyInfo newCompany = referenceData.company(cmpCd);
+        if (newCompany != null) {
+            company = newCompany;
+        }
+        DepartmentInfo newDepartment = referenceData.department(cmpCd, deptCd);
+        if (newDepartment != null) {
+            department = newDepartment;
+        }
+        accessibleMenuIds = referenceData.menusOf(cmpCd, authorityNames());
+        referenceVersion = current;
+    }
+
+    private List<String> authorityNames() {
+        if (authorities == null) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            names.add(authority.getAuthority());
+        }
+        return names;
+    }
 
     // UserDetails 인터페이스 메소드 구현 (Lombok @Getter 로 대부분 자동 생성됨)
     @Override
@@ -0,0 +1,17 @@
+package com.laze.backend.security.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 참조 데이터 스냅샷 상태 (현재 노드 기준)
+ */
+@Getter
+@Builder
+public class ReferenceDataStatusDto {
+    private final long version;          // 스냅샷 버전 (0: 미적재)
+    private final boolean changed;       // 이번 갱신으로 버전이 올라갔는지 여부 (조회 시 false)
+    private final int companyCount;      // 활성 회사 수
+    private final int departmentCount;   // 활성 부서 수
+    private final int authGroupCount;    // 메뉴가 매핑된 활성 권한 그룹 수
+}
@@ -0,0 +1,47 @@
+package com.laze.backend.security.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션 힙 점유 보고서 (actuator sessionmemory)
+ *
+ * @param store            세션 저장소 (memory / jdbc)
+ * @param sessionCount     계측한 세션 수
+ * @param totalBytes       세션 속성 추정 크기 합계
+ * @param averageBytes     세션당 평균
+ * @param attributes       속성 이름별 합계
+ * @param largestSessions  크기 상위 세션
+ * @param companies        회사(cmpCd)별 합계 (로그인 전 세션은 "-")
+ */
+public record SessionMemoryReport(String store, int sessionCount, long totalBytes, long averageBytes,
+                                  List<AttributeUsage> attributes, List<SessionUsage> largestSessions,
+                                  List<CompanyUsage> companies) {
+
+    /**
+     * @param name 속성 이름
+     * @param sessions 속성을 가진 세션 수
+     * @param totalBytes 추정 크기 합계
+     * @param averageBytes 속성을 가진 세션 기준 평균
+     */
+    public record AttributeUsage(String name, int sessions, long totalBytes, long averageBytes) {
+    }
+
+    /**
+     * @param sessionId 세션 ID 앞부분 (마스킹)
+     * @param cmpCd 회사 코드
+     * @param empId 사원 ID
+     * @param bytes 추정 크기
+     * @param attributes 속성별 추정 크기
+     */
+    public record SessionUsage(String sessionId, String cmpCd, String empId, long bytes, Map<String, Long> attributes) {
+    }
+
+    /**
+     * @param cmpCd 회사 코드
+     * @param sessions 세션 수
+     * @param totalBytes 추정 크기 합계
+     */
+    public record CompanyUsage(String cmpCd, int sessions, long totalBytes) {
+    }
+}
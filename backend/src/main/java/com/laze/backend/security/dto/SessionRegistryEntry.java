@@ -0,0 +1,14 @@
+package com.laze.backend.security.dto;
+
+import lombok.Data;
+
+/**
+ * FW_SESSION_REGISTRY 행 (다중 노드 동시 세션 제어용)
+ */
+@Data
+public class SessionRegistryEntry {
+    private String sessionId;       // 세션 ID
+    private String principalKey;    // 사용자 키 (cmpCd:empId)
+    private Long lastRequestTime;   // 마지막 요청 시각 (epoch ms)
+    private String expiredYn;       // 만료 여부 (Y: 다른 로그인에 의해 만료)
+}
@@ -0,0 +1,18 @@
+package com.laze.backend.security.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 풀이 포화 상태여서 로그인 요청을 즉시 거절할 때 발생하는 예외.
+ * 인증 실패 핸들러에서 503 / LOGIN_BUSY 응답으로 변환된다.
+ */
+public class LoginBusyException extends AuthenticationServiceException {
+
+    public LoginBusyException(String msg) {
+        super(msg);
+    }
+
+    public LoginBusyException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
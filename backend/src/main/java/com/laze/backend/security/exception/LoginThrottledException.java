@@ -0,0 +1,27 @@
+package com.laze.backend.security.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 같은 IP 또는 같은 계정의 로그인 시도가 허용 속도를 넘어 비밀번호 검증 전에 거절할 때 발생하는 예외.
+ * 인증 실패 핸들러에서 429 / LOGIN_THROTTLED + Retry-After 응답으로 변환된다.
+ * 공격 상황에서 대량으로 발생하므로 스택 트레이스를 수집하지 않는다.
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.laze.backend.security.filter;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.service.AuthorityRefreshService;
+import com.laze.backend.security.token.CmpUserAuthenticationToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 세션(SESSION) 모드 권한 갱신 필터.
+ * 로그인 이후 사용자/권한 그룹이 변경 표시(PermissionChanges)된 세션이면 인가 전에 권한을 다시 조회하여
+ * SecurityContext 를 교체하고 세션에 저장한다. (재로그인 / 노드 재기동 불필요)
+ *
+ * SecurityConfig 에서 SESSION 모드일 때만 AuthorizationFilter 앞에 추가한다. (Bean 으로 등록하지 않음)
+ */
+@RequiredArgsConstructor
+public class AuthorityRefreshFilter extends OncePerRequestFilter {
+
+    private final AuthorityRefreshService authorityRefreshService;
+    private final SecurityContextRepository securityContextRepository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof CmpUserAuthenticationToken token && token.isAuthenticated()
+            && token.getPrincipal() instanceof CustomUserDetails user && authorityRefreshService.isStale(user)) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authorityRefreshService.refresh(token, user));
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
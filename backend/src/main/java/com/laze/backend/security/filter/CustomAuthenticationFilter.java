@@ -1,5 +1,6 @@
 package com.laze.backend.security.filter;
 
+import com.laze.backend.security.throttle.LoginThrottle;
 import com.laze.backend.security.token.CmpUserAuthenticationToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,6 +24,7 @@ public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFi
 
     private String companyCodeParameter = SPRING_SECURITY_FORM_COMPANY_CODE_KEY;
     private boolean postOnly = true;
+    private LoginThrottle loginThrottle; // 비밀번호 검증 전 사전 차단 (미설정 시 생략)
 
     // 생성자: AuthenticationManager를 주입받고, 로그인 처리 URL 설정
     public CustomAuthenticationFilter(AuthenticationManager authenticationManager) {
@@ -54,6 +56,11 @@ public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFi
         username = (username != null) ? username.trim() : "";
         password = (password != null) ? password : "";
 
+        // 시도 속도 초과, 잠김/미존재로 확인된 계정은 AuthenticationManager 호출 전에 거절 (BCrypt 비용 없음)
+        if (this.loginThrottle != null) {
+            this.loginThrottle.checkAttempt(request.getRemoteAddr(), cmpCd, username);
+        }
+
         // CmpUserAuthenticationToken 객체 생성 (인증 전 상태)
         CmpUserAuthenticationToken authRequest = new CmpUserAuthenticationToken(cmpCd, username, password);
 
@@ -83,6 +90,13 @@ public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFi
         this.companyCodeParameter = companyCodeParameter;
     }
 
+    /**
+     * @param loginThrottle 로그인 시도 사전 차단기
+     */
+    public void setLoginThrottle(LoginThrottle loginThrottle) {
+        this.loginThrottle = loginThrottle;
+    }
+
     /**
      * @param postOnly true면 POST만 허용
      */
@@ -0,0 +1,65 @@
+package com.laze.backend.security.filter;
+
+import com.laze.backend.security.token.AuthTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 무상태(TOKEN) 모드 인증 필터.
+ * Authorization: Bearer 헤더 또는 토큰 쿠키의 서명 토큰을 검증하여 SecurityContext 를 채운다.
+ * 토큰이 없거나 유효하지 않으면 미인증 상태로 다음 필터로 진행한다. (인가 단계에서 401 AUTH_REQUIRED)
+ *
+ * SecurityConfig 에서 security.auth.mode=TOKEN 일 때만 필터 체인에 추가한다. (Bean 으로 등록하지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+    private final String cookieName;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        String token = resolveToken(request);
+        if (token != null) {
+            authTokenService.authenticate(token).ifPresentOrElse(authentication -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }, () -> log.debug("Invalid or expired auth token for URI: {}", request.getRequestURI()));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.laze.backend.security.handler;
+
+import com.laze.backend.common.exception.ErrorCode;
+import com.laze.backend.common.exception.ErrorResponseWriter;
+import com.laze.backend.security.exception.LoginBusyException;
+import com.laze.backend.security.exception.LoginThrottledException;
+import com.laze.backend.security.filter.CustomAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomAuthenticationFailureHandler implements AuthenticationFailureHandler {
+
+    private static final String LOGIN_BUSY_RETRY_AFTER_SECONDS = "1";
+
+    private final ErrorResponseWriter errorResponseWriter; // 실패 응답 본문은 미리 직렬화된 값 사용
+
+    /**
+     * 로그인 실패 시 호출되는 메소드.
+     * 실패 원인(예외 타입)에 따라 에러 코드를 정해 JSON 으로 응답
+     * @param request 요청 객체
+     * @param response 응답 객체
+     * @param exception 인증 실패 예외
+     */
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException {
+        log.warn("Login failed for user '{}': {}", request.getParameter(CustomAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY), exception.getMessage());
+
+        // 실패 원인에 따른 에러 코드 설정 (기본: LOGIN_FAILED)
+        ErrorCode errorCode = ErrorCode.LOGIN_BAD_CREDENTIALS;
+
+        // 특정 예외 타입에 따라 코드 구체화
+        if (exception instanceof LockedException) {
+            errorCode = ErrorCode.ACCOUNT_LOCKED;
+        } else if (exception instanceof DisabledException) {
+            errorCode = ErrorCode.ACCOUNT_DISABLED;
+        } else if (exception instanceof UsernameNotFoundException) {
+            errorCode = ErrorCode.LOGIN_USER_NOT_FOUND;
+        } else if (exception instanceof LoginBusyException) {
+            // 비밀번호 검증 풀 포화: 인증 실패가 아니므로 503 + Retry-After 로 재시도 유도
+            errorCode = ErrorCode.LOGIN_BUSY;
+            response.setHeader(HttpHeaders.RETRY_AFTER, LOGIN_BUSY_RETRY_AFTER_SECONDS);
+        } else if (exception instanceof LoginThrottledException throttledException) {
+            // IP/계정별 시도 속도 초과: 비밀번호 검증 없이 거절 (429)
+            errorCode = ErrorCode.LOGIN_THROTTLED;
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttledException.getRetryAfterSeconds()));
+        }
+
+        try {
+            errorResponseWriter.write(response, errorCode);
+        } catch (IOException e) {
+            log.error("Error writing JSON error response", e);
+        }
+    }
+}
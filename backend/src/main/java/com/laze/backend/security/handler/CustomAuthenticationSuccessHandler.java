@@ -3,6 +3,8 @@ package com.laze.backend.security.handler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.laze.backend.common.dto.ApiResponse;
 import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.token.AuthTokenService;
+import com.laze.backend.security.token.AuthenticationMode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,6 +12,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
@@ -27,7 +31,13 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class CustomAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
+    public static final String AUTH_TOKEN_HEADER = "X-Auth-Token";
+
     private final ObjectMapper objectMapper;
+    private final AuthTokenService authTokenService;
+
+    @Value("${security.auth.mode:SESSION}")
+    private AuthenticationMode authenticationMode;
 
     /**
      * 로그인 성공 시 호출되는 메소드.
@@ -40,23 +50,13 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
 
-        // 세션 확인 및 로깅
-        HttpSession session = request.getSession(false);
-        String sessionId = session != null ? session.getId() : "No Session";
-        log.info("Login successful. Authentication Principal: {}, Session ID: {}",
-            authentication.getName(), sessionId);
-
-        // 세션이 없으면 생성 (명시적으로)
-        if (session == null) {
-            session = request.getSession(true);
-            log.info("Created new session with ID: {}", session.getId());
+        if (authenticationMode == AuthenticationMode.TOKEN) {
+            // 무상태 모드: 세션 대신 서명 토큰 발급 (쿠키 + 헤더)
+            issueToken(response, authentication);
+        } else {
+            saveToSession(request, authentication);
         }
 
-        // SecurityContext를 세션에 명시적으로 저장 (핵심 수정 부분)
-        SecurityContext securityContext = SecurityContextHolder.getContext();
-        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
-        log.info("SecurityContext saved to session. Authentication: {}", authentication.getName());
-
         log.info("Login successful. Authentication Principal: {}", authentication.getName());
 
         Object principal = authentication.getPrincipal();
@@ -87,4 +87,32 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             response.getWriter().write("{\"success\":false, \"code\":\"AUTH_ERROR\", \"message\":\"Invalid user details type after authentication.\"}");
         }
     }
+
+    private void issueToken(HttpServletResponse response, Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            String token = authTokenService.issue(userDetails);
+            response.addHeader(HttpHeaders.SET_COOKIE, authTokenService.tokenCookie(token).toString());
+            response.setHeader(AUTH_TOKEN_HEADER, token);
+            log.info("Auth token issued. Authentication: {}", authentication.getName());
+        }
+    }
+
+    private void saveToSession(HttpServletRequest request, Authentication authentication) {
+        // 세션 확인 및 로깅
+        HttpSession session = request.getSession(false);
+        String sessionId = session != null ? session.getId() : "No Session";
+        log.info("Login successful. Authentication Principal: {}, Session ID: {}",
+            authentication.getName(), sessionId);
+
+        // 세션이 없으면 생성 (명시적으로)
+        if (session == null) {
+            session = request.getSession(true);
+            log.info("Created new session with ID: {}", session.getId());
+        }
+
+        // SecurityContext를 세션에 명시적으로 저장 (핵심 수정 부분)
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+        log.info("SecurityContext saved to session. Authentication: {}", authentication.getName());
+    }
 }
@@ -0,0 +1,17 @@
+package com.laze.backend.security.mapper;
+
+import com.laze.backend.security.reference.ChangeLogEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ChangeLogMapper {
+    // afterSeq 이후 변경 로그 (CHG_SEQ 순, 최대 limit 건)
+    List<ChangeLogEntry> findAfter(@Param("afterSeq") long afterSeq, @Param("limit") int limit);
+
+    // 보관 기간이 지난 변경 로그 삭제
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
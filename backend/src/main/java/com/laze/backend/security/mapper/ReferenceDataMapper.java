@@ -0,0 +1,20 @@
+package com.laze.backend.security.mapper;
+
+import com.laze.backend.security.reference.AuthGroupMenu;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface ReferenceDataMapper {
+    // 활성 회사 전체
+    List<CompanyInfo> findActiveCompanies();
+
+    // 활성 부서 전체
+    List<DepartmentInfo> findActiveDepartments();
+
+    // 활성 권한 그룹의 활성 메뉴 매핑 전체
+    List<AuthGroupMenu> findActiveAuthGroupMenus();
+}
@@ -0,0 +1,38 @@
+package com.laze.backend.security.mapper;
+
+import com.laze.backend.security.dto.SessionRegistryEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface SessionRegistryMapper {
+    // 세션 등록 (로그인 시)
+    void insertSession(SessionRegistryEntry entry);
+
+    // 세션 단건 조회 (노드 로컬 캐시에 없는 세션)
+    Optional<SessionRegistryEntry> findBySessionId(@Param("sessionId") String sessionId);
+
+    // 사용자별 세션 목록 (동시 세션 수 확인)
+    List<SessionRegistryEntry> findByPrincipalKey(@Param("principalKey") String principalKey);
+
+    // 세션이 있는 사용자 키 목록
+    List<String> findAllPrincipalKeys();
+
+    // 지정 시각 이후 만료 처리된 세션 ID 목록 (다른 노드의 만료 반영용)
+    List<String> findExpiredSessionIdsSince(@Param("since") long since);
+
+    // 세션 만료 처리
+    void expireSession(@Param("sessionId") String sessionId, @Param("expiredTime") long expiredTime);
+
+    // 마지막 요청 시각 갱신 (배치)
+    void updateLastRequestTime(@Param("sessionId") String sessionId, @Param("lastRequestTime") long lastRequestTime);
+
+    // 세션 삭제
+    void deleteSession(@Param("sessionId") String sessionId);
+
+    // 마지막 요청이 오래된 세션 삭제 (노드 비정상 종료 등으로 남은 행 정리)
+    int deleteStaleSessions(@Param("before") long before);
+}
@@ -0,0 +1,219 @@
+package com.laze.backend.security.permission;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메뉴 ID(String) -> 정수 인덱스 전역 인터닝 레지스트리.
+ *
+ * 메뉴 권한을 세션마다 HashSet&lt;String&gt; 으로 들고 있지 않고 비트셋(MenuPermissionSet)으로 표현하기 위해
+ * 각 메뉴 ID 에 0 부터 증가하는 인덱스를 부여한다. 인덱스는 JVM(노드) 내에서만 유효하므로
+ * 직렬화/외부 전송 시에는 반드시 메뉴 ID 문자열로 변환해야 한다.
+ *
+ * - 등록(intern)은 드물게(로그인/메뉴 적재 시) 발생하므로 synchronized + copy-on-write
+ * - 조회(indexOf)는 요청마다 발생하므로 volatile 스냅샷에 대한 lock-free 오픈 어드레싱 탐색
+ * - indexOf(CharSequence, start, end) 는 URI 일부 구간을 substring 없이 조회 (할당 없음)
+ */
+public final class MenuIdRegistry {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final MenuIdRegistry GLOBAL = new MenuIdRegistry();
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** 조회용 불변 스냅샷 (교체는 synchronized 구간에서만) */
+    private volatile Table table = new Table(new String[INITIAL_CAPACITY * 2], new int[INITIAL_CAPACITY * 2], new String[INITIAL_CAPACITY], 0);
+
+    public static MenuIdRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * 메뉴 ID 의 인덱스를 반환하며, 처음 보는 ID 이면 새 인덱스를 부여한다.
+     * @param menuId 메뉴 ID (null 불가)
+     * @return 0 이상의 인덱스
+     */
+    public int intern(String menuId) {
+        int index = indexOf(menuId);
+        if (index != NOT_FOUND) {
+            return index;
+        }
+        synchronized (this) {
+            Table current = table;
+            index = current.find(menuId, 0, menuId.length(), menuId.hashCode());
+            if (index != NOT_FOUND) {
+                return index;
+            }
+            table = current.withAll(List.of(menuId));
+            return current.size;
+        }
+    }
+
+    /**
+     * 여러 메뉴 ID 를 한 번에 인터닝 (미등록 ID 가 여러 개여도 스냅샷은 한 번만 재구성)
+     * @param menuIds 메뉴 ID 목록 (null 요소는 무시)
+     * @return 각 메뉴 ID 의 인덱스 (null 제외, 입력 순서)
+     */
+    public int[] internAll(Collection<String> menuIds) {
+        int[] result = new int[menuIds.size()];
+        int count = 0;
+        List<String> missing = null;
+        for (String menuId : menuIds) {
+            if (menuId == null) {
+                continue;
+            }
+            int index = indexOf(menuId);
+            if (index == NOT_FOUND) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(menuId);
+            }
+            result[count++] = index;
+        }
+        if (missing != null) {
+            synchronized (this) {
+                Table current = table;
+                Set<String> toAdd = new LinkedHashSet<>();
+                for (String menuId : missing) {
+                    if (current.find(menuId, 0, menuId.length(), menuId.hashCode()) == NOT_FOUND) {
+                        toAdd.add(menuId);
+                    }
+                }
+                if (!toAdd.isEmpty()) {
+                    table = current.withAll(toAdd);
+                }
+            }
+            count = 0;
+            for (String menuId : menuIds) {
+                if (menuId != null) {
+                    result[count++] = indexOf(menuId);
+                }
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 등록된 메뉴 ID 의 인덱스 조회 (미등록 시 NOT_FOUND, 등록하지 않음)
+     */
+    public int indexOf(String menuId) {
+        if (menuId == null) {
+            return NOT_FOUND;
+        }
+        return table.find(menuId, 0, menuId.length(), menuId.hashCode());
+    }
+
+    /**
+     * 문자열 일부 구간 [start, end) 를 메뉴 ID 로 보고 인덱스 조회 (substring 할당 없음)
+     */
+    public int indexOf(CharSequence source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return table.find(source, start, end, hash);
+    }
+
+    /**
+     * 인덱스에 해당하는 메뉴 ID
+     */
+    public String idAt(int index) {
+        Table current = table;
+        if (index < 0 || index >= current.size) {
+            throw new IndexOutOfBoundsException("Unknown menu index: " + index);
+        }
+        return current.ids[index];
+    }
+
+    /**
+     * 현재까지 등록된 메뉴 ID 수 (= 다음에 부여될 인덱스)
+     */
+    public int size() {
+        return table.size;
+    }
+
+    /**
+     * 오픈 어드레싱 해시 테이블 스냅샷. 생성 후 변경하지 않는다.
+     */
+    private static final class Table {
+        private final String[] keys;   // 슬롯별 메뉴 ID (capacity = 2의 거듭제곱)
+        private final int[] indexes;   // 슬롯별 인덱스
+        private final String[] ids;    // 인덱스 -> 메뉴 ID
+        private final int size;
+
+        private Table(String[] keys, int[] indexes, String[] ids, int size) {
+            this.keys = keys;
+            this.indexes = indexes;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        private int find(CharSequence source, int start, int end, int hash) {
+            int mask = keys.length - 1;
+            int length = end - start;
+            for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+                String key = keys[slot];
+                if (key == null) {
+                    return NOT_FOUND;
+                }
+                if (key.length() == length && regionEquals(key, source, start)) {
+                    return indexes[slot];
+                }
+            }
+        }
+
+        private Table withAll(Collection<String> menuIds) {
+            int newSize = size + menuIds.size();
+            int idCapacity = ids.length;
+            while (newSize > idCapacity) {
+                idCapacity <<= 1;
+            }
+            String[] newIds = Arrays.copyOf(ids, idCapacity);
+            int next = size;
+            for (String menuId : menuIds) {
+                newIds[next++] = menuId;
+            }
+
+            // 적재율 50% 이하 유지
+            int capacity = keys.length;
+            while (newSize * 2 > capacity) {
+                capacity <<= 1;
+            }
+            String[] newKeys = new String[capacity];
+            int[] newIndexes = new int[capacity];
+            for (int i = 0; i < newSize; i++) {
+                insert(newKeys, newIndexes, newIds[i], i);
+            }
+            return new Table(newKeys, newIndexes, newIds, newSize);
+        }
+
+        private static void insert(String[] keys, int[] indexes, String key, int index) {
+            int mask = keys.length - 1;
+            int slot = spread(key.hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            indexes[slot] = index;
+        }
+
+        private static boolean regionEquals(String key, CharSequence source, int start) {
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != source.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
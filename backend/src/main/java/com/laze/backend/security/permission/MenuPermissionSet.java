@@ -0,0 +1,196 @@
+package com.laze.backend.security.permission;
+
+import java.io.ObjectInputStream;
+import java.io.InvalidObjectException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * 비트셋 기반 불변 메뉴 권한 집합.
+ *
+ * MenuIdRegistry 인덱스 위치의 비트로 메뉴 접근 권한을 표현한다.
+ * 권한 확인은 비트 하나 검사(containsIndex)이며, 메뉴 수가 수천 개여도 세션당 수백 바이트 수준이다.
+ * 기존 코드와의 호환을 위해 Set&lt;String&gt; 읽기 전용 뷰로도 동작한다.
+ *
+ * 인덱스는 노드 로컬 값이므로 Java 직렬화 시에는 메뉴 ID 배열로 변환(writeReplace)하고,
+ * 역직렬화 시 다시 인터닝하여 복원한다.
+ */
+public final class MenuPermissionSet extends AbstractSet<String> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final MenuPermissionSet EMPTY = new MenuPermissionSet(new long[0], 0);
+
+    private final transient long[] words;
+    private final transient int size;
+
+    private MenuPermissionSet(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * 메뉴 ID 컬렉션으로 권한 집합 생성 (전역 레지스트리에 인터닝)
+     */
+    public static MenuPermissionSet of(Collection<String> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return EMPTY;
+        }
+        if (menuIds instanceof MenuPermissionSet permissionSet) {
+            return permissionSet;
+        }
+        int[] indexes = MenuIdRegistry.global().internAll(menuIds);
+        if (indexes.length == 0) {
+            return EMPTY;
+        }
+        int max = 0;
+        for (int index : indexes) {
+            max = Math.max(max, index);
+        }
+        long[] words = new long[(max >>> 6) + 1];
+        int size = 0;
+        for (int index : indexes) {
+            long bit = 1L << index;
+            if ((words[index >>> 6] & bit) == 0) {
+                words[index >>> 6] |= bit;
+                size++;
+            }
+        }
+        return new MenuPermissionSet(words, size);
+    }
+
+    /**
+     * 여러 권한 집합의 합집합
+     */
+    public static MenuPermissionSet union(Collection<MenuPermissionSet> sets) {
+        int length = 0;
+        for (MenuPermissionSet set : sets) {
+            length = Math.max(length, set.words.length);
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        long[] words = new long[length];
+        for (MenuPermissionSet set : sets) {
+            for (int i = 0; i < set.words.length; i++) {
+                words[i] |= set.words[i];
+            }
+        }
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return new MenuPermissionSet(words, size);
+    }
+
+    /**
+     * 인덱스 기반 권한 확인 (비트 검사 1회)
+     * @param menuIndex MenuIdRegistry 인덱스
+     */
+    public boolean containsIndex(int menuIndex) {
+        if (menuIndex < 0) {
+            return false;
+        }
+        int wordIndex = menuIndex >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << menuIndex)) != 0;
+    }
+
+    /**
+     * 권한이 있는 메뉴 인덱스(MenuIdRegistry) 를 오름차순으로 순회 (메뉴 ID 변환 없음)
+     */
+    public void forEachIndex(IntConsumer action) {
+        for (int index = nextSetBit(0); index >= 0; index = nextSetBit(index + 1)) {
+            action.accept(index);
+        }
+    }
+
+    /**
+     * 내용 비교용 키 (같은 메뉴 구성이면 같은 문자열, 노드 로컬 인덱스 기준이므로 노드 안에서만 유효)
+     */
+    public String contentKey() {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        StringBuilder key = new StringBuilder(length * 17);
+        for (int i = 0; i < length; i++) {
+            key.append(Long.toHexString(words[i])).append('.');
+        }
+        return key.toString();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String menuId && containsIndex(MenuIdRegistry.global().indexOf(menuId));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next = nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                String menuId = MenuIdRegistry.global().idAt(next);
+                next = nextSetBit(next + 1);
+                return menuId;
+            }
+        };
+    }
+
+    private int nextSetBit(int fromIndex) {
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    // --- 직렬화: 노드 로컬 인덱스 대신 메뉴 ID 배열로 기록 ---
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedForm(toArray(new String[0]));
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required");
+    }
+
+    private record SerializedForm(String[] menuIds) implements Serializable {
+        @Serial
+        private Object readResolve() {
+            return MenuPermissionSet.of(Arrays.asList(menuIds));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.laze.backend.security.permission;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 이후 권한이 바뀐 사용자 / 권한 그룹 표시 (노드 전역).
+ *
+ * ChangeLogPoller 가 FW_CHG_LOG 의 변경 번호(CHG_SEQ)로 사용자(FW_AUTH_EMP)와 권한 그룹(FW_AUTH_GRP, FW_AUTH_MENU)을 표시하고,
+ * 그 이하 번호가 모두 적용된 마지막 번호를 appliedSeq 로 올린다. (늦게 커밋되는 번호를 기다리는 구간은 포함하지 않음) 로그인 사용자는 로그인(또는 권한 갱신) 시점의 appliedSeq 를 기억하고 있다가
+ * 그보다 큰 번호로 표시된 경우 다음 요청에서 권한을 다시 조회한다. (세션: AuthorityRefreshFilter, 토큰: 재로그인)
+ *
+ * 요청 경로의 판단은 대부분 volatile 비교 1회로 끝난다. (기억한 번호 >= 가장 최근 표시 번호)
+ * 변경 감지를 사용하지 않으면 표시가 없으므로 항상 false 이다.
+ */
+public final class PermissionChanges {
+
+    private static final PermissionChanges GLOBAL = new PermissionChanges();
+
+    private final Map<String, Mark> userMarks = new ConcurrentHashMap<>();  // cmpCd:empId -> 표시
+    private final Map<String, Mark> groupMarks = new ConcurrentHashMap<>(); // cmpCd:authGrpId -> 표시
+    private volatile long appliedSeq;   // 적용을 마친 마지막 변경 번호
+    private volatile long latestMarkSeq; // 가장 최근 표시 번호
+
+    public static PermissionChanges global() {
+        return GLOBAL;
+    }
+
+    /**
+     * 이하 번호가 모두 적용된 마지막 변경 번호 (로그인/권한 갱신 시 기억할 값, 변경 감지 미사용 시 0)
+     */
+    public long appliedSeq() {
+        return appliedSeq;
+    }
+
+    /**
+     * 사용자 권한 그룹 변경 표시
+     */
+    public void markUser(String cmpCd, String empId, long seq) {
+        mark(userMarks, key(cmpCd, empId), seq);
+    }
+
+    /**
+     * 권한 그룹 (메뉴 매핑/사용 여부) 변경 표시
+     */
+    public void markGroup(String cmpCd, String authGrpId, long seq) {
+        mark(groupMarks, key(cmpCd, authGrpId), seq);
+    }
+
+    /**
+     * 변경 번호 seq 이하 모두 적용 완료 (표시 후 호출)
+     */
+    public synchronized void advance(long seq) {
+        if (seq > appliedSeq) {
+            appliedSeq = seq;
+        }
+    }
+
+    /**
+     * 권한을 다시 조회해야 하는지 확인
+     * @param seq 사용자가 기억한 변경 번호 (로그인/권한 갱신 시점의 appliedSeq)
+     * @param authorities 사용자의 권한 그룹
+     * @return seq 이후 사용자 또는 권한 그룹이 표시되었으면 true
+     */
+    public boolean isStale(String cmpCd, String empId, Collection<? extends GrantedAuthority> authorities, long seq) {
+        if (seq >= latestMarkSeq) {
+            return false;
+        }
+        Mark user = userMarks.get(key(cmpCd, empId));
+        if (user != null && user.seq > seq) {
+            return true;
+        }
+        if (authorities != null && !groupMarks.isEmpty()) {
+            for (GrantedAuthority authority : authorities) {
+                Mark group = groupMarks.get(key(cmpCd, authority.getAuthority()));
+                if (group != null && group.seq > seq) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 오래된 표시 제거 (그 사이 요청이 없던 세션/토큰은 이미 만료되었다고 보는 보관 기간 기준)
+     * @return 제거한 표시 수
+     */
+    public int evictMarkedBefore(long epochMillis) {
+        int before = userMarks.size() + groupMarks.size();
+        userMarks.values().removeIf(mark -> mark.markedAt < epochMillis);
+        groupMarks.values().removeIf(mark -> mark.markedAt < epochMillis);
+        return before - userMarks.size() - groupMarks.size();
+    }
+
+    public int markCount() {
+        return userMarks.size() + groupMarks.size();
+    }
+
+    private synchronized void mark(Map<String, Mark> marks, String key, long seq) {
+        marks.merge(key, new Mark(seq, System.currentTimeMillis()), (previous, current) -> previous.seq >= current.seq ? previous : current);
+        if (seq > latestMarkSeq) {
+            latestMarkSeq = seq;
+        }
+    }
+
+    private static String key(String cmpCd, String code) {
+        return cmpCd + ':' + code;
+    }
+
+    private record Mark(long seq, long markedAt) {
+    }
+}
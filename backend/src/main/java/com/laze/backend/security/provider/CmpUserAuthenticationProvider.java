@@ -2,8 +2,18 @@ package com.laze.backend.security.provider;
 
 import com.laze.backend.security.dto.CustomUserDetails;
 import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.exception.LoginBusyException;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.permission.PermissionChanges;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.security.service.PasswordFailureCounter;
+import com.laze.backend.security.service.PasswordRehashService;
+import com.laze.backend.security.service.PasswordVerificationExecutor;
+import com.laze.backend.security.service.UserInfoLoader;
+import com.laze.backend.security.throttle.LoginThrottle;
 import com.laze.backend.security.token.CmpUserAuthenticationToken;
-import com.laze.backend.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +26,6 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -25,7 +34,6 @@ import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,8 +41,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CmpUserAuthenticationProvider implements AuthenticationProvider {
 
-    private final UserMapper userMapper; // DB 조회를 위해 Mapper 직접 주입
-    private final PasswordEncoder passwordEncoder; // 비밀번호 비교를 위해 Encoder 주입
+    private final PasswordFailureCounter passwordFailureCounter; // 비밀번호 오류 횟수 (메모리 누적 후 배치 반영)
+    private final UserInfoLoader userInfoLoader; // 로그인 사용자 정보 조회 (JOIN/SPLIT 모드)
+    private final PasswordVerificationExecutor passwordVerificationExecutor; // 비밀번호 비교는 전용 풀에서 실행 (요청 스레드 점유 방지)
+    private final LoginThrottle loginThrottle; // 잠김/미존재 계정 부정 캐시 기록
+    private final PasswordRehashService passwordRehashService; // 목표 cost 보다 낮은 해시는 로그인 성공 시 재해싱
 
     // Todo application.yml 설정 필요
     @Value("${security.account.lockout-threshold:5}")
@@ -59,31 +70,43 @@ public class CmpUserAuthenticationProvider implements AuthenticationProvider {
 
         log.debug("Attempting authentication for cmpCd: {}, empId: {}", cmpCd, empId);
 
+        // 권한 변경 감지 번호는 조회 전에 기억 (조회 이후 변경분은 다음 요청에서 갱신)
+        long authoritySeq = PermissionChanges.global().appliedSeq();
+
         try {
-            // 1. UserMapper를 사용하여 cmpCd와 empId로 DB에서 사용자 정보 조회
-            UserInfo userInfo = userMapper.findUserInfoByCmpCdAndEmpId(cmpCd, empId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with cmpCd: " + cmpCd + ", empId: " + empId));
+            // 1. UserInfoLoader를 사용하여 cmpCd와 empId로 DB에서 사용자 정보 조회
+            UserInfo userInfo = userInfoLoader.load(cmpCd, empId).orElse(null);
+            if (userInfo == null) {
+                loginThrottle.markUnknown(cmpCd, empId);
+                throw new UsernameNotFoundException("User not found with cmpCd: " + cmpCd + ", empId: " + empId);
+            }
 
-            // 2. 비밀번호 검증
-            if (!passwordEncoder.matches(presentedPassword, userInfo.getPwno())) {
+            // 2. 잠금 확인은 비밀번호 검증 전에 수행 (잠긴 계정에 BCrypt 비용을 쓰지 않음, 실패 횟수는 DB 미반영분 포함)
+            int failureCount = passwordFailureCounter.currentCount(cmpCd, empId, userInfo.getPwnoErrorRtrv());
+            boolean accountNonLocked = failureCount < lockoutThreshold;
+            if (!accountNonLocked) {
+                loginThrottle.markLocked(cmpCd, empId);
+                throw new LockedException("User account is locked");
+            }
+
+            // 3. 비밀번호 검증 (전용 풀 포화 시 LoginBusyException)
+            if (!passwordVerificationExecutor.matches(presentedPassword, userInfo.getPwno())) {
                 log.warn("Authentication failed for empId: {}. Bad credentials.", empId);
-                userMapper.incrementPasswordFailureCount(cmpCd, empId);
+                passwordFailureCounter.recordFailure(cmpCd, empId); // DB 반영은 주기적 배치
+                if (failureCount + 1 >= lockoutThreshold) {
+                    loginThrottle.markLocked(cmpCd, empId);
+                }
                 throw new BadCredentialsException("Invalid username or password");
             }
 
-            // 3. UserDetails 상태 필드 계산
+            // 4. UserDetails 상태 필드 계산 및 계정 상태 검증
             boolean enabled = !"Y".equalsIgnoreCase(userInfo.getRetmYn());
-            boolean accountNonLocked = userInfo.getPwnoErrorRtrv() == null || userInfo.getPwnoErrorRtrv() < lockoutThreshold;
             boolean credentialsNonExpired = checkPasswordNotExpired(userInfo.getPwnoChgDt());
             boolean accountNonExpired = true;
 
-            // 4. 계정 상태 검증
             if (!enabled) {
                 throw new DisabledException("User account is disabled(retired)");
             }
-            if (!accountNonLocked) {
-                throw new LockedException("User account is locked");
-            }
             if (!accountNonExpired) {
                 throw new BadCredentialsException("User account has expired");
             }
@@ -94,18 +117,21 @@ public class CmpUserAuthenticationProvider implements AuthenticationProvider {
             // 5. 권한 정보 조회 및 변환
             List<GrantedAuthority> authorities = mapToGrantedAuthorities(userInfo.getAuthorityGroupIds());
 
-            // 6. 접근 가능 메뉴 ID 목록 조회
-            Set<String> accessibleMenuIds = userInfo.getAccessibleMenuIds() != null ? userInfo.getAccessibleMenuIds() : Collections.emptySet();
+            // 6~7. 인증 성공! CustomUserDetails 객체 생성 (회사/부서/메뉴 권한은 참조 데이터 공유 인스턴스 참조)
+            CustomUserDetails userDetails = buildCustomUserDetails(userInfo, authorities, enabled, accountNonExpired, accountNonLocked, credentialsNonExpired, authoritySeq);
 
-            // 7. 인증 성공! CustomUserDetails 객체 생성
-            CustomUserDetails userDetails = buildCustomUserDetails(userInfo, authorities, enabled, accountNonExpired, accountNonLocked, credentialsNonExpired, accessibleMenuIds);
+            // 8. 실패 횟수 초기화 예약 (실패 이력이 있는 경우만)
+            passwordFailureCounter.recordSuccess(cmpCd, empId, failureCount);
+
+            // 9. 저장된 해시의 BCrypt cost 가 목표보다 낮으면 재해싱 예약 (비동기)
+            passwordRehashService.rehashIfNeeded(cmpCd, empId, presentedPassword, userInfo.getPwno());
 
             log.info("Authentication successful for empId: {}", empId);
 
-            // 8. 인증된 CmpUserAuthenticationToken 반환 (비밀번호는 null 처리)
+            // 10. 인증된 CmpUserAuthenticationToken 반환 (비밀번호는 null 처리)
             return new CmpUserAuthenticationToken(cmpCd, userDetails, null, userDetails.getAuthorities());
 
-        } catch (UsernameNotFoundException | BadCredentialsException | DisabledException | LockedException e) {
+        } catch (UsernameNotFoundException | BadCredentialsException | DisabledException | LockedException | LoginBusyException e) {
             // 로그에 예외 종류 기록
             log.warn("Authentication failed for empId: {}. Reason: {}", empId, e.getMessage());
             throw e; // Spring Security가 처리
@@ -127,9 +153,30 @@ public class CmpUserAuthenticationProvider implements AuthenticationProvider {
 
     // --- 헬퍼 메소드들 (CustomUserDetailsService에서 가져오거나 유사하게 구현) ---
 
-    private CustomUserDetails buildCustomUserDetails(UserInfo userInfo, Collection<? extends GrantedAuthority> authorities,
-                                                     boolean enabled, boolean accountNonExpired, boolean accountNonLocked, boolean credentialsNonExpired,
-                                                     Set<String> accessibleMenuIds) {
+    private CustomUserDetails buildCustomUserDetails(UserInfo userInfo, List<GrantedAuthority> authorities,
+                                                     boolean enabled, boolean accountNonExpired,
+                                                     boolean accountNonLocked, boolean credentialsNonExpired, long authoritySeq) {
+        ReferenceData referenceData = ReferenceData.global();
+        long referenceVersion = referenceData.version();
+        String cmpCd = userInfo.getCmpCd();
+
+        // 참조 데이터에 없으면(미적재/갱신 전 신규 회사·부서) 조회 결과로 개별 생성
+        CompanyInfo company = referenceData.company(cmpCd);
+        if (company == null) {
+            company = new CompanyInfo(cmpCd, userInfo.getCmpNm(), userInfo.getBizcpRegNo(), userInfo.getCeoNm(),
+                userInfo.getRprsTelNo(), userInfo.getPostNo(), userInfo.getAddr());
+        }
+        DepartmentInfo department = referenceData.department(cmpCd, userInfo.getDeptCd());
+        if (department == null) {
+            department = new DepartmentInfo(cmpCd, userInfo.getDeptCd(), userInfo.getDeptNm(), userInfo.getHqCd(),
+                userInfo.getHqNm(), userInfo.getDpldEmpId());
+        }
+
+        // 메뉴 권한: 조회 결과가 있으면(JOIN/SPLIT) 그대로, 없으면(REFERENCE) 권한 그룹 조합의 공유 인스턴스
+        MenuPermissionSet accessibleMenuIds = userInfo.getAccessibleMenuIds() != null
+            ? MenuPermissionSet.of(userInfo.getAccessibleMenuIds())
+            : referenceData.menusOf(cmpCd, userInfo.getAuthorityGroupIds());
+
         return CustomUserDetails.builder()
             .empId(userInfo.getEmpId())
             .password(userInfo.getPwno())
@@ -138,7 +185,7 @@ public class CmpUserAuthenticationProvider implements AuthenticationProvider {
             .accountNonExpired(accountNonExpired)
             .accountNonLocked(accountNonLocked)
             .credentialsNonExpired(credentialsNonExpired)
-            .cmpCd(userInfo.getCmpCd())
+            .cmpCd(cmpCd)
             .empNm(userInfo.getEmpNm())
             .deptCd(userInfo.getDeptCd())
             .jobclsCd(userInfo.getJobclsCd())
@@ -146,17 +193,11 @@ public class CmpUserAuthenticationProvider implements AuthenticationProvider {
             .telNo(userInfo.getTelNo())
             .hpNo(userInfo.getHpNo())
             .mail(userInfo.getMail())
-            .cmpNm(userInfo.getCmpNm())
-            .bizcpRegNo(userInfo.getBizcpRegNo())
-            .ceoNm(userInfo.getCeoNm())
-            .rprsTelNo(userInfo.getRprsTelNo())
-            .postNo(userInfo.getPostNo())
-            .addr(userInfo.getAddr())
-            .deptNm(userInfo.getDeptNm())
-            .hqCd(userInfo.getHqCd())
-            .hqNm(userInfo.getHqNm())
-            .dpldEmpId(userInfo.getDpldEmpId())
-            .accessibleMenuIds(accessibleMenuIds)
+            .company(company)
+            .department(department)
+            .accessibleMenuIds(accessibleMenuIds != null ? accessibleMenuIds : MenuPermissionSet.EMPTY)
+            .referenceVersion(referenceVersion)
+            .authoritySeq(authoritySeq)
             .build();
     }
 
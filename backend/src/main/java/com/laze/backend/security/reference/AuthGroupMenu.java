@@ -0,0 +1,7 @@
+package com.laze.backend.security.reference;
+
+/**
+ * 권한 그룹 - 메뉴 매핑 1건 (활성 권한 그룹의 활성 메뉴 매핑만 조회)
+ */
+public record AuthGroupMenu(String cmpCd, String authGrpId, String menuId) {
+}
@@ -0,0 +1,8 @@
+package com.laze.backend.security.reference;
+
+/**
+ * 메뉴/권한 변경 로그 1건 (FW_CHG_LOG, 트리거 기록)
+ * @param tblNm 변경 테이블 (FW_MENU, FW_AUTH_GRP, FW_AUTH_MENU, FW_AUTH_EMP)
+ */
+public record ChangeLogEntry(long chgSeq, String tblNm, String cmpCd, String authGrpId, String empId) {
+}
@@ -0,0 +1,179 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.mapper.ChangeLogMapper;
+import com.laze.backend.security.permission.PermissionChanges;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 메뉴/권한 변경 감지 (security.change-log.enabled=true, db/mariadb/fw-change-log.sql).
+ *
+ * security.change-log.poll-interval-ms 주기로 FW_CHG_LOG 를 마지막으로 읽은 CHG_SEQ 이후만 조회한다. (변경이 없으면 PK 범위 조회 0건)
+ * 변경이 있으면 재기동 없이 다음을 수행한다.
+ * - FW_AUTH_GRP / FW_AUTH_MENU : 참조 데이터 재적재 (바뀐 경우 MenuChangedEvent -> 메뉴 그래프/트리 캐시 갱신) + 권한 그룹 표시
+ * - FW_MENU                    : MenuChangedEvent 발행 (메뉴 그래프 재적재, 트리 캐시 무효화)
+ * - FW_AUTH_EMP                : 사용자 표시
+ * 표시된 사용자/권한 그룹의 세션은 다음 요청에서 권한을 다시 조회한다. (PermissionChanges)
+ *
+ * AUTO_INCREMENT 번호는 커밋 순서와 다를 수 있으므로 읽은 지 commit-lag-ms 가 지나지 않은 번호 이후는 매번 다시 읽고
+ * 이미 적용한 번호는 건너뛴다. 그 이전 번호까지를 적용 완료(PermissionChanges.appliedSeq)로 보고 로그인/권한 갱신 시 기억하게 하므로
+ * 늦게 커밋된 앞 번호의 변경도 놓치지 않는다. 기동 후 첫 조회는 보관 중인 로그 전체로 표시만 하고 재적재는 하지 않는다. (기동 시 전체 적재)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.change-log.enabled", havingValue = "true")
+public class ChangeLogPoller {
+
+    static final String FW_MENU = "FW_MENU";
+    static final String FW_AUTH_GRP = "FW_AUTH_GRP";
+    static final String FW_AUTH_MENU = "FW_AUTH_MENU";
+    static final String FW_AUTH_EMP = "FW_AUTH_EMP";
+
+    private final ChangeLogMapper changeLogMapper;
+    private final ReferenceDataLoader referenceDataLoader;
+    private final PermissionChanges permissionChanges;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${security.change-log.batch-size:500}")
+    private int batchSize = 500;
+    @Value("${security.change-log.commit-lag-ms:10000}")
+    private long commitLagMillis = 10_000;
+    @Value("${security.change-log.retention-hours:24}")
+    private long retentionHours = 24;
+    @Value("${security.change-log.mark-retention-minutes:480}")
+    private long markRetentionMinutes = 480;
+
+    private boolean initialized;
+    private long cursor; // 이 번호 이하는 모두 적용됨 (다시 읽지 않음)
+    private final TreeMap<Long, Long> recent = new TreeMap<>(); // cursor 이후 적용한 번호 -> 읽은 시각 (epoch ms)
+
+    @Autowired
+    public ChangeLogPoller(ChangeLogMapper changeLogMapper, ReferenceDataLoader referenceDataLoader,
+                           ApplicationEventPublisher eventPublisher) {
+        this(changeLogMapper, referenceDataLoader, PermissionChanges.global(), eventPublisher);
+    }
+
+    ChangeLogPoller(ChangeLogMapper changeLogMapper, ReferenceDataLoader referenceDataLoader,
+                    PermissionChanges permissionChanges, ApplicationEventPublisher eventPublisher) {
+        this.changeLogMapper = changeLogMapper;
+        this.referenceDataLoader = referenceDataLoader;
+        this.permissionChanges = permissionChanges;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${security.change-log.poll-interval-ms:2000}")
+    public void scheduledPoll() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.warn("Failed to poll change log after seq {}: {}", cursor, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 변경 로그 조회 및 적용
+     * @return 적용한 변경 로그 수
+     */
+    public synchronized int poll() {
+        int applied = 0;
+        long from = cursor;
+        List<ChangeLogEntry> entries;
+        do {
+            entries = changeLogMapper.findAfter(from, batchSize);
+            List<ChangeLogEntry> fresh = entries.stream().filter(entry -> !recent.containsKey(entry.chgSeq())).toList();
+            if (!fresh.isEmpty()) {
+                apply(fresh, !initialized);
+                long now = System.currentTimeMillis();
+                fresh.forEach(entry -> recent.put(entry.chgSeq(), now));
+                applied += fresh.size();
+            }
+            if (!entries.isEmpty()) {
+                from = entries.get(entries.size() - 1).chgSeq();
+            }
+        } while (entries.size() == batchSize);
+        advanceCursor();
+        permissionChanges.advance(cursor);
+
+        if (!initialized) {
+            initialized = true;
+            log.info("Change log polling started after seq {} ({} marks)", permissionChanges.appliedSeq(), permissionChanges.markCount());
+        }
+        return applied;
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 / 표시 정리 (여러 노드가 동시에 실행해도 무방)
+     */
+    @Scheduled(fixedDelayString = "${security.change-log.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        try {
+            int deleted = changeLogMapper.deleteBefore(LocalDateTime.now().minusHours(retentionHours));
+            int evicted = permissionChanges.evictMarkedBefore(System.currentTimeMillis() - Duration.ofMinutes(markRetentionMinutes).toMillis());
+            log.debug("Change log cleanup. deleted rows: {}, evicted marks: {}", deleted, evicted);
+        } catch (Exception e) {
+            log.warn("Failed to clean up change log: {}", e.getMessage());
+        }
+    }
+
+    private void apply(List<ChangeLogEntry> entries, boolean marksOnly) {
+        boolean menusChanged = false;
+        boolean groupsChanged = false;
+        long maxSeq = 0;
+        for (ChangeLogEntry entry : entries) {
+            maxSeq = Math.max(maxSeq, entry.chgSeq());
+            switch (entry.tblNm()) {
+                case FW_MENU -> menusChanged = true;
+                case FW_AUTH_GRP, FW_AUTH_MENU -> groupsChanged = true;
+                default -> { }
+            }
+        }
+
+        // 1. 재적재 먼저 (표시된 세션이 갱신할 때 새 참조 데이터를 쓰도록)
+        if (!marksOnly) {
+            if (groupsChanged) {
+                referenceDataLoader.refresh();
+            }
+            if (menusChanged) {
+                eventPublisher.publishEvent(new MenuChangedEvent("change log seq " + maxSeq));
+            }
+        }
+
+        // 2. 사용자/권한 그룹 표시 (적용 완료 번호는 cursor 이동 후 갱신)
+        for (ChangeLogEntry entry : entries) {
+            switch (entry.tblNm()) {
+                case FW_AUTH_GRP, FW_AUTH_MENU -> permissionChanges.markGroup(entry.cmpCd(), entry.authGrpId(), entry.chgSeq());
+                case FW_AUTH_EMP -> permissionChanges.markUser(entry.cmpCd(), entry.empId(), entry.chgSeq());
+                default -> { }
+            }
+        }
+        log.info("Applied {} change log entries up to seq {} (menus changed: {}, auth groups changed: {})",
+            entries.size(), maxSeq, menusChanged, groupsChanged);
+    }
+
+    /**
+     * 읽은 지 commit-lag-ms 가 지난 번호까지 cursor 이동 (그 사이 비어 있는 번호는 커밋되지 않은 것으로 봄)
+     */
+    private void advanceCursor() {
+        long threshold = System.currentTimeMillis() - commitLagMillis;
+        while (!recent.isEmpty()) {
+            Map.Entry<Long, Long> first = recent.firstEntry();
+            if (first.getValue() > threshold) {
+                break;
+            }
+            cursor = first.getKey();
+            recent.pollFirstEntry();
+        }
+    }
+}
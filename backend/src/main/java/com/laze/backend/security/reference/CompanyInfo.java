@@ -0,0 +1,14 @@
+package com.laze.backend.security.reference;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 회사(FW_CMP) 참조 정보. ReferenceData 스냅샷의 같은 회사 사용자 세션들이 하나의 인스턴스를 공유한다.
+ */
+public record CompanyInfo(String cmpCd, String cmpNm, String bizcpRegNo, String ceoNm,
+                          String rprsTelNo, String postNo, String addr) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
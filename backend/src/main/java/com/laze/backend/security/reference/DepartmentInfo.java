@@ -0,0 +1,14 @@
+package com.laze.backend.security.reference;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 부서(FW_DEPT) 참조 정보. ReferenceData 스냅샷의 같은 부서 사용자 세션들이 하나의 인스턴스를 공유한다.
+ */
+public record DepartmentInfo(String cmpCd, String deptCd, String deptNm, String hqCd,
+                             String hqNm, String dpldEmpId) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,196 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.security.permission.MenuPermissionSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사 / 부서 / 권한 그룹별 메뉴 참조 데이터의 버전 있는 불변 스냅샷 (노드 전역).
+ *
+ * 로그인 사용자(CustomUserDetails)는 회사/부서 정보와 메뉴 권한을 복사하지 않고 이 스냅샷의 인스턴스를 참조한다.
+ * 같은 회사/부서/권한 그룹 구성의 세션은 같은 객체를 공유하므로 세션당 메모리가 참조 몇 개 수준이 된다.
+ *
+ * - 갱신(replace)은 ReferenceDataLoader 가 전체 재조회 후 스냅샷을 통째로 교체하며, 내용이 바뀐 경우에만 버전을 올린다.
+ * - 세션은 참조한 버전을 기억하고 있다가 버전이 바뀌면 다음 접근 시 새 스냅샷에서 다시 찾는다. (관리자 변경 반영)
+ * - 버전 0 은 미적재 상태이며, 이때 조회 메소드는 null 을 반환한다.
+ */
+public final class ReferenceData {
+
+    private static final ReferenceData GLOBAL = new ReferenceData();
+
+    /** 권한 그룹 조합별 합집합 캐시 상한 (초과 시 초기화) */
+    private static final int MAX_UNION_ENTRIES = 10_000;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public static ReferenceData global() {
+        return GLOBAL;
+    }
+
+    /**
+     * 현재 스냅샷 버전 (미적재 시 0)
+     */
+    public long version() {
+        return snapshot.version;
+    }
+
+    public boolean isLoaded() {
+        return snapshot.version != 0;
+    }
+
+    /**
+     * 회사 정보 (미적재 또는 비활성/미존재 회사는 null)
+     */
+    public CompanyInfo company(String cmpCd) {
+        return cmpCd != null ? snapshot.companies.get(cmpCd) : null;
+    }
+
+    /**
+     * 부서 정보 (미적재 또는 비활성/미존재 부서는 null)
+     */
+    public DepartmentInfo department(String cmpCd, String deptCd) {
+        return cmpCd != null && deptCd != null ? snapshot.departments.get(key(cmpCd, deptCd)) : null;
+    }
+
+    /**
+     * 권한 그룹들의 메뉴 권한 합집합. 같은 (회사, 권한 그룹 조합) 은 같은 인스턴스를 반환한다.
+     * @param cmpCd 회사 코드
+     * @param authGrpIds 권한 그룹 ID (순서/중복 무관, 비활성 그룹은 메뉴 없음으로 취급)
+     * @return 메뉴 권한, 미적재 시 null
+     */
+    public MenuPermissionSet menusOf(String cmpCd, Collection<String> authGrpIds) {
+        Snapshot current = snapshot;
+        if (current.version == 0 || cmpCd == null) {
+            return null;
+        }
+        if (authGrpIds == null || authGrpIds.isEmpty()) {
+            return MenuPermissionSet.EMPTY;
+        }
+        TreeSet<String> sorted = new TreeSet<>(authGrpIds);
+        StringBuilder unionKey = new StringBuilder(cmpCd);
+        for (String authGrpId : sorted) {
+            unionKey.append(':').append(authGrpId);
+        }
+        return current.menus(cmpCd, sorted, unionKey.toString());
+    }
+
+    public int companyCount() {
+        return snapshot.companies.size();
+    }
+
+    public int departmentCount() {
+        return snapshot.departments.size();
+    }
+
+    public int authGroupCount() {
+        return snapshot.groupMenus.size();
+    }
+
+    /**
+     * 현재 스냅샷 내용을 파일 스냅샷으로 (ReferenceSnapshotStore 저장용, 한 시점의 스냅샷에서 모두 추출)
+     * @param savedAt 내용을 DB 에서 확인한 시각
+     * @param menus 함께 저장할 활성 메뉴
+     */
+    ReferenceSnapshot export(long savedAt, List<MenuDto> menus) {
+        Snapshot current = snapshot;
+        List<AuthGroupMenu> authGroupMenus = new ArrayList<>();
+        current.groupMenus.forEach((groupKey, menuIds) -> {
+            // key(cmpCd, authGrpId) 의 역변환 (회사 코드에는 ':' 가 없음)
+            int separator = groupKey.indexOf(':');
+            String cmpCd = groupKey.substring(0, separator);
+            String authGrpId = groupKey.substring(separator + 1);
+            for (String menuId : menuIds) {
+                authGroupMenus.add(new AuthGroupMenu(cmpCd, authGrpId, menuId));
+            }
+        });
+        return new ReferenceSnapshot(savedAt, List.copyOf(current.companies.values()),
+            List.copyOf(current.departments.values()), authGroupMenus, menus);
+    }
+
+    /**
+     * 전체 참조 데이터로 스냅샷 교체
+     * @return 내용이 바뀌어 버전이 올라갔으면 true (최초 적재 포함)
+     */
+    public synchronized boolean replace(Collection<CompanyInfo> companies, Collection<DepartmentInfo> departments,
+                                        Collection<AuthGroupMenu> authGroupMenus) {
+        Map<String, CompanyInfo> companyMap = new HashMap<>();
+        for (CompanyInfo company : companies) {
+            companyMap.put(company.cmpCd(), company);
+        }
+        Map<String, DepartmentInfo> departmentMap = new HashMap<>();
+        for (DepartmentInfo department : departments) {
+            departmentMap.put(key(department.cmpCd(), department.deptCd()), department);
+        }
+        Map<String, List<String>> menuIdsByGroup = new HashMap<>();
+        for (AuthGroupMenu row : authGroupMenus) {
+            menuIdsByGroup.computeIfAbsent(key(row.cmpCd(), row.authGrpId()), k -> new ArrayList<>()).add(row.menuId());
+        }
+        Map<String, MenuPermissionSet> groupMenus = new HashMap<>();
+        menuIdsByGroup.forEach((groupKey, menuIds) -> groupMenus.put(groupKey, MenuPermissionSet.of(menuIds)));
+
+        Snapshot current = snapshot;
+        if (current.version != 0 && current.sameContent(companyMap, departmentMap, groupMenus)) {
+            return false;
+        }
+        snapshot = new Snapshot(current.version + 1, Map.copyOf(companyMap), Map.copyOf(departmentMap), Map.copyOf(groupMenus));
+        return true;
+    }
+
+    private static String key(String cmpCd, String code) {
+        return cmpCd + ':' + code;
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of(), Map.of());
+
+        private final long version;
+        private final Map<String, CompanyInfo> companies;
+        private final Map<String, DepartmentInfo> departments;
+        private final Map<String, MenuPermissionSet> groupMenus; // cmpCd:authGrpId -> 메뉴
+        private final Map<String, MenuPermissionSet> unions = new ConcurrentHashMap<>(); // cmpCd:정렬된 그룹 ID -> 합집합
+
+        private Snapshot(long version, Map<String, CompanyInfo> companies, Map<String, DepartmentInfo> departments,
+                         Map<String, MenuPermissionSet> groupMenus) {
+            this.version = version;
+            this.companies = companies;
+            this.departments = departments;
+            this.groupMenus = groupMenus;
+        }
+
+        private MenuPermissionSet menus(String cmpCd, Collection<String> sortedGroups, String unionKey) {
+            MenuPermissionSet cached = unions.get(unionKey);
+            if (cached != null) {
+                return cached;
+            }
+            List<MenuPermissionSet> sets = new ArrayList<>(sortedGroups.size());
+            for (String authGrpId : sortedGroups) {
+                MenuPermissionSet menus = groupMenus.get(key(cmpCd, authGrpId));
+                if (menus != null) {
+                    sets.add(menus);
+                }
+            }
+            MenuPermissionSet union = sets.size() == 1 ? sets.get(0) : MenuPermissionSet.union(sets);
+            if (unions.size() >= MAX_UNION_ENTRIES) {
+                // 권한 그룹 조합 수는 보통 적으므로 상한 초과 시 단순 초기화
+                unions.clear();
+            }
+            MenuPermissionSet previous = unions.putIfAbsent(unionKey, union);
+            return previous != null ? previous : union;
+        }
+
+        private boolean sameContent(Map<String, CompanyInfo> companies, Map<String, DepartmentInfo> departments,
+                                    Map<String, MenuPermissionSet> groupMenus) {
+            return Objects.equals(this.companies, companies)
+                && Objects.equals(this.departments, departments)
+                && Objects.equals(this.groupMenus, groupMenus);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.mapper.ReferenceDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 참조 데이터(ReferenceData) 적재/갱신.
+ *
+ * 기동 직후와 security.reference.refresh-interval-ms 주기로 회사/부서/권한 그룹 메뉴 전체를 다시 조회하여
+ * 스냅샷을 교체한다. 관리자 화면에서 권한을 바꾼 직후에는 refresh() 를 호출(POST /api/admin/reference-data/refresh)하면
+ * 주기를 기다리지 않고 반영된다. 조회 실패 시 기존 스냅샷을 유지한다.
+ * 권한 그룹 메뉴 매핑이 바뀌었을 수 있으므로 스냅샷이 바뀌면 MenuChangedEvent 를 발행한다. (메뉴 트리 캐시 무효화)
+ * 기동 시 파일 스냅샷(ReferenceSnapshotStore)이 있으면 DB 조회 전에 그 내용으로 먼저 적재한다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataLoader {
+
+    private final ReferenceDataMapper referenceDataMapper;
+    private final ReferenceData referenceData;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile long loadedAt; // 마지막으로 DB 조회에 성공한 시각 (0: 아직 없음)
+
+    @Autowired
+    public ReferenceDataLoader(ReferenceDataMapper referenceDataMapper, ApplicationEventPublisher eventPublisher) {
+        this(referenceDataMapper, ReferenceData.global(), eventPublisher);
+    }
+
+    ReferenceDataLoader(ReferenceDataMapper referenceDataMapper, ReferenceData referenceData, ApplicationEventPublisher eventPublisher) {
+        this.referenceDataMapper = referenceDataMapper;
+        this.referenceData = referenceData;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${security.reference.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to refresh reference data, keeping version {}: {}", referenceData.version(), e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 재조회 후 스냅샷 교체
+     * @return 내용이 바뀌어 버전이 올라갔으면 true
+     */
+    public synchronized boolean refresh() {
+        List<CompanyInfo> companies = referenceDataMapper.findActiveCompanies();
+        List<DepartmentInfo> departments = referenceDataMapper.findActiveDepartments();
+        List<AuthGroupMenu> authGroupMenus = referenceDataMapper.findActiveAuthGroupMenus();
+        boolean changed = referenceData.replace(companies, departments, authGroupMenus);
+        loadedAt = System.currentTimeMillis();
+        if (changed) {
+            log.info("Reference data updated to version {}: {} companies, {} departments, {} auth groups",
+                referenceData.version(), referenceData.companyCount(), referenceData.departmentCount(), referenceData.authGroupCount());
+            eventPublisher.publishEvent(new MenuChangedEvent("reference data version " + referenceData.version()));
+        }
+        return changed;
+    }
+
+    /**
+     * 파일 스냅샷으로 적재 (기동 직후 DB 조회 전, 이미 적재되었으면 무시)
+     * @return 적재했으면 true
+     */
+    public synchronized boolean restore(ReferenceSnapshot snapshot) {
+        if (referenceData.isLoaded()) {
+            return false;
+        }
+        referenceData.replace(snapshot.companies(), snapshot.departments(), snapshot.authGroupMenus());
+        return true;
+    }
+
+    /**
+     * 마지막으로 DB 조회에 성공한 시각 (epoch millis, 파일 스냅샷으로만 적재된 상태면 0)
+     */
+    public long loadedAt() {
+        return loadedAt;
+    }
+
+    public ReferenceData getReferenceData() {
+        return referenceData;
+    }
+}
@@ -0,0 +1,250 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.dto.MenuDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * 참조 데이터(회사/부서/권한 그룹 메뉴)와 활성 메뉴 전체의 파일 스냅샷 (ReferenceSnapshotStore 가 저장/복원).
+ *
+ * 파일 형식 (big-endian)
+ * - 헤더 : MAGIC(int) FORMAT_VERSION(int) savedAt(long) 본문 CRC32(int) 본문 길이(int)
+ * - 본문 : 문자열 표(개수, [UTF-8 길이, 바이트]...) 다음에 회사 / 부서 / 권한 그룹 메뉴 / 메뉴 항목 (문자열은 표 번호, null 은 -1)
+ * 반복되는 회사 코드 / 권한 그룹 ID / 메뉴 ID 는 문자열 표에 한 번만 저장되며, 읽을 때도 같은 String 인스턴스를 공유한다.
+ * 항목 구성이 바뀌면 FORMAT_VERSION 을 올린다. (다른 버전의 파일은 읽지 않고 DB 조회로 대체)
+ */
+public record ReferenceSnapshot(long savedAt, List<CompanyInfo> companies, List<DepartmentInfo> departments,
+                                List<AuthGroupMenu> authGroupMenus, List<MenuDto> menus) {
+
+    private static final int MAGIC = 0x46575253; // "FWRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4;
+    private static final int NULL = -1;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * 파일을 메모리 매핑하여 읽기
+     * @throws IOException 파일 읽기 실패
+     * @throws IllegalStateException 형식/버전 불일치 또는 손상된 파일
+     */
+    public static ReferenceSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Invalid snapshot size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a reference snapshot file");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported snapshot format version: " + formatVersion);
+            }
+            long savedAt = buffer.getLong();
+            int checksum = buffer.getInt();
+            int bodyLength = buffer.getInt();
+            if (bodyLength != size - HEADER_BYTES) {
+                throw new IllegalStateException("Truncated snapshot: expected " + bodyLength + " bytes, found " + (size - HEADER_BYTES));
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalStateException("Snapshot checksum mismatch");
+            }
+            return new Reader(buffer).read(savedAt);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체 (읽는 쪽이 쓰다 만 파일을 보지 않도록)
+     */
+    public void write(Path path) throws IOException {
+        byte[] body = new Writer().write(this);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(MAGIC)
+            .putInt(FORMAT_VERSION)
+            .putLong(savedAt)
+            .putInt((int) crc.getValue())
+            .putInt(body.length);
+
+        // 회사/부서 정보가 들어 있으므로 소유자만 접근 가능하게 생성 (POSIX 파일 시스템)
+        Path directory = path.toAbsolutePath().getParent();
+        boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (posix) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+        Path temp = posix
+            ? Files.createTempFile(directory, path.getFileName().toString(), ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY))
+            : Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(header.array());
+                out.write(body);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static final class Writer {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+
+        private byte[] write(ReferenceSnapshot snapshot) throws IOException {
+            out.writeInt(snapshot.companies().size());
+            for (CompanyInfo company : snapshot.companies()) {
+                strings(company.cmpCd(), company.cmpNm(), company.bizcpRegNo(), company.ceoNm(),
+                    company.rprsTelNo(), company.postNo(), company.addr());
+            }
+            out.writeInt(snapshot.departments().size());
+            for (DepartmentInfo department : snapshot.departments()) {
+                strings(department.cmpCd(), department.deptCd(), department.deptNm(), department.hqCd(),
+                    department.hqNm(), department.dpldEmpId());
+            }
+            out.writeInt(snapshot.authGroupMenus().size());
+            for (AuthGroupMenu row : snapshot.authGroupMenus()) {
+                strings(row.cmpCd(), row.authGrpId(), row.menuId());
+            }
+            out.writeInt(snapshot.menus().size());
+            for (MenuDto menu : snapshot.menus()) {
+                strings(menu.getMenuId(), menu.getMenuNm(), menu.getBizDvcd(), menu.getHrnMenuId());
+                integer(menu.getMenuLev());
+                integer(menu.getMenuOrd());
+                strings(menu.getScrId(), menu.getMenuMrkYn(), menu.getMenuIcon(), menu.getUseYn(),
+                    toString(menu.getCreatedAt()), toString(menu.getUpdatedAt()));
+            }
+            out.flush();
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream(entries.size() + strings.size() * 16);
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                bodyOut.writeInt(bytes.length);
+                bodyOut.write(bytes);
+            }
+            entries.writeTo(bodyOut);
+            bodyOut.flush();
+            return body.toByteArray();
+        }
+
+        private void strings(String... values) throws IOException {
+            for (String value : values) {
+                out.writeInt(value == null ? NULL : strings.computeIfAbsent(value, k -> strings.size()));
+            }
+        }
+
+        private void integer(Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            out.writeInt(value != null ? value : 0);
+        }
+
+        private static String toString(LocalDateTime value) {
+            return value != null ? value.toString() : null;
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private ReferenceSnapshot read(long savedAt) {
+            strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int companyCount = buffer.getInt();
+            List<CompanyInfo> companies = new ArrayList<>(companyCount);
+            for (int i = 0; i < companyCount; i++) {
+                companies.add(new CompanyInfo(string(), string(), string(), string(), string(), string(), string()));
+            }
+            int departmentCount = buffer.getInt();
+            List<DepartmentInfo> departments = new ArrayList<>(departmentCount);
+            for (int i = 0; i < departmentCount; i++) {
+                departments.add(new DepartmentInfo(string(), string(), string(), string(), string(), string()));
+            }
+            int authGroupMenuCount = buffer.getInt();
+            List<AuthGroupMenu> authGroupMenus = new ArrayList<>(authGroupMenuCount);
+            for (int i = 0; i < authGroupMenuCount; i++) {
+                authGroupMenus.add(new AuthGroupMenu(string(), string(), string()));
+            }
+            int menuCount = buffer.getInt();
+            List<MenuDto> menus = new ArrayList<>(menuCount);
+            for (int i = 0; i < menuCount; i++) {
+                MenuDto menu = new MenuDto();
+                menu.setMenuId(string());
+                menu.setMenuNm(string());
+                menu.setBizDvcd(string());
+                menu.setHrnMenuId(string());
+                menu.setMenuLev(integer());
+                menu.setMenuOrd(integer());
+                menu.setScrId(string());
+                menu.setMenuMrkYn(string());
+                menu.setMenuIcon(string());
+                menu.setUseYn(string());
+                menu.setCreatedAt(dateTime());
+                menu.setUpdatedAt(dateTime());
+                menus.add(menu);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("Unexpected trailing bytes in snapshot: " + buffer.remaining());
+            }
+            return new ReferenceSnapshot(savedAt, companies, departments, authGroupMenus, menus);
+        }
+
+        private String string() {
+            int index = buffer.getInt();
+            return index == NULL ? null : strings[index];
+        }
+
+        private Integer integer() {
+            boolean present = buffer.get() != 0;
+            int value = buffer.getInt();
+            return present ? value : null;
+        }
+
+        private LocalDateTime dateTime() {
+            String value = string();
+            return value != null ? LocalDateTime.parse(value) : null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.service.MenuGraph;
+import com.laze.backend.menu.service.MenuGraphLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 참조 데이터 + 메뉴 그래프의 파일 스냅샷(ReferenceSnapshot) 저장/복원.
+ *
+ * 순차 재기동 시 새로 뜬 노드는 참조 데이터/메뉴 그래프가 비어 있어 첫 로그인/메뉴 요청이 DB 를 직접 조회한다.
+ * - 복원 : 싱글톤 생성 직후(스케줄러 시작 전) 파일을 메모리 매핑하여 읽고 참조 데이터/메뉴 그래프를 먼저 채운다.
+ * - 검증 : 기존 적재 주기(initialDelay 0)가 백그라운드에서 DB 를 조회하여 내용이 다르면 교체한다. (트리 캐시 무효화 포함)
+ * - 저장 : write-interval-ms 주기로, 두 적재기가 모두 DB 조회에 성공한 뒤 내용이 바뀌었으면 파일을 교체한다.
+ *          (복원만 된 상태에서는 저장하지 않으므로 파일의 savedAt 은 항상 DB 에서 확인한 시각)
+ * 복원 내용은 DB 확인 전까지 오래된 권한일 수 있으므로 max-age-minutes 보다 오래된 파일은 사용하지 않는다.
+ * 파일에는 회사/부서 정보(대표자, 연락처 등)가 들어 있으므로 기본은 비활성이며, 사용 시 path 를 절대 경로로 지정해야 한다.
+ * (작업 디렉터리 기준 상대 경로로 의도하지 않은 위치에 쓰지 않도록, 파일은 소유자만 읽기/쓰기)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.reference.snapshot.enabled", havingValue = "true")
+public class ReferenceSnapshotStore implements SmartInitializingSingleton {
+
+    private final ReferenceDataLoader referenceDataLoader;
+    private final MenuGraphLoader menuGraphLoader;
+    private final Path path;
+    private final Duration maxAge;
+
+    private long savedReferenceVersion = -1; // 마지막으로 저장한 참조 데이터 버전
+    private MenuGraph savedGraph;            // 마지막으로 저장한 메뉴 그래프 (그래프는 바뀔 때만 교체되므로 동일성 비교)
+
+    public ReferenceSnapshotStore(ReferenceDataLoader referenceDataLoader, MenuGraphLoader menuGraphLoader,
+                                  @Value("${security.reference.snapshot.path:}") String path,
+                                  @Value("${security.reference.snapshot.max-age-minutes:1440}") long maxAgeMinutes) {
+        this.referenceDataLoader = referenceDataLoader;
+        this.menuGraphLoader = menuGraphLoader;
+        if (path == null || path.isBlank() || !Path.of(path).isAbsolute()) {
+            throw new IllegalStateException("security.reference.snapshot.path must be an absolute path: '" + path + "'");
+        }
+        this.path = Path.of(path);
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+    }
+
+    /**
+     * 파일 스냅샷으로 참조 데이터/메뉴 그래프 적재 (파일이 없거나 오래되었거나 손상되었으면 DB 조회를 기다림)
+     * @return 하나라도 적재했으면 true
+     */
+    boolean restore() {
+        if (!Files.isRegularFile(path)) {
+            log.info("No reference snapshot at {}, waiting for DB load", path);
+            return false;
+        }
+        try {
+            long started = System.nanoTime();
+            ReferenceSnapshot snapshot = ReferenceSnapshot.read(path);
+            Instant savedAt = Instant.ofEpochMilli(snapshot.savedAt());
+            if (savedAt.plus(maxAge).isBefore(Instant.now())) {
+                log.info("Ignoring reference snapshot saved at {} (older than {} minutes)", savedAt, maxAge.toMinutes());
+                return false;
+            }
+            boolean referenceRestored = referenceDataLoader.restore(snapshot);
+            boolean graphRestored = menuGraphLoader.restore(snapshot.menus());
+            log.info("Reference snapshot saved at {} restored in {} ms: {} companies, {} departments, {} auth group menus, {} menus. Verifying against DB in background",
+                savedAt, (System.nanoTime() - started) / 1_000_000, snapshot.companies().size(), snapshot.departments().size(),
+                snapshot.authGroupMenus().size(), snapshot.menus().size());
+            return referenceRestored || graphRestored;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read reference snapshot {}, waiting for DB load: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${security.reference.snapshot.write-interval-ms:60000}",
+        fixedDelayString = "${security.reference.snapshot.write-interval-ms:60000}")
+    public void scheduledSave() {
+        try {
+            save();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write reference snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 확인한 내용이 마지막 저장 이후 바뀌었으면 파일 교체
+     * @return 저장했으면 true
+     */
+    synchronized boolean save() throws IOException {
+        long verifiedAt = Math.min(referenceDataLoader.loadedAt(), menuGraphLoader.loadedAt());
+        MenuGraph graph = menuGraphLoader.current();
+        ReferenceData referenceData = referenceDataLoader.getReferenceData();
+        if (verifiedAt == 0 || graph == null || !referenceData.isLoaded()) {
+            return false; // 아직 DB 확인 전 (복원된 내용만 있음)
+        }
+        long version = referenceData.version();
+        if (version == savedReferenceVersion && graph == savedGraph) {
+            return false;
+        }
+        referenceData.export(verifiedAt, graph.menus()).write(path);
+        savedReferenceVersion = version;
+        savedGraph = graph;
+        log.info("Reference snapshot written to {}: reference version {}, {} menus", path, version, graph.size());
+        return true;
+    }
+}
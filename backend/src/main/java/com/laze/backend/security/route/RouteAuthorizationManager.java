@@ -0,0 +1,65 @@
+package com.laze.backend.security.route;
+
+import com.laze.backend.security.route.RouteAuthorizationTable.RouteDecision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * RouteAuthorizationTable 기반 요청 인가 (authorizeHttpRequests 의 requestMatchers 체인 대체).
+ *
+ * 조회 결과는 요청 속성에 보관되어 뒤이은 MenuAccessControlFilter 가 다시 조회하지 않고 사용한다.
+ * 메뉴 경로는 여기서는 인증 여부만 확인하고, 메뉴 권한(MENU_ACCESS_DENIED)은 필터에서 확인한다.
+ */
+@RequiredArgsConstructor
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final RouteAuthorizationTable routeAuthorizationTable;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    /**
+     * @deprecated Spring Security 6.4 부터 authorize 사용 (인터페이스 추상 메소드라 구현만 유지)
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        RouteDecision decision = routeAuthorizationTable.resolve(context.getRequest());
+        return switch (decision.access()) {
+            case PERMIT_ALL -> GRANTED;
+            case AUTHENTICATED, MENU -> trustResolver.isAuthenticated(authentication.get()) ? GRANTED : DENIED;
+            case AUTHORITY -> hasAuthority(authentication.get(), decision.authority()) ? GRANTED : DENIED;
+        };
+    }
+
+    private boolean hasAuthority(Authentication authentication, String authority) {
+        if (!trustResolver.isAuthenticated(authentication)) {
+            return false;
+        }
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            if (authority.equals(grantedAuthority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,233 @@
+package com.laze.backend.security.route;
+
+import com.laze.backend.security.permission.MenuIdRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 URI -> 접근 규칙(RouteDecision) 사전 컴파일 라우트 테이블.
+ *
+ * Spring Security 인가(RouteAuthorizationManager)와 메뉴 권한 필터(MenuAccessControlFilter)가
+ * 같은 테이블을 한 번만 조회하여 공유한다. (결과는 요청 속성 DECISION_ATTRIBUTE 에 보관)
+ *
+ * 조회 순서
+ * 1. 정확히 일치하는 경로 (HashMap 1회 조회)
+ * 2. 접두어 경로 (긴 접두어 우선, startsWith)
+ * 3. 메뉴 경로: 메뉴 접두어(/api/) 바로 뒤의 [A-Z0-9] 연속 구간을 메뉴 ID 로 보고
+ *    MenuIdRegistry 에서 substring 없이 인덱스 조회 (기존 /api/([A-Z0-9]+)(?:/.*)? 와 동일한 추출 규칙)
+ * 4. 기본 규칙
+ *
+ * 결정 객체는 모두 미리 만들어 두거나(메뉴별은 최초 조회 시 1회) 재사용하므로 조회 시 할당이 없다.
+ *
+ * 요청은 원본 URI 가 아니라 Spring MVC 가 디스패치에 쓰는 경로(컨텍스트 경로 제외, URL 디코딩, ';' 파라미터 제거)로 조회한다.
+ * (원본 URI 로 조회하면 /api/%61dmin/... 처럼 인코딩한 경로가 규칙을 피해 같은 핸들러로 디스패치됨)
+ */
+public final class RouteAuthorizationTable {
+
+    /** 요청별 조회 결과를 보관하는 요청 속성 이름 */
+    public static final String DECISION_ATTRIBUTE = RouteAuthorizationTable.class.getName() + ".DECISION";
+
+    public enum Access {
+        /** 인증 없이 허용 */
+        PERMIT_ALL,
+        /** 인증 필요 */
+        AUTHENTICATED,
+        /** 인증 + 특정 권한 필요 */
+        AUTHORITY,
+        /** 인증 + 메뉴 접근 권한 필요 (메뉴 권한은 MenuAccessControlFilter 에서 확인) */
+        MENU
+    }
+
+    /**
+     * 라우트 조회 결과
+     * @param access 접근 규칙
+     * @param authority 필요 권한 (AUTHORITY 인 경우)
+     * @param menuIndex 메뉴 인덱스 (MENU 인 경우, 미등록 메뉴는 MenuIdRegistry.NOT_FOUND)
+     * @param menuId 메뉴 ID (MENU 이고 등록된 메뉴인 경우)
+     */
+    public record RouteDecision(Access access, String authority, int menuIndex, String menuId) {
+
+        static final RouteDecision PERMIT_ALL = new RouteDecision(Access.PERMIT_ALL, null, MenuIdRegistry.NOT_FOUND, null);
+        static final RouteDecision AUTHENTICATED = new RouteDecision(Access.AUTHENTICATED, null, MenuIdRegistry.NOT_FOUND, null);
+        static final RouteDecision UNKNOWN_MENU = new RouteDecision(Access.MENU, null, MenuIdRegistry.NOT_FOUND, null);
+
+        public boolean isMenu() {
+            return access == Access.MENU;
+        }
+    }
+
+    private final Map<String, RouteDecision> exactRoutes;
+    private final String[] prefixes;
+    private final RouteDecision[] prefixDecisions;
+    private final String menuPrefix;
+    private final RouteDecision defaultDecision;
+    private final MenuIdRegistry menuIdRegistry;
+
+    /** 메뉴 인덱스별 결정 (최초 조회 시 생성, 확장은 copy-on-write) */
+    private volatile RouteDecision[] menuDecisions = new RouteDecision[256];
+
+    private RouteAuthorizationTable(Builder builder) {
+        this.exactRoutes = new HashMap<>(builder.exactRoutes);
+        List<Map.Entry<String, RouteDecision>> prefixRoutes = new ArrayList<>(builder.prefixRoutes.entrySet());
+        prefixRoutes.sort(Comparator.comparingInt((Map.Entry<String, RouteDecision> e) -> e.getKey().length()).reversed());
+        this.prefixes = prefixRoutes.stream().map(Map.Entry::getKey).toArray(String[]::new);
+        this.prefixDecisions = prefixRoutes.stream().map(Map.Entry::getValue).toArray(RouteDecision[]::new);
+        this.menuPrefix = builder.menuPrefix;
+        this.defaultDecision = builder.defaultDecision;
+        this.menuIdRegistry = MenuIdRegistry.global();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청의 라우트 결정 조회. 같은 요청에서 이미 조회했다면 요청 속성의 결과를 재사용한다.
+     * (forward / error 디스패치는 URI 가 달라지므로 항상 다시 조회)
+     */
+    public RouteDecision resolve(HttpServletRequest request) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST
+            && request.getAttribute(DECISION_ATTRIBUTE) instanceof RouteDecision cached) {
+            return cached;
+        }
+        RouteDecision decision = resolve(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        request.setAttribute(DECISION_ATTRIBUTE, decision);
+        return decision;
+    }
+
+    /**
+     * 경로의 라우트 결정 조회
+     * @param uri 애플리케이션 내 경로 (컨텍스트 경로 제외, 디코딩된 경로)
+     */
+    public RouteDecision resolve(String uri) {
+        RouteDecision exact = exactRoutes.get(uri);
+        if (exact != null) {
+            return exact;
+        }
+        for (int i = 0; i < prefixes.length; i++) {
+            if (uri.startsWith(prefixes[i])) {
+                return prefixDecisions[i];
+            }
+        }
+        if (menuPrefix != null && uri.startsWith(menuPrefix)) {
+            int start = menuPrefix.length();
+            int end = start;
+            while (end < uri.length() && isMenuIdChar(uri.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                return menuDecision(menuIdRegistry.indexOf(uri, start, end));
+            }
+        }
+        return defaultDecision;
+    }
+
+    private RouteDecision menuDecision(int menuIndex) {
+        if (menuIndex == MenuIdRegistry.NOT_FOUND) {
+            return RouteDecision.UNKNOWN_MENU;
+        }
+        RouteDecision[] decisions = menuDecisions;
+        if (menuIndex < decisions.length) {
+            RouteDecision decision = decisions[menuIndex];
+            if (decision != null) {
+                return decision;
+            }
+        }
+        return createMenuDecision(menuIndex);
+    }
+
+    private synchronized RouteDecision createMenuDecision(int menuIndex) {
+        RouteDecision[] decisions = menuDecisions;
+        if (menuIndex >= decisions.length) {
+            int capacity = decisions.length;
+            while (menuIndex >= capacity) {
+                capacity <<= 1;
+            }
+            decisions = Arrays.copyOf(decisions, capacity);
+        }
+        RouteDecision decision = decisions[menuIndex];
+        if (decision == null) {
+            decision = new RouteDecision(Access.MENU, null, menuIndex, menuIdRegistry.idAt(menuIndex));
+            decisions[menuIndex] = decision;
+        }
+        menuDecisions = decisions;
+        return decision;
+    }
+
+    private static boolean isMenuIdChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    public static final class Builder {
+        private final Map<String, RouteDecision> exactRoutes = new HashMap<>();
+        private final Map<String, RouteDecision> prefixRoutes = new HashMap<>();
+        private String menuPrefix;
+        private RouteDecision defaultDecision = RouteDecision.AUTHENTICATED;
+
+        private Builder() {
+        }
+
+        /**
+         * 인증 없이 허용할 경로 등록. "/**" 로 끝나면 접두어 경로, 그 외는 정확히 일치하는 경로.
+         */
+        public Builder permitAll(String... patterns) {
+            return register(RouteDecision.PERMIT_ALL, patterns);
+        }
+
+        /**
+         * 인증만 필요한 경로 등록 (메뉴 권한 확인 제외)
+         */
+        public Builder authenticated(String... patterns) {
+            return register(RouteDecision.AUTHENTICATED, patterns);
+        }
+
+        /**
+         * 특정 권한이 필요한 경로 등록
+         */
+        public Builder hasAuthority(String authority, String... patterns) {
+            return register(new RouteDecision(Access.AUTHORITY, authority, MenuIdRegistry.NOT_FOUND, null), patterns);
+        }
+
+        /**
+         * 메뉴 경로 접두어 (예: "/api/" -> /api/{MENUID}/...)
+         */
+        public Builder menuPrefix(String menuPrefix) {
+            this.menuPrefix = menuPrefix;
+            return this;
+        }
+
+        /**
+         * 어느 규칙에도 해당하지 않는 경로의 기본 규칙 (기본값: 인증 필요)
+         */
+        public Builder defaultPermitAll() {
+            this.defaultDecision = RouteDecision.PERMIT_ALL;
+            return this;
+        }
+
+        private Builder register(RouteDecision decision, String... patterns) {
+            for (String pattern : patterns) {
+                if (pattern.endsWith("/**")) {
+                    // AntPath 와 동일하게 "/api/admin/**" 는 "/api/admin" 자체도 포함
+                    String base = pattern.substring(0, pattern.length() - 3);
+                    exactRoutes.putIfAbsent(base, decision);
+                    prefixRoutes.putIfAbsent(base + "/", decision);
+                } else {
+                    exactRoutes.putIfAbsent(pattern, decision);
+                }
+            }
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.permission.PermissionChanges;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.security.token.CmpUserAuthenticationToken;
+import com.laze.backend.user.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그인 이후 권한이 바뀐(PermissionChanges 표시) 사용자의 권한 그룹 / 메뉴 권한 재조회.
+ *
+ * 권한 그룹 ID 는 DB 에서 다시 조회하고, 메뉴 권한은 참조 데이터가 적재되어 있으면 공유 인스턴스를,
+ * 아니면 분할 조회(SPLIT)와 같은 쿼리로 만든다. 그 외 사용자 정보는 기존 값을 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorityRefreshService {
+
+    private final UserMapper userMapper;
+
+    /**
+     * 권한을 다시 조회해야 하는 인증인지 확인 (요청 경로, 대부분 volatile 비교 1회)
+     */
+    public boolean isStale(CustomUserDetails user) {
+        return PermissionChanges.global().isStale(user.getCmpCd(), user.getEmpId(), user.getAuthorities(), user.getAuthoritySeq());
+    }
+
+    /**
+     * 권한 그룹 / 메뉴 권한을 다시 조회한 새 인증 객체 생성
+     * @param token 기존 인증
+     * @param user 기존 사용자 정보 (token 의 principal)
+     * @return 새 인증 (details 유지, 비밀번호 없음)
+     */
+    public CmpUserAuthenticationToken refresh(CmpUserAuthenticationToken token, CustomUserDetails user) {
+        // 변경 감지 번호는 조회 전에 기억 (조회 이후 변경분은 다음 요청에서 다시 갱신)
+        long authoritySeq = PermissionChanges.global().appliedSeq();
+        String cmpCd = user.getCmpCd();
+
+        List<String> authGrpIds = userMapper.findAuthGrpIdsByCmpCdAndEmpId(cmpCd, user.getEmpId());
+        List<GrantedAuthority> authorities = authGrpIds.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+
+        ReferenceData referenceData = ReferenceData.global();
+        long referenceVersion = referenceData.version();
+        MenuPermissionSet menus = referenceData.menusOf(cmpCd, authGrpIds);
+        if (menus == null) {
+            referenceVersion = 0;
+            menus = authGrpIds.isEmpty()
+                ? MenuPermissionSet.EMPTY
+                : MenuPermissionSet.of(userMapper.findMenuIdsByCmpCdAndAuthGrpIds(cmpCd, authGrpIds));
+        }
+
+        CustomUserDetails refreshed = user.toBuilder()
+            .authorities(authorities)
+            .accessibleMenuIds(menus)
+            .referenceVersion(referenceVersion)
+            .authoritySeq(authoritySeq)
+            .build();
+        CmpUserAuthenticationToken authentication = new CmpUserAuthenticationToken(token.getCmpCd(), refreshed, null, authorities);
+        authentication.setDetails(token.getDetails());
+        log.info("Authorities refreshed for cmpCd: {}, empId: {} -> {}", cmpCd, user.getEmpId(), authGrpIds);
+        return authentication;
+    }
+}
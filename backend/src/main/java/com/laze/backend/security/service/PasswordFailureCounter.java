@@ -0,0 +1,179 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.user.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비밀번호 오류 횟수 쓰기 지연(write-behind) 카운터.
+ *
+ * 로그인 실패마다 FW_EMP 를 즉시 UPDATE 하면 한 계정에 대한 대량 시도(credential stuffing)가
+ * 같은 행에 대한 잠금 경합으로 이어진다. 실패/성공은 (cmpCd, empId) 별 메모리 누적값(Pending)에 합쳐 두고,
+ * 짧은 주기로 모아서 배치 UPDATE 한다.
+ *
+ * 잠금 판단은 DB 값에 아직 반영되지 않은 누적값을 더한 값(currentCount)으로 하므로 잠금 기준은 약해지지 않는다.
+ * - 누적값은 ConcurrentHashMap(내부 bin 단위 잠금) 에서 키별로 원자적으로 병합
+ * - 반영 중(inFlight)인 값도 조회에 포함하여 반영 도중 과소 집계가 없도록 함 (반영 직후 잠시 과다 집계될 수 있으나 잠금 방향으로만 어긋남)
+ * - 실패 반영은 PWNO_ERROR_RTRV + delta 로 누적하므로 여러 노드의 반영분이 합산됨
+ */
+@Slf4j
+@Component
+public class PasswordFailureCounter {
+
+    /**
+     * 반영 대기 중인 변경분
+     * @param delta 누적 실패 횟수
+     * @param reset 성공 로그인으로 초기화 여부 (true 면 초기화 후 delta)
+     */
+    record Pending(int delta, boolean reset) {
+
+        static final Pending FAILURE = new Pending(1, false);
+        static final Pending RESET = new Pending(0, true);
+
+        /** 이 변경분 이후에 next 가 발생한 경우의 합산 */
+        Pending then(Pending next) {
+            return next.reset ? next : new Pending(delta + next.delta, reset);
+        }
+
+        /** DB 값에 적용 */
+        int applyTo(int count) {
+            return reset ? delta : count + delta;
+        }
+    }
+
+    record Key(String cmpCd, String empId) {
+    }
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<Key, Pending> inFlight = new ConcurrentHashMap<>();
+
+    private final UserMapper batchUserMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedCounter;
+    private final Counter flushFailedCounter;
+
+    @Value("${security.password.failure.batch-size:500}")
+    private int batchSize = 500;
+
+    public PasswordFailureCounter(@Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.batchUserMapper = batchSqlSessionTemplate.getMapper(UserMapper.class);
+        this.transactionTemplate = transactionTemplate;
+        this.flushedCounter = Counter.builder("login.password.failure.flushed")
+            .description("Password failure count updates written to FW_EMP")
+            .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("login.password.failure.flush.failed")
+            .description("Password failure count flushes that failed and were re-queued")
+            .register(meterRegistry);
+        Gauge.builder("login.password.failure.pending", pending, Map::size)
+            .description("Accounts with password failure count changes waiting to be written")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 잠금 판단용 현재 실패 횟수 (DB 값 + 반영 대기/반영 중 변경분)
+     * @param dbCount 로그인 시 조회한 PWNO_ERROR_RTRV (null 이면 0)
+     */
+    public int currentCount(String cmpCd, String empId, Integer dbCount) {
+        Key key = new Key(cmpCd, empId);
+        // pending -> inFlight 순서로 읽어야 반영 시작(pending 제거) 시점과 겹쳐도 과소 집계되지 않음
+        Pending waiting = pending.get(key);
+        Pending flushing = inFlight.get(key);
+        int count = dbCount != null ? dbCount : 0;
+        if (flushing != null) {
+            count = flushing.applyTo(count);
+        }
+        if (waiting != null) {
+            count = waiting.applyTo(count);
+        }
+        return count;
+    }
+
+    /**
+     * 로그인 실패 1회 기록 (DB 반영은 다음 flush)
+     */
+    public void recordFailure(String cmpCd, String empId) {
+        pending.merge(new Key(cmpCd, empId), Pending.FAILURE, Pending::then);
+    }
+
+    /**
+     * 로그인 성공 기록: 실패 횟수가 있는 경우에만 초기화 예약
+     * @param currentCount currentCount 로 조회한 현재 실패 횟수
+     */
+    public void recordSuccess(String cmpCd, String empId, int currentCount) {
+        if (currentCount > 0) {
+            pending.merge(new Key(cmpCd, empId), Pending.RESET, Pending::then);
+        }
+    }
+
+    /**
+     * 관리자 잠금 해제: 실패 횟수 초기화 예약 (잠금 판단에는 즉시 반영, DB 는 다음 flush)
+     */
+    public void recordReset(String cmpCd, String empId) {
+        pending.merge(new Key(cmpCd, empId), Pending.RESET, Pending::then);
+    }
+
+    /**
+     * 누적된 변경분을 FW_EMP 에 배치 반영
+     */
+    @Scheduled(fixedDelayString = "${security.password.failure.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 1. 반영 대상을 pending 에서 inFlight 로 이동 (키 단위 원자적)
+        List<Key> keys = new ArrayList<>();
+        for (Key key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, value) -> {
+                inFlight.merge(k, value, Pending::then);
+                keys.add(k);
+                return null;
+            });
+        }
+
+        // 2. batchSize 단위로 배치 UPDATE
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<Key> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Key key : chunk) {
+                        Pending value = inFlight.get(key);
+                        batchUserMapper.updatePasswordFailureCount(key.cmpCd(), key.empId(), value.delta(), value.reset());
+                    }
+                });
+                chunk.forEach(inFlight::remove);
+                flushedCounter.increment(chunk.size());
+            } catch (RuntimeException e) {
+                // 실패분은 이후 발생한 변경분 앞에 다시 합쳐 다음 주기에 재시도
+                for (Key key : chunk) {
+                    Pending failed = inFlight.get(key);
+                    pending.merge(key, failed, (later, earlier) -> earlier.then(later));
+                    inFlight.remove(key);
+                }
+                flushFailedCounter.increment(chunk.size());
+                log.error("Failed to flush password failure counts ({} accounts), will retry", chunk.size(), e);
+            }
+        }
+        log.debug("Flushed password failure counts for {} accounts", keys.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
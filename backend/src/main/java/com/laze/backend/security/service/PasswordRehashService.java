@@ -0,0 +1,86 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.security.crypto.AdaptiveBCryptPasswordEncoder;
+import com.laze.backend.user.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 성공 시 저장된 비밀번호 해시의 cost 가 현재 목표 cost 보다 낮으면 목표 cost 로 올린다 (rehash-on-login).
+ *
+ * 평문 비밀번호는 로그인 시점에만 알 수 있으므로 cost 변경은 로그인 성공 직후에만 가능하다.
+ * 재해싱은 비밀번호 검증 풀에서 비동기로 실행하여 로그인 응답을 늦추지 않으며,
+ * 풀이 포화 상태면 생략하고 다음 로그인 때 다시 시도한다.
+ * 저장 시 기존 해시를 조건으로 UPDATE 하여 그 사이 변경된 비밀번호를 덮어쓰지 않는다.
+ *
+ * 메트릭
+ * - login.password.rehash{result=updated|skipped|failed}
+ */
+@Slf4j
+@Component
+public class PasswordRehashService {
+
+    private final AdaptiveBCryptPasswordEncoder passwordEncoder;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+    private final UserMapper userMapper;
+    private final Counter updatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public PasswordRehashService(AdaptiveBCryptPasswordEncoder passwordEncoder,
+                                 PasswordVerificationExecutor passwordVerificationExecutor,
+                                 UserMapper userMapper,
+                                 MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordVerificationExecutor = passwordVerificationExecutor;
+        this.userMapper = userMapper;
+        this.updatedCounter = rehashCounter(meterRegistry, "updated");
+        this.skippedCounter = rehashCounter(meterRegistry, "skipped");
+        this.failedCounter = rehashCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * 저장된 해시의 cost 가 목표보다 낮으면 비동기로 재해싱 예약
+     * @param cmpCd 회사 코드
+     * @param empId 사원 ID
+     * @param rawPassword 검증에 성공한 평문 비밀번호
+     * @param encodedPassword 현재 저장된 해시
+     * @return 재해싱 예약 여부
+     */
+    public boolean rehashIfNeeded(String cmpCd, String empId, String rawPassword, String encodedPassword) {
+        if (rawPassword == null || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return false;
+        }
+        boolean submitted = passwordVerificationExecutor.tryExecuteAsync(() -> rehash(cmpCd, empId, rawPassword, encodedPassword));
+        if (!submitted) {
+            skippedCounter.increment();
+        }
+        return submitted;
+    }
+
+    private void rehash(String cmpCd, String empId, String rawPassword, String encodedPassword) {
+        try {
+            String rehashed = passwordEncoder.encode(rawPassword);
+            int updated = userMapper.updatePasswordHash(cmpCd, empId, encodedPassword, rehashed);
+            if (updated > 0) {
+                updatedCounter.increment();
+                log.debug("Password rehashed for empId: {}. cost {} -> {}",
+                    empId, AdaptiveBCryptPasswordEncoder.costOf(encodedPassword), passwordEncoder.getTargetCost());
+            } else {
+                skippedCounter.increment(); // 그 사이 비밀번호가 변경됨
+            }
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Password rehash failed for empId: {}", empId, e);
+        }
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("login.password.rehash")
+            .description("Password hashes re-encoded with the target BCrypt cost after login")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.security.exception.LoginBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 비밀번호 검증 전용 실행기.
+ *
+ * BCrypt 는 CPU 를 수십~수백 ms 점유하므로 Tomcat 요청 스레드에서 직접 실행하면
+ * 로그인이 몰릴 때 일반 /api/** 요청까지 처리 스레드를 얻지 못한다.
+ * CPU 코어 수 기준의 고정 크기 풀 + 고정 크기 대기열에서만 실행하고,
+ * 대기열이 가득 차면 즉시 LoginBusyException(503 / LOGIN_BUSY)으로 거절한다.
+ *
+ * 메트릭
+ * - login.password.verify          : 실제 검증(BCrypt) 소요 시간
+ * - login.password.verify.wait     : 대기열 대기 포함 전체 소요 시간
+ * - login.password.verify.queue    : 대기열 길이
+ * - login.password.verify.active   : 검증 중인 스레드 수
+ * - login.password.verify.rejected : 포화/타임아웃으로 거절된 건수
+ */
+@Slf4j
+@Component
+public class PasswordVerificationExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer verifyTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerificationExecutor(PasswordEncoder passwordEncoder,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${security.password.verify.pool-size:0}") int poolSize,
+                                        @Value("${security.password.verify.queue-capacity:64}") int queueCapacity,
+                                        @Value("${security.password.verify.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // pool-size 미지정(0) 시 CPU 코어 수 사용 (BCrypt 는 순수 CPU 작업)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new VerifierThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.verifyTimer = Timer.builder("login.password.verify")
+            .description("BCrypt password verification time")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("login.password.verify.wait")
+            .description("Password verification time including queue wait")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.password.verify.rejected")
+            .description("Password verifications rejected because the pool was saturated or timed out")
+            .register(meterRegistry);
+        Gauge.builder("login.password.verify.queue", executor, e -> e.getQueue().size())
+            .description("Password verifications waiting in queue")
+            .register(meterRegistry);
+        Gauge.builder("login.password.verify.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password verifications currently running")
+            .register(meterRegistry);
+
+        log.info("Password verification executor started. threads: {}, queueCapacity: {}, timeoutMs: {}",
+            threads, queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * 전용 풀에서 passwordEncoder.matches 를 실행하고 결과를 기다린다.
+     * @param rawPassword 입력 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws LoginBusyException 대기열 포화 또는 대기 시간 초과
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 전용 풀에서 비밀번호 관련 CPU 작업(검증, 재해싱 등)을 실행하고 결과를 기다린다.
+     */
+    public <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> verifyTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password verification rejected. queue: {}, active: {}", executor.getQueue().size(), executor.getActiveCount());
+            throw new LoginBusyException("Password verification pool is saturated", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("Password verification timed out after {} ms", timeoutMillis);
+            throw new LoginBusyException("Password verification timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Password verification interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AuthenticationServiceException("Password verification failed", cause);
+        } finally {
+            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 전용 풀에서 결과를 기다리지 않는 부가 작업(로그인 후 재해싱 등)을 실행한다.
+     * 로그인 검증이 우선이므로 대기열이 가득 차면 실행하지 않고 false 를 반환한다.
+     */
+    public boolean tryExecuteAsync(Runnable task) {
+        try {
+            executor.execute(() -> verifyTimer.record(task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class VerifierThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pw-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.user.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인 시 사용자 정보(UserInfo) 조회 담당.
+ *
+ * JOIN 모드는 기존 findUserInfoByCmpCdAndEmpId 한 번으로 모든 정보를 가져오지만,
+ * 결과 행 수가 (권한 그룹 수 x 메뉴 수) 만큼 늘어나 직원/회사/부서 컬럼이 반복 전송된다.
+ * SPLIT 모드는 단건 정보 / 권한 그룹 ID / 메뉴 ID 를 각각 조회하여 조립한다.
+ * REFERENCE 모드는 직원 정보와 권한 그룹 ID 만 조회하고 회사/부서/메뉴는 ReferenceData 캐시를 사용한다. (기본값)
+ * 캐시 미적재 또는 캐시에 없는 회사/부서(갱신 전 신규 등록)이면 SPLIT 으로 조회한다.
+ * 캐시 갱신 주기 동안에는 비활성화된 회사/부서도 캐시 기준으로 로그인이 허용될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoLoader {
+
+    public enum LoadMode {
+        JOIN,
+        SPLIT,
+        REFERENCE
+    }
+
+    private final UserMapper userMapper;
+
+    @Value("${security.login.load-mode:REFERENCE}")
+    private LoadMode loadMode;
+
+    /**
+     * cmpCd, empId 로 로그인에 필요한 사용자 정보를 조회
+     * @param cmpCd 회사 코드
+     * @param empId 직원 ID
+     * @return 사용자 정보 (권한 그룹 ID, 접근 가능 메뉴 ID 포함)
+     */
+    public Optional<UserInfo> load(String cmpCd, String empId) {
+        if (loadMode == LoadMode.JOIN) {
+            return userMapper.findUserInfoByCmpCdAndEmpId(cmpCd, empId);
+        }
+        if (loadMode == LoadMode.REFERENCE) {
+            return loadWithReferenceData(cmpCd, empId);
+        }
+        return loadSplit(cmpCd, empId);
+    }
+
+    private Optional<UserInfo> loadWithReferenceData(String cmpCd, String empId) {
+        ReferenceData referenceData = ReferenceData.global();
+        if (referenceData.company(cmpCd) == null) {
+            return loadSplit(cmpCd, empId); // 미적재 또는 비활성/신규 회사 (최종 판단은 DB)
+        }
+
+        // 1. 직원 정보만 조회 (회사/부서 컬럼 제외)
+        Optional<UserInfo> found = userMapper.findEmpByCmpCdAndEmpId(cmpCd, empId);
+        if (found.isEmpty()) {
+            return found;
+        }
+        UserInfo userInfo = found.get();
+        if (referenceData.department(cmpCd, userInfo.getDeptCd()) == null) {
+            return loadSplit(cmpCd, empId);
+        }
+
+        // 2. 권한 그룹 ID 목록 (메뉴는 CmpUserAuthenticationProvider 에서 ReferenceData 로 구성)
+        List<String> authGrpIds = userMapper.findAuthGrpIdsByCmpCdAndEmpId(cmpCd, empId);
+        userInfo.setAuthorityGroupIds(authGrpIds != null ? new ArrayList<>(authGrpIds) : new ArrayList<>());
+
+        log.debug("Loaded user info (reference v{}) for cmpCd: {}, empId: {} - {} auth groups",
+            referenceData.version(), cmpCd, empId, userInfo.getAuthorityGroupIds().size());
+        return Optional.of(userInfo);
+    }
+
+    private Optional<UserInfo> loadSplit(String cmpCd, String empId) {
+        // 1. 직원/회사/부서 단건 정보 (없으면 이후 조회 생략)
+        Optional<UserInfo> found = userMapper.findUserBaseByCmpCdAndEmpId(cmpCd, empId);
+        if (found.isEmpty()) {
+            return found;
+        }
+        UserInfo userInfo = found.get();
+
+        // 2. 권한 그룹 ID 목록
+        List<String> authGrpIds = userMapper.findAuthGrpIdsByCmpCdAndEmpId(cmpCd, empId);
+        userInfo.setAuthorityGroupIds(authGrpIds != null ? new ArrayList<>(authGrpIds) : new ArrayList<>());
+
+        // 3. 권한 그룹에 매핑된 메뉴 ID 목록 (권한 그룹이 없으면 조회하지 않음)
+        if (userInfo.getAuthorityGroupIds().isEmpty()) {
+            userInfo.setAccessibleMenuIds(Collections.emptySet());
+        } else {
+            List<String> menuIds = userMapper.findMenuIdsByCmpCdAndAuthGrpIds(cmpCd, userInfo.getAuthorityGroupIds());
+            userInfo.setAccessibleMenuIds(menuIds != null ? new HashSet<>(menuIds) : new HashSet<>());
+        }
+
+        log.debug("Loaded user info (split) for cmpCd: {}, empId: {} - {} auth groups, {} menus",
+            cmpCd, empId, userInfo.getAuthorityGroupIds().size(), userInfo.getAccessibleMenuIds().size());
+        return Optional.of(userInfo);
+    }
+}
@@ -0,0 +1,51 @@
+package com.laze.backend.security.session;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.web.session.HttpSessionCreatedEvent;
+import org.springframework.security.web.session.HttpSessionDestroyedEvent;
+import org.springframework.security.web.session.HttpSessionIdChangedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 노드 힙에 있는 서블릿 세션 목록.
+ *
+ * 서블릿 API 에는 세션 목록 조회가 없으므로 HttpSessionEventPublisher(SessionRegistryConfig) 가 발행하는
+ * 생성/소멸/ID 변경 이벤트로 직접 추적한다. 세션 메모리 계측(SessionMemoryEndpoint) 용도이며,
+ * JDBC 세션 저장소(security.session.store=jdbc) 에서는 세션이 요청 동안에만 힙에 있으므로 추적되지 않는다.
+ */
+@Component
+public class HttpSessionTracker implements ApplicationListener<AbstractSessionEvent> {
+
+    private final Map<String, HttpSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof HttpSessionCreatedEvent createdEvent) {
+            sessions.put(createdEvent.getSession().getId(), createdEvent.getSession());
+        } else if (event instanceof HttpSessionDestroyedEvent destroyedEvent) {
+            sessions.remove(destroyedEvent.getId());
+        } else if (event instanceof HttpSessionIdChangedEvent changedEvent) {
+            HttpSession session = sessions.remove(changedEvent.getOldSessionId());
+            if (session != null) {
+                sessions.put(changedEvent.getNewSessionId(), session);
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 세션 (무효화 직후의 세션이 포함될 수 있으므로 사용 시 IllegalStateException 처리 필요)
+     */
+    public Collection<HttpSession> sessions() {
+        return sessions.values();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
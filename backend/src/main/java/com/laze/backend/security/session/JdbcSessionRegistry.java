@@ -0,0 +1,244 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.SessionRegistryEntry;
+import com.laze.backend.security.mapper.SessionRegistryMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중 노드용 세션 레지스트리 (security.session.registry=jdbc, 테이블: db/mariadb/fw-session-registry.sql).
+ *
+ * maximumSessions(1) 을 여러 백엔드 노드에 걸쳐 적용하기 위해 세션 목록을 FW_SESSION_REGISTRY 에 공유한다.
+ * 요청 경로(ConcurrentSessionFilter)에는 DB 왕복을 넣지 않는다.
+ * - 로그인/로그아웃/만료(드문 이벤트)    : 즉시 DB 반영
+ * - getSessionInformation (요청마다) : 노드 로컬 캐시 조회, 처음 보는 세션만 DB 조회 1회
+ *                                      (미등록 세션은 동기화 주기 동안 부정 캐시)
+ * - refreshLastRequest (요청마다)     : 로컬 값 갱신, 마지막 기록 후 touch-interval-ms 가 지난 세션만 모아서 배치 UPDATE
+ * - 다른 노드의 만료 처리             : 주기적으로 만료 목록을 조회하여 로컬 캐시에 반영
+ *
+ * 따라서 다른 노드에서 로그인하여 만료된 세션은 최대 동기화 주기(interval-ms)만큼 늦게 차단된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.session.registry", havingValue = "jdbc")
+public class JdbcSessionRegistry implements SessionRegistry, ApplicationListener<AbstractSessionEvent> {
+
+    /** 노드 간 시계 차이를 고려한 만료 목록 조회 여유 시간 */
+    private static final long EXPIRY_SYNC_MARGIN_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final SessionRegistryMapper sessionRegistryMapper;
+    private final SessionRegistryMapper batchSessionRegistryMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, TrackedSessionInformation> cache = new ConcurrentHashMap<>();
+    private final Set<String> unknownSessionIds = ConcurrentHashMap.newKeySet(); // 동기화 주기마다 비움
+    private final Set<String> dirtySessionIds = ConcurrentHashMap.newKeySet();
+    private volatile long lastExpirySyncMillis = System.currentTimeMillis();
+
+    @Value("${security.session.registry-sync.touch-interval-ms:60000}")
+    private long touchIntervalMillis = 60_000;
+
+    @Value("${security.session.registry-sync.stale-after-minutes:120}")
+    private long staleAfterMinutes = 120;
+
+    public JdbcSessionRegistry(SessionRegistryMapper sessionRegistryMapper,
+                               @Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.sessionRegistryMapper = sessionRegistryMapper;
+        this.batchSessionRegistryMapper = batchSqlSessionTemplate.getMapper(SessionRegistryMapper.class);
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("session.registry.cached", cache, Map::size)
+            .description("Sessions cached by this node's session registry")
+            .register(meterRegistry);
+        Gauge.builder("session.registry.dirty", dirtySessionIds, Set::size)
+            .description("Sessions with last-request updates not yet written")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        return new ArrayList<>(sessionRegistryMapper.findAllPrincipalKeys());
+    }
+
+    /**
+     * 사용자의 세션 목록 (로그인 시 동시 세션 수 확인용, 항상 DB 기준)
+     */
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        List<SessionRegistryEntry> entries = sessionRegistryMapper.findByPrincipalKey(TrackedSessionInformation.principalKeyOf(principal));
+        List<SessionInformation> result = new ArrayList<>(entries.size());
+        for (SessionRegistryEntry entry : entries) {
+            TrackedSessionInformation info = cache.get(entry.getSessionId());
+            if (info == null) {
+                info = toSessionInformation(entry);
+            } else if ("Y".equals(entry.getExpiredYn())) {
+                info.markExpired();
+            }
+            if (includeExpiredSessions || !info.isExpired()) {
+                result.add(info);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        TrackedSessionInformation info = cache.get(sessionId);
+        if (info != null || unknownSessionIds.contains(sessionId)) {
+            return info;
+        }
+        SessionRegistryEntry entry = sessionRegistryMapper.findBySessionId(sessionId).orElse(null);
+        if (entry == null) {
+            unknownSessionIds.add(sessionId);
+            return null;
+        }
+        TrackedSessionInformation loaded = toSessionInformation(entry);
+        TrackedSessionInformation existing = cache.putIfAbsent(sessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        TrackedSessionInformation info = cache.get(sessionId);
+        if (info != null) {
+            info.refreshLastRequest();
+            if (info.getLastRequestMillis() - info.getPersistedMillis() >= touchIntervalMillis) {
+                dirtySessionIds.add(sessionId);
+            }
+        }
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        String principalKey = TrackedSessionInformation.principalKeyOf(principal);
+        long now = System.currentTimeMillis();
+        SessionRegistryEntry entry = new SessionRegistryEntry();
+        entry.setSessionId(sessionId);
+        entry.setPrincipalKey(principalKey);
+        entry.setLastRequestTime(now);
+
+        sessionRegistryMapper.deleteSession(sessionId);
+        sessionRegistryMapper.insertSession(entry);
+        cache.put(sessionId, new TrackedSessionInformation(principal, principalKey, sessionId, now, false, this::expire));
+        unknownSessionIds.remove(sessionId);
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        cache.remove(sessionId);
+        dirtySessionIds.remove(sessionId);
+        sessionRegistryMapper.deleteSession(sessionId);
+    }
+
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof SessionDestroyedEvent destroyedEvent) {
+            removeSessionInformation(destroyedEvent.getId());
+        } else if (event instanceof SessionIdChangedEvent changedEvent) {
+            SessionInformation info = getSessionInformation(changedEvent.getOldSessionId());
+            if (info != null) {
+                removeSessionInformation(changedEvent.getOldSessionId());
+                registerNewSession(changedEvent.getNewSessionId(), info.getPrincipal());
+            }
+        }
+    }
+
+    /**
+     * 로컬 변경분 반영 + 다른 노드의 만료 반영
+     */
+    @Scheduled(fixedDelayString = "${security.session.registry-sync.interval-ms:1000}")
+    public void sync() {
+        flushLastRequests();
+        syncExpired();
+        unknownSessionIds.clear();
+    }
+
+    /**
+     * 마지막 요청이 오래된 세션 정리 (만료 이벤트 없이 종료된 노드의 세션 등)
+     */
+    @Scheduled(fixedDelayString = "${security.session.registry-sync.cleanup-interval-ms:300000}")
+    public void cleanup() {
+        long before = System.currentTimeMillis() - Duration.ofMinutes(staleAfterMinutes).toMillis();
+        cache.values().removeIf(info -> info.getLastRequestMillis() < before);
+        int deleted = sessionRegistryMapper.deleteStaleSessions(before);
+        if (deleted > 0) {
+            log.info("Removed {} stale session registry entries", deleted);
+        }
+    }
+
+    void flushLastRequests() {
+        if (dirtySessionIds.isEmpty()) {
+            return;
+        }
+        List<TrackedSessionInformation> batch = new ArrayList<>(dirtySessionIds.size());
+        List<Long> times = new ArrayList<>(dirtySessionIds.size());
+        for (String sessionId : dirtySessionIds) {
+            dirtySessionIds.remove(sessionId);
+            TrackedSessionInformation info = cache.get(sessionId);
+            if (info != null) {
+                batch.add(info);
+                times.add(info.getLastRequestMillis());
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    batchSessionRegistryMapper.updateLastRequestTime(batch.get(i).getSessionId(), times.get(i));
+                }
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).markPersisted(times.get(i));
+            }
+        } catch (Exception e) {
+            // 다음 주기에 재시도 (마지막 요청 시각은 정리 기준으로만 쓰이므로 유실되어도 세션 제어에는 영향 없음)
+            batch.forEach(info -> dirtySessionIds.add(info.getSessionId()));
+            log.warn("Failed to flush {} session last-request updates", batch.size(), e);
+        }
+    }
+
+    void syncExpired() {
+        long now = System.currentTimeMillis();
+        try {
+            for (String sessionId : sessionRegistryMapper.findExpiredSessionIdsSince(lastExpirySyncMillis - EXPIRY_SYNC_MARGIN_MILLIS)) {
+                TrackedSessionInformation info = cache.get(sessionId);
+                if (info != null) {
+                    info.markExpired();
+                }
+            }
+            lastExpirySyncMillis = now;
+        } catch (Exception e) {
+            log.warn("Failed to synchronize expired sessions", e);
+        }
+    }
+
+    private void expire(String sessionId) {
+        sessionRegistryMapper.expireSession(sessionId, System.currentTimeMillis());
+    }
+
+    private TrackedSessionInformation toSessionInformation(SessionRegistryEntry entry) {
+        return new TrackedSessionInformation(entry.getPrincipalKey(), entry.getPrincipalKey(), entry.getSessionId(),
+            entry.getLastRequestTime(), "Y".equals(entry.getExpiredYn()), this::expire);
+    }
+}
@@ -0,0 +1,110 @@
+package com.laze.backend.security.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 세션 레지스트리 (security.session.registry=local, 기본값).
+ *
+ * SessionRegistryImpl 과 같은 역할이지만
+ * - 사용자별 세션 집합을 ConcurrentHashMap 키 집합으로 관리 (전역 잠금 없음)
+ * - 요청마다 호출되는 refreshLastRequest 는 volatile long 갱신만 수행 (Date 할당 없음)
+ * - 사용자 키는 CustomUserDetails 객체 동일성이 아닌 cmpCd:empId 문자열
+ */
+@Component
+@ConditionalOnProperty(name = "security.session.registry", havingValue = "local", matchIfMissing = true)
+public class LocalSessionRegistry implements SessionRegistry, ApplicationListener<AbstractSessionEvent> {
+
+    private final Map<String, TrackedSessionInformation> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionIdsByPrincipal = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        List<Object> principals = new ArrayList<>();
+        for (Set<String> sessionIds : sessionIdsByPrincipal.values()) {
+            for (String sessionId : sessionIds) {
+                TrackedSessionInformation info = sessions.get(sessionId);
+                if (info != null) {
+                    principals.add(info.getPrincipal());
+                    break;
+                }
+            }
+        }
+        return principals;
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        Set<String> sessionIds = sessionIdsByPrincipal.get(TrackedSessionInformation.principalKeyOf(principal));
+        if (sessionIds == null) {
+            return List.of();
+        }
+        List<SessionInformation> result = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            TrackedSessionInformation info = sessions.get(sessionId);
+            if (info != null && (includeExpiredSessions || !info.isExpired())) {
+                result.add(info);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        TrackedSessionInformation info = sessions.get(sessionId);
+        if (info != null) {
+            info.refreshLastRequest();
+        }
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        removeSessionInformation(sessionId);
+        String principalKey = TrackedSessionInformation.principalKeyOf(principal);
+        sessions.put(sessionId, new TrackedSessionInformation(principal, principalKey, sessionId,
+            System.currentTimeMillis(), false, null));
+        sessionIdsByPrincipal.computeIfAbsent(principalKey, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        TrackedSessionInformation info = sessions.remove(sessionId);
+        if (info == null) {
+            return;
+        }
+        sessionIdsByPrincipal.computeIfPresent(info.getPrincipalKey(), (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    @Override
+    public void onApplicationEvent(AbstractSessionEvent event) {
+        if (event instanceof SessionDestroyedEvent destroyedEvent) {
+            removeSessionInformation(destroyedEvent.getId());
+        } else if (event instanceof SessionIdChangedEvent changedEvent) {
+            TrackedSessionInformation info = sessions.get(changedEvent.getOldSessionId());
+            if (info != null) {
+                removeSessionInformation(changedEvent.getOldSessionId());
+                registerNewSession(changedEvent.getNewSessionId(), info.getPrincipal());
+            }
+        }
+    }
+}
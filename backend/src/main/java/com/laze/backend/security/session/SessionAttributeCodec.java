@@ -0,0 +1,283 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.security.token.CmpUserAuthenticationToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 세션 속성 직렬화 코덱 (JDBC 세션 저장소용).
+ *
+ * 로그인 사용자의 SecurityContext(CmpUserAuthenticationToken + CustomUserDetails + 메뉴 권한)는
+ * Java 직렬화 대신 필드 순서가 고정된 버전 있는 바이너리 포맷으로 기록한다.
+ * 그 외 속성은 기존과 같이 Java 직렬화를 사용한다. (Java 직렬화 스트림은 0xACED 로 시작하므로 포맷 구분 가능)
+ *
+ * SecurityContext 포맷 (v2, v1 은 권한 변경 감지 번호 없음)
+ *   'C' | version | flags | cmpCd | details | authorities | empId | userFlags | 사용자 문자열 필드 20개 | 메뉴 ID 목록 | 권한 변경 감지 번호
+ *
+ * - 비밀번호 해시(CustomUserDetails.password)는 세션 저장소에 기록하지 않는다. (로그인 이후 사용처 없음)
+ * - 메뉴 권한은 노드 로컬 인덱스가 아닌 메뉴 ID 로 기록하고 읽을 때 다시 인터닝한다.
+ * - 회사/부서 정보는 읽을 때 ReferenceData 에 있으면 공유 인스턴스로 대체한다.
+ * - 필드를 추가할 때는 CONTEXT_VERSION 을 올리고 이전 버전 읽기를 유지한다.
+ *   알 수 없는(더 높은) 버전은 null 로 읽어 해당 세션을 미인증으로 취급한다. (순차 배포 중 재로그인 유도)
+ */
+@Slf4j
+@Component
+public class SessionAttributeCodec {
+
+    static final byte FORMAT_SECURITY_CONTEXT = 'C';
+    static final byte CONTEXT_VERSION = 2;
+
+    private static final byte JAVA_STREAM_MAGIC = (byte) 0xAC;
+
+    private static final int FLAG_AUTHENTICATED = 1;
+    private static final int FLAG_WEB_DETAILS = 1 << 1;
+
+    private static final int USER_ENABLED = 1;
+    private static final int USER_ACCOUNT_NON_EXPIRED = 1 << 1;
+    private static final int USER_ACCOUNT_NON_LOCKED = 1 << 2;
+    private static final int USER_CREDENTIALS_NON_EXPIRED = 1 << 3;
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer = new DeserializingConverter(getClass().getClassLoader());
+
+    /**
+     * 세션 속성 값 -> 바이트 배열
+     */
+    public byte[] encode(Object value) {
+        if (value instanceof SecurityContext context && isCompactEncodable(context)) {
+            try {
+                return encodeSecurityContext(context);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to encode security context", e);
+            }
+        }
+        return javaSerializer.convert(value);
+    }
+
+    /**
+     * 바이트 배열 -> 세션 속성 값
+     */
+    public Object decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] == JAVA_STREAM_MAGIC) {
+            return javaDeserializer.convert(bytes);
+        }
+        if (bytes[0] != FORMAT_SECURITY_CONTEXT) {
+            throw new IllegalArgumentException("Unknown session attribute format: " + bytes[0]);
+        }
+        try {
+            return decodeSecurityContext(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode security context", e);
+        }
+    }
+
+    private boolean isCompactEncodable(SecurityContext context) {
+        if (context.getClass() != SecurityContextImpl.class
+            || !(context.getAuthentication() instanceof CmpUserAuthenticationToken token)
+            || token.getClass() != CmpUserAuthenticationToken.class
+            || token.getCredentials() != null
+            || !(token.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return false;
+        }
+        Object details = token.getDetails();
+        if (details != null && details.getClass() != WebAuthenticationDetails.class) {
+            return false;
+        }
+        return isSimpleAuthorities(token.getAuthorities()) && isSimpleAuthorities(userDetails.getAuthorities());
+    }
+
+    private static boolean isSimpleAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return true;
+        }
+        for (GrantedAuthority authority : authorities) {
+            if (authority.getClass() != SimpleGrantedAuthority.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] encodeSecurityContext(SecurityContext context) throws IOException {
+        CmpUserAuthenticationToken token = (CmpUserAuthenticationToken) context.getAuthentication();
+        CustomUserDetails user = (CustomUserDetails) token.getPrincipal();
+        WebAuthenticationDetails details = (WebAuthenticationDetails) token.getDetails();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_SECURITY_CONTEXT);
+        out.writeByte(CONTEXT_VERSION);
+        out.writeByte((token.isAuthenticated() ? FLAG_AUTHENTICATED : 0) | (details != null ? FLAG_WEB_DETAILS : 0));
+        writeString(out, token.getCmpCd());
+        if (details != null) {
+            writeString(out, details.getRemoteAddress());
+            writeString(out, details.getSessionId());
+        }
+        writeAuthorities(out, token.getAuthorities());
+
+        writeString(out, user.getEmpId());
+        out.writeByte((user.isEnabled() ? USER_ENABLED : 0)
+            | (user.isAccountNonExpired() ? USER_ACCOUNT_NON_EXPIRED : 0)
+            | (user.isAccountNonLocked() ? USER_ACCOUNT_NON_LOCKED : 0)
+            | (user.isCredentialsNonExpired() ? USER_CREDENTIALS_NON_EXPIRED : 0));
+        writeAuthorities(out, user.getAuthorities());
+        writeString(out, user.getCmpCd());
+        writeString(out, user.getEmpNm());
+        writeString(out, user.getDeptCd());
+        writeString(out, user.getJobclsCd());
+        writeString(out, user.getJobclsNm());
+        writeString(out, user.getTelNo());
+        writeString(out, user.getHpNo());
+        writeString(out, user.getMail());
+        writeString(out, user.getCmpNm());
+        writeString(out, user.getBizcpRegNo());
+        writeString(out, user.getCeoNm());
+        writeString(out, user.getRprsTelNo());
+        writeString(out, user.getPostNo());
+        writeString(out, user.getAddr());
+        writeString(out, user.getDeptNm());
+        writeString(out, user.getHqCd());
+        writeString(out, user.getHqNm());
+        writeString(out, user.getDpldEmpId());
+
+        MenuPermissionSet menus = user.getAccessibleMenuIds() != null ? user.getAccessibleMenuIds() : MenuPermissionSet.EMPTY;
+        out.writeInt(menus.size());
+        for (String menuId : menus) {
+            out.writeUTF(menuId);
+        }
+        out.writeLong(user.getAuthoritySeq());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private Object decodeSecurityContext(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.readByte(); // format
+        int version = in.readUnsignedByte();
+        if (version != CONTEXT_VERSION && version != 1) {
+            log.warn("Unsupported security context version {} in session store, treating session as unauthenticated", version);
+            return null;
+        }
+        int flags = in.readUnsignedByte();
+        String cmpCd = readString(in);
+        WebAuthenticationDetails details = null;
+        if ((flags & FLAG_WEB_DETAILS) != 0) {
+            details = new WebAuthenticationDetails(readString(in), readString(in));
+        }
+        List<GrantedAuthority> tokenAuthorities = readAuthorities(in);
+
+        String empId = readString(in);
+        int userFlags = in.readUnsignedByte();
+        List<GrantedAuthority> userAuthorities = readAuthorities(in);
+        String userCmpCd = readString(in);
+        String empNm = readString(in);
+        String deptCd = readString(in);
+        String jobclsCd = readString(in);
+        String jobclsNm = readString(in);
+        String telNo = readString(in);
+        String hpNo = readString(in);
+        String mail = readString(in);
+        CompanyInfo company = new CompanyInfo(userCmpCd, readString(in), readString(in), readString(in),
+            readString(in), readString(in), readString(in));
+        DepartmentInfo department = new DepartmentInfo(userCmpCd, deptCd, readString(in), readString(in),
+            readString(in), readString(in));
+        MenuPermissionSet menus = readMenus(in);
+        long authoritySeq = version >= 2 ? in.readLong() : 0; // v1 세션은 권한 변경 표시가 있으면 한 번 갱신
+
+        ReferenceData referenceData = ReferenceData.global();
+        CompanyInfo sharedCompany = referenceData.company(userCmpCd);
+        DepartmentInfo sharedDepartment = referenceData.department(userCmpCd, deptCd);
+        CustomUserDetails user = CustomUserDetails.builder()
+            .empId(empId)
+            .enabled((userFlags & USER_ENABLED) != 0)
+            .accountNonExpired((userFlags & USER_ACCOUNT_NON_EXPIRED) != 0)
+            .accountNonLocked((userFlags & USER_ACCOUNT_NON_LOCKED) != 0)
+            .credentialsNonExpired((userFlags & USER_CREDENTIALS_NON_EXPIRED) != 0)
+            .authorities(userAuthorities)
+            .cmpCd(userCmpCd)
+            .empNm(empNm)
+            .deptCd(deptCd)
+            .jobclsCd(jobclsCd)
+            .jobclsNm(jobclsNm)
+            .telNo(telNo)
+            .hpNo(hpNo)
+            .mail(mail)
+            .company(sharedCompany != null ? sharedCompany : company)
+            .department(sharedDepartment != null ? sharedDepartment : department)
+            .accessibleMenuIds(menus)
+            .referenceVersion(referenceData.version())
+            .authoritySeq(authoritySeq)
+            .build();
+
+        CmpUserAuthenticationToken token = (flags & FLAG_AUTHENTICATED) != 0
+            ? new CmpUserAuthenticationToken(cmpCd, user, null, tokenAuthorities)
+            : new CmpUserAuthenticationToken(cmpCd, user, null);
+        token.setDetails(details);
+        return new SecurityContextImpl(token);
+    }
+
+    private static MenuPermissionSet readMenus(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> menuIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            menuIds.add(in.readUTF());
+        }
+        return MenuPermissionSet.of(menuIds);
+    }
+
+    private static void writeAuthorities(DataOutputStream out, Collection<? extends GrantedAuthority> authorities) throws IOException {
+        if (authorities == null) {
+            out.writeShort(-1);
+            return;
+        }
+        out.writeShort(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeUTF(authority.getAuthority());
+        }
+    }
+
+    private static List<GrantedAuthority> readAuthorities(DataInputStream in) throws IOException {
+        int count = in.readShort();
+        if (count < 0) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        return authorities;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
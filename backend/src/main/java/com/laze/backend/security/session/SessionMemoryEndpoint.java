@@ -0,0 +1,159 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.common.util.ObjectSizeEstimator;
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.dto.SessionMemoryReport;
+import com.laze.backend.security.dto.SessionMemoryReport.AttributeUsage;
+import com.laze.backend.security.dto.SessionMemoryReport.CompanyUsage;
+import com.laze.backend.security.dto.SessionMemoryReport.SessionUsage;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 세션 힙 점유 계측 actuator 엔드포인트 (GET /actuator/sessionmemory?top=10, ADMIN 권한).
+ *
+ * 현재 노드의 세션별 속성 값을 ObjectSizeEstimator 로 추정하여
+ * 세션 수, 세션당 평균, 속성별 합계, 상위 세션, 회사별 합계를 보고한다.
+ * 크기는 속성 값 객체 그래프 기준이며 컨테이너의 세션 객체 자체(Tomcat StandardSession 등)는 포함하지 않는다.
+ * 로그인 사용자가 참조하는 ReferenceData 공유 인스턴스(회사/부서 정보, 메뉴 권한)는 노드에 한 벌만 있으므로
+ * 세션 크기에서 제외한다. (참조 데이터에 없어 세션별로 만든 인스턴스는 포함)
+ * 호출 시 모든 세션을 순회하므로 운영 중 주기적 수집이 아닌 필요 시 조회 용도로 사용한다.
+ */
+@Component
+@Endpoint(id = "sessionmemory")
+@RequiredArgsConstructor
+public class SessionMemoryEndpoint {
+
+    private static final int DEFAULT_TOP = 10;
+    private static final String ANONYMOUS = "-";
+
+    private final HttpSessionTracker httpSessionTracker;
+
+    @Value("${security.session.store:memory}")
+    private String sessionStore = "memory";
+
+    @ReadOperation
+    public SessionMemoryReport report(@Nullable Integer top) {
+        int limit = top != null && top > 0 ? top : DEFAULT_TOP;
+        Map<String, long[]> attributes = new TreeMap<>();   // 이름 -> [세션 수, 바이트]
+        Map<String, long[]> companies = new TreeMap<>();    // cmpCd -> [세션 수, 바이트]
+        PriorityQueue<SessionUsage> largest = new PriorityQueue<>(Comparator.comparingLong(SessionUsage::bytes));
+        int sessionCount = 0;
+        long totalBytes = 0;
+
+        for (HttpSession session : httpSessionTracker.sessions()) {
+            SessionUsage usage = measure(session);
+            if (usage == null) {
+                continue; // 이미 무효화된 세션
+            }
+            sessionCount++;
+            totalBytes += usage.bytes();
+            usage.attributes().forEach((name, bytes) -> accumulate(attributes, name, bytes));
+            accumulate(companies, usage.cmpCd(), usage.bytes());
+            largest.add(usage);
+            if (largest.size() > limit) {
+                largest.poll();
+            }
+        }
+
+        List<AttributeUsage> attributeUsages = new ArrayList<>();
+        attributes.forEach((name, sum) -> attributeUsages.add(new AttributeUsage(name, (int) sum[0], sum[1], sum[1] / sum[0])));
+        List<CompanyUsage> companyUsages = new ArrayList<>();
+        companies.forEach((cmpCd, sum) -> companyUsages.add(new CompanyUsage(cmpCd, (int) sum[0], sum[1])));
+        companyUsages.sort(Comparator.comparingLong(CompanyUsage::totalBytes).reversed());
+        List<SessionUsage> largestSessions = new ArrayList<>(largest);
+        largestSessions.sort(Comparator.comparingLong(SessionUsage::bytes).reversed());
+
+        return new SessionMemoryReport(sessionStore, sessionCount, totalBytes,
+            sessionCount == 0 ? 0 : totalBytes / sessionCount, attributeUsages, largestSessions, companyUsages);
+    }
+
+    @Nullable
+    private SessionUsage measure(HttpSession session) {
+        try {
+            Map<String, Long> attributeBytes = new LinkedHashMap<>();
+            String cmpCd = ANONYMOUS;
+            String empId = null;
+            long bytes = 0;
+            for (Enumeration<String> names = session.getAttributeNames(); names.hasMoreElements(); ) {
+                String name = names.nextElement();
+                Object value = session.getAttribute(name);
+                List<Object> shared = List.of();
+                if (value instanceof SecurityContext context && principalOf(context) instanceof CustomUserDetails userDetails) {
+                    cmpCd = userDetails.getCmpCd();
+                    empId = userDetails.getEmpId();
+                    shared = sharedReferences(userDetails);
+                }
+                long size = ObjectSizeEstimator.estimate(value, shared);
+                attributeBytes.put(name, size);
+                bytes += size;
+            }
+            return new SessionUsage(mask(session.getId()), cmpCd, empId, bytes, Collections.unmodifiableMap(attributeBytes));
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 사용자가 참조하는 ReferenceData 공유 인스턴스 (현재 스냅샷과 동일 객체인 경우만)
+     */
+    private static List<Object> sharedReferences(CustomUserDetails userDetails) {
+        ReferenceData referenceData = ReferenceData.global();
+        List<Object> shared = new ArrayList<>(3);
+        shared.add(MenuPermissionSet.EMPTY);
+        CompanyInfo company = userDetails.getCompany();
+        if (company != null && company == referenceData.company(userDetails.getCmpCd())) {
+            shared.add(company);
+        }
+        DepartmentInfo department = userDetails.getDepartment();
+        if (department != null && department == referenceData.department(userDetails.getCmpCd(), userDetails.getDeptCd())) {
+            shared.add(department);
+        }
+        MenuPermissionSet menus = userDetails.getAccessibleMenuIds();
+        if (menus != null && userDetails.getAuthorities() != null) {
+            List<String> authGrpIds = userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+            if (menus == referenceData.menusOf(userDetails.getCmpCd(), authGrpIds)) {
+                shared.add(menus);
+            }
+        }
+        return shared;
+    }
+
+    @Nullable
+    private static Object principalOf(SecurityContext context) {
+        Authentication authentication = context.getAuthentication();
+        return authentication != null ? authentication.getPrincipal() : null;
+    }
+
+    private static void accumulate(Map<String, long[]> sums, String key, long bytes) {
+        long[] sum = sums.computeIfAbsent(key, k -> new long[2]);
+        sum[0]++;
+        sum[1] += bytes;
+    }
+
+    private static String mask(String sessionId) {
+        return sessionId.length() <= 6 ? sessionId : sessionId.substring(0, 6) + "...";
+    }
+}
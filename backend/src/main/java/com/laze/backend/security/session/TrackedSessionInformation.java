@@ -0,0 +1,99 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serial;
+import java.security.Principal;
+import java.util.Date;
+import java.util.function.Consumer;
+
+/**
+ * 세션 레지스트리 항목.
+ *
+ * 기본 SessionInformation 은 refreshLastRequest() 마다 Date 를 새로 만들지만,
+ * 요청마다 호출되므로 마지막 요청 시각은 volatile long 으로만 갱신한다 (할당 없음).
+ * 만료(expireNow) 시 onExpire 콜백으로 공유 저장소에 즉시 반영할 수 있다.
+ */
+class TrackedSessionInformation extends SessionInformation {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String principalKey;
+    private final transient Consumer<String> onExpire;
+    private volatile long lastRequestMillis;
+    private volatile long persistedMillis; // 공유 저장소에 마지막으로 기록한 lastRequestMillis
+    private volatile boolean expired;
+
+    TrackedSessionInformation(Object principal, String principalKey, String sessionId, long lastRequestMillis,
+                              boolean expired, Consumer<String> onExpire) {
+        super(principal, sessionId, new Date(lastRequestMillis));
+        this.principalKey = principalKey;
+        this.lastRequestMillis = lastRequestMillis;
+        this.persistedMillis = lastRequestMillis;
+        this.expired = expired;
+        this.onExpire = onExpire;
+    }
+
+    String getPrincipalKey() {
+        return principalKey;
+    }
+
+    long getLastRequestMillis() {
+        return lastRequestMillis;
+    }
+
+    long getPersistedMillis() {
+        return persistedMillis;
+    }
+
+    void markPersisted(long millis) {
+        persistedMillis = millis;
+    }
+
+    @Override
+    public Date getLastRequest() {
+        return new Date(lastRequestMillis);
+    }
+
+    @Override
+    public void refreshLastRequest() {
+        lastRequestMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return expired;
+    }
+
+    @Override
+    public void expireNow() {
+        markExpired();
+        if (onExpire != null) {
+            onExpire.accept(getSessionId());
+        }
+    }
+
+    /** 다른 노드에서 만료된 것을 반영 (저장소 기록 없음) */
+    void markExpired() {
+        expired = true;
+    }
+
+    /**
+     * 레지스트리 키로 쓸 사용자 식별값 (CustomUserDetails 는 cmpCd:empId, 그 외 getName/toString)
+     */
+    static String principalKeyOf(Object principal) {
+        if (principal instanceof CustomUserDetails userDetails) {
+            return userDetails.getCmpCd() + ':' + userDetails.getEmpId();
+        }
+        if (principal instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        if (principal instanceof Principal namedPrincipal) {
+            return namedPrincipal.getName();
+        }
+        return String.valueOf(principal);
+    }
+}
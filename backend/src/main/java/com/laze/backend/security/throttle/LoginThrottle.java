@@ -0,0 +1,182 @@
+package com.laze.backend.security.throttle;
+
+import com.laze.backend.common.ratelimit.GcraRateLimiter;
+import com.laze.backend.security.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 사전 차단 (BCrypt 검증 전 단계).
+ *
+ * 비밀번호 검증은 건당 수십~수백 ms 의 CPU 를 쓰므로, 결과가 뻔한 시도는 검증 전에 거절한다.
+ * 1. IP 별 토큰 버킷 초과            -> 429 LOGIN_THROTTLED
+ * 2. 잠김/미존재로 확인된 계정 (부정 캐시, 짧은 TTL) -> ACCOUNT_LOCKED / USER_NOT_FOUND
+ * 3. 계정(cmpCd, empId) 별 토큰 버킷 초과 -> 429 LOGIN_THROTTLED
+ *
+ * 버킷은 GcraRateLimiter(lock-free CAS)로 판단하므로 거절은 마이크로초 단위로 끝난다.
+ * IP 는 request.getRemoteAddr() 이므로 프록시(nginx 등) 뒤에서는 server.forward-headers-strategy 와
+ * 신뢰 프록시(server.tomcat.remoteip.internal-proxies) 설정으로 X-Forwarded-For 의 클라이언트 IP 가 쓰이게 해야 한다.
+ * (미설정 시 모든 사용자가 프록시 IP 버킷 하나를 공유)
+ * 잠금 해제(POST /api/admin/users/{cmpCd}/{empId}/unlock)는 처리한 노드의 부정 캐시를 즉시 지운다.
+ * 다른 노드와 DB 직접 변경(잠금 해제/계정 생성)은 TTL 이 지나 다시 DB 로 확인할 때 반영된다.
+ *
+ * 메트릭
+ * - login.throttle.rejected{reason=ip|account|locked|unknown} : 사전 거절 건수
+ * - login.throttle.negative.size                             : 부정 캐시 항목 수
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private enum Negative { LOCKED, UNKNOWN }
+
+    private record NegativeEntry(Negative reason, long expiresAtNanos) {
+    }
+
+    private final boolean enabled;
+    private final GcraRateLimiter ipLimiter;
+    private final GcraRateLimiter accountLimiter;
+    private final long negativeTtlNanos;
+    private final int negativeMaxSize;
+    private final Map<String, NegativeEntry> negativeCache = new ConcurrentHashMap<>();
+
+    private final Counter ipRejected;
+    private final Counter accountRejected;
+    private final Counter lockedRejected;
+    private final Counter unknownRejected;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${security.login.throttle.enabled:true}") boolean enabled,
+                         @Value("${security.login.throttle.ip.rate-per-minute:60}") double ipRatePerMinute,
+                         @Value("${security.login.throttle.ip.burst:20}") int ipBurst,
+                         @Value("${security.login.throttle.account.rate-per-minute:10}") double accountRatePerMinute,
+                         @Value("${security.login.throttle.account.burst:5}") int accountBurst,
+                         @Value("${security.login.throttle.negative-cache.ttl-seconds:60}") long negativeTtlSeconds,
+                         @Value("${security.login.throttle.negative-cache.max-size:100000}") int negativeMaxSize) {
+        this.enabled = enabled;
+        this.ipLimiter = new GcraRateLimiter(ipRatePerMinute, ipBurst);
+        this.accountLimiter = new GcraRateLimiter(accountRatePerMinute, accountBurst);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.negativeMaxSize = negativeMaxSize;
+
+        this.ipRejected = rejectedCounter(meterRegistry, "ip");
+        this.accountRejected = rejectedCounter(meterRegistry, "account");
+        this.lockedRejected = rejectedCounter(meterRegistry, "locked");
+        this.unknownRejected = rejectedCounter(meterRegistry, "unknown");
+        Gauge.builder("login.throttle.negative.size", negativeCache, Map::size)
+            .description("Accounts cached as locked or unknown")
+            .register(meterRegistry);
+
+        log.info("Login throttle {}. ip: {}/min burst {}, account: {}/min burst {}, negativeTtl: {}s",
+            enabled ? "enabled" : "disabled", ipRatePerMinute, ipBurst, accountRatePerMinute, accountBurst, negativeTtlSeconds);
+    }
+
+    /**
+     * 비밀번호 검증 전 로그인 시도 허용 여부 확인
+     * @param clientIp 요청 IP
+     * @param cmpCd 회사 코드
+     * @param empId 사원 ID
+     * @throws LoginThrottledException IP/계정 시도 속도 초과
+     * @throws LockedException 잠긴 계정으로 확인됨 (부정 캐시)
+     * @throws UsernameNotFoundException 존재하지 않는 계정으로 확인됨 (부정 캐시)
+     */
+    public void checkAttempt(String clientIp, String cmpCd, String empId) {
+        if (!enabled) {
+            return;
+        }
+        long ipWait = ipLimiter.tryAcquire(clientIp);
+        if (ipWait > 0) {
+            ipRejected.increment();
+            throw new LoginThrottledException("Too many login attempts from " + clientIp, toRetryAfterSeconds(ipWait));
+        }
+
+        String accountKey = accountKey(cmpCd, empId);
+        NegativeEntry negative = negativeCache.get(accountKey);
+        if (negative != null) {
+            if (negative.expiresAtNanos - System.nanoTime() > 0) {
+                if (negative.reason == Negative.LOCKED) {
+                    lockedRejected.increment();
+                    throw new LockedException("User account is locked");
+                }
+                unknownRejected.increment();
+                throw new UsernameNotFoundException("User not found with cmpCd: " + cmpCd + ", empId: " + empId);
+            }
+            negativeCache.remove(accountKey, negative);
+        }
+
+        long accountWait = accountLimiter.tryAcquire(accountKey);
+        if (accountWait > 0) {
+            accountRejected.increment();
+            throw new LoginThrottledException("Too many login attempts for empId: " + empId, toRetryAfterSeconds(accountWait));
+        }
+    }
+
+    /**
+     * 잠긴 계정으로 기록 (TTL 동안 비밀번호 검증 없이 거절)
+     */
+    public void markLocked(String cmpCd, String empId) {
+        putNegative(cmpCd, empId, Negative.LOCKED);
+    }
+
+    /**
+     * 존재하지 않는 계정으로 기록 (TTL 동안 DB 조회 없이 거절)
+     */
+    public void markUnknown(String cmpCd, String empId) {
+        putNegative(cmpCd, empId, Negative.UNKNOWN);
+    }
+
+    /**
+     * 부정 캐시에서 제거 (잠금 해제, 계정 생성 등 즉시 반영이 필요한 경우)
+     */
+    public void clear(String cmpCd, String empId) {
+        negativeCache.remove(accountKey(cmpCd, empId));
+    }
+
+    /**
+     * 만료된 부정 캐시 항목과 가득 찬(유휴) 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${security.login.throttle.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long now = System.nanoTime();
+        negativeCache.values().removeIf(entry -> entry.expiresAtNanos - now <= 0);
+        int evicted = ipLimiter.evictIdle() + accountLimiter.evictIdle();
+        log.debug("Login throttle cleanup. evicted buckets: {}, negative entries: {}", evicted, negativeCache.size());
+    }
+
+    private void putNegative(String cmpCd, String empId, Negative reason) {
+        if (!enabled || negativeTtlNanos <= 0) {
+            return;
+        }
+        // 임의 ID 대량 시도로 메모리가 늘지 않도록 상한 초과 시 기록하지 않음 (IP 버킷이 대신 차단)
+        if (negativeCache.size() >= negativeMaxSize) {
+            return;
+        }
+        negativeCache.put(accountKey(cmpCd, empId), new NegativeEntry(reason, System.nanoTime() + negativeTtlNanos));
+    }
+
+    private static String accountKey(String cmpCd, String empId) {
+        return cmpCd + ':' + empId;
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("login.throttle.rejected")
+            .description("Login attempts rejected before password verification")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
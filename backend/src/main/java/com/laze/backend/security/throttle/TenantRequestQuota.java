@@ -0,0 +1,201 @@
+package com.laze.backend.security.throttle;
+
+import com.laze.backend.common.ratelimit.GcraRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회사(cmpCd) / 사용자별 메뉴 API 요청 한도 (MenuAccessControlFilter 에서 적용).
+ *
+ * 한 회사의 대량 자동화 요청이 공유 백엔드를 점유하지 않도록 메뉴 경로(/api/{메뉴ID}/...) 요청에
+ * 속도 한도와 동시 처리 한도를 회사/사용자 단위로 둔다. 판단은 모두 lock-free 이다.
+ * - 속도 : GcraRateLimiter (분당 허용 건수 + burst, 이동 구간 기준)
+ * - 동시 : 키별 AtomicInteger 처리 중 건수 (요청 종료 시 Lease.release)
+ * 사용자 한도를 먼저 확인하여 한 사용자가 회사 전체 한도를 소진하기 전에 차단한다.
+ * 각 한도 값이 0 이면 해당 한도를 적용하지 않는다.
+ *
+ * 메트릭 (회사 수만큼의 태그, 사용자는 태그로 쓰지 않음)
+ * - tenant.requests{cmpCd}                  : 허용된 메뉴 API 요청 수
+ * - tenant.requests.rejected{cmpCd, reason} : 거절 수 (reason=company-rate|user-rate|company-concurrency|user-concurrency)
+ * - tenant.requests.active{cmpCd}           : 처리 중인 요청 수
+ */
+@Slf4j
+@Component
+public class TenantRequestQuota {
+
+    /** 동시 처리 한도 초과 시 안내하는 재시도 대기 시간 */
+    private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1;
+
+    private static final Lease UNLIMITED = new Lease(null, null, 0);
+
+    private final boolean enabled;
+    private final GcraRateLimiter companyLimiter; // null 이면 속도 한도 없음
+    private final GcraRateLimiter userLimiter;
+    private final int companyMaxConcurrent;
+    private final int userMaxConcurrent;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TenantUsage> tenants = new ConcurrentHashMap<>();     // 회사 수만큼 (정리하지 않음)
+    private final Map<String, AtomicInteger> userActive = new ConcurrentHashMap<>(); // 유휴 항목은 cleanup 에서 제거
+
+    public TenantRequestQuota(MeterRegistry meterRegistry,
+                              @Value("${security.tenant-quota.enabled:true}") boolean enabled,
+                              @Value("${security.tenant-quota.company.rate-per-minute:6000}") double companyRatePerMinute,
+                              @Value("${security.tenant-quota.company.burst:300}") int companyBurst,
+                              @Value("${security.tenant-quota.company.max-concurrent:50}") int companyMaxConcurrent,
+                              @Value("${security.tenant-quota.user.rate-per-minute:600}") double userRatePerMinute,
+                              @Value("${security.tenant-quota.user.burst:60}") int userBurst,
+                              @Value("${security.tenant-quota.user.max-concurrent:8}") int userMaxConcurrent) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.companyLimiter = companyRatePerMinute > 0 ? new GcraRateLimiter(companyRatePerMinute, companyBurst) : null;
+        this.userLimiter = userRatePerMinute > 0 ? new GcraRateLimiter(userRatePerMinute, userBurst) : null;
+        this.companyMaxConcurrent = companyMaxConcurrent;
+        this.userMaxConcurrent = userMaxConcurrent;
+
+        log.info("Tenant request quota {}. company: {}/min burst {} concurrent {}, user: {}/min burst {} concurrent {}",
+            enabled ? "enabled" : "disabled", companyRatePerMinute, companyBurst, companyMaxConcurrent,
+            userRatePerMinute, userBurst, userMaxConcurrent);
+    }
+
+    /**
+     * 메뉴 API 요청 1건 허용 여부 확인
+     * @param cmpCd 회사 코드
+     * @param empId 사원 ID
+     * @return 허용 시 granted() 가 true 인 Lease (요청 종료 시 반드시 release), 거절 시 재시도 대기 시간을 가진 Lease
+     */
+    public Lease tryAcquire(String cmpCd, String empId) {
+        if (!enabled || cmpCd == null) {
+            return UNLIMITED;
+        }
+        TenantUsage tenant = tenants.computeIfAbsent(cmpCd, this::newTenantUsage);
+        String userKey = cmpCd + ':' + empId;
+
+        // 1. 속도 한도 (사용자 -> 회사)
+        if (userLimiter != null) {
+            long wait = userLimiter.tryAcquire(userKey);
+            if (wait > 0) {
+                return reject(tenant, "user-rate", toRetryAfterSeconds(wait));
+            }
+        }
+        if (companyLimiter != null) {
+            long wait = companyLimiter.tryAcquire(cmpCd);
+            if (wait > 0) {
+                return reject(tenant, "company-rate", toRetryAfterSeconds(wait));
+            }
+        }
+
+        // 2. 동시 처리 한도 (사용자 -> 회사, 초과 시 증가분 되돌림)
+        AtomicInteger user = userActive.computeIfAbsent(userKey, k -> new AtomicInteger());
+        if (user.incrementAndGet() > userMaxConcurrent && userMaxConcurrent > 0) {
+            user.decrementAndGet();
+            return reject(tenant, "user-concurrency", CONCURRENCY_RETRY_AFTER_SECONDS);
+        }
+        if (tenant.active.incrementAndGet() > companyMaxConcurrent && companyMaxConcurrent > 0) {
+            tenant.active.decrementAndGet();
+            user.decrementAndGet();
+            return reject(tenant, "company-concurrency", CONCURRENCY_RETRY_AFTER_SECONDS);
+        }
+        tenant.allowed.increment();
+        return new Lease(tenant.active, user, 0);
+    }
+
+    /**
+     * 유휴 속도 버킷과 처리 중 요청이 없는 사용자 항목 정리
+     * (정리와 동시에 들어온 요청은 제거된 카운터를 쓸 수 있어 해당 요청 동안만 사용자 동시 한도가 느슨해질 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${security.tenant-quota.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        int evicted = 0;
+        if (companyLimiter != null) {
+            evicted += companyLimiter.evictIdle();
+        }
+        if (userLimiter != null) {
+            evicted += userLimiter.evictIdle();
+        }
+        userActive.values().removeIf(active -> active.get() == 0);
+        log.debug("Tenant quota cleanup. evicted buckets: {}, active users: {}", evicted, userActive.size());
+    }
+
+    private Lease reject(TenantUsage tenant, String reason, long retryAfterSeconds) {
+        // 거절 사유별 카운터는 회사별로 최초 1회만 등록 (한도 초과 폭주 시 요청마다 레지스트리 조회하지 않음)
+        tenant.rejected.computeIfAbsent(reason, key -> Counter.builder("tenant.requests.rejected")
+            .description("Menu API requests rejected by tenant quota")
+            .tag("cmpCd", tenant.cmpCd)
+            .tag("reason", key)
+            .register(meterRegistry))
+            .increment();
+        return new Lease(null, null, retryAfterSeconds);
+    }
+
+    private TenantUsage newTenantUsage(String cmpCd) {
+        TenantUsage usage = new TenantUsage(cmpCd, Counter.builder("tenant.requests")
+            .description("Menu API requests allowed by tenant quota")
+            .tag("cmpCd", cmpCd)
+            .register(meterRegistry));
+        Gauge.builder("tenant.requests.active", usage.active, AtomicInteger::get)
+            .description("Menu API requests in progress")
+            .tag("cmpCd", cmpCd)
+            .register(meterRegistry);
+        return usage;
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static final class TenantUsage {
+        private final String cmpCd;
+        private final Counter allowed;
+        private final Map<String, Counter> rejected = new ConcurrentHashMap<>(); // 거절 사유 -> 카운터 (사유 4종)
+        private final AtomicInteger active = new AtomicInteger();
+
+        private TenantUsage(String cmpCd, Counter allowed) {
+            this.cmpCd = cmpCd;
+            this.allowed = allowed;
+        }
+    }
+
+    /**
+     * 요청 1건의 한도 점유. 허용된 경우 요청 종료 시 release() 로 동시 처리 건수를 반환한다.
+     */
+    public static final class Lease {
+        private final AtomicInteger companyActive;
+        private final AtomicInteger userActive;
+        private final long retryAfterSeconds;
+
+        private Lease(AtomicInteger companyActive, AtomicInteger userActive, long retryAfterSeconds) {
+            this.companyActive = companyActive;
+            this.userActive = userActive;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public boolean granted() {
+            return retryAfterSeconds == 0;
+        }
+
+        /**
+         * 거절 시 Retry-After 초
+         */
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+
+        public void release() {
+            if (companyActive != null) {
+                companyActive.decrementAndGet();
+                userActive.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.laze.backend.security.token;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.permission.PermissionChanges;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.security.token.EmployeeProfileCache.EmployeeProfile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 무상태(TOKEN) 인증 모드용 HMAC-SHA256 서명 토큰 발급/검증.
+ *
+ * 토큰 형식: base64url(payload) "." base64url(HMAC-SHA256(payload))
+ * payload (v2): version | issuedAt | expiresAt | cmpCd | empId | empNm | 권한 그룹 목록 | 메뉴 권한 지문 | 권한 변경 감지 번호
+ * (v1 은 권한 변경 감지 번호 없음, 0 으로 취급)
+ *
+ * 검증은 서명/만료 확인과 MenuPermissionResolver / EmployeeProfileCache 캐시 조회만으로 끝나므로
+ * 세션이나 요청마다의 DB 조회가 필요 없다. 부서/직급/연락처는 EmployeeProfileCache, 회사/부서 정보는 ReferenceData 에서 채운다.
+ * 발급 이후 사용자/권한 그룹이 변경 표시(PermissionChanges)되면 토큰을 거절하여 재로그인으로 권한을 다시 조회하게 한다.
+ * 모든 노드가 같은 security.token.secret 을 사용해야 한다.
+ */
+@Slf4j
+@Component
+public class AuthTokenService {
+
+    private static final byte TOKEN_VERSION = 2;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final MenuPermissionResolver menuPermissionResolver;
+    private final EmployeeProfileCache employeeProfileCache;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ThreadLocal<Mac> mac;
+
+    @Value("${security.token.cookie-name:AUTH_TOKEN}")
+    private String cookieName = "AUTH_TOKEN";
+    @Value("${server.servlet.session.cookie.secure:false}")
+    private boolean cookieSecure;
+
+    @Autowired
+    public AuthTokenService(MenuPermissionResolver menuPermissionResolver,
+                            EmployeeProfileCache employeeProfileCache,
+                            @Value("${security.token.secret:}") String secret,
+                            @Value("${security.token.ttl:8h}") Duration ttl,
+                            @Value("${security.auth.mode:SESSION}") AuthenticationMode mode) {
+        this(menuPermissionResolver, employeeProfileCache, requireSecret(secret, mode), ttl, Clock.systemUTC());
+    }
+
+    AuthTokenService(MenuPermissionResolver menuPermissionResolver, EmployeeProfileCache employeeProfileCache,
+                     String secret, Duration ttl, Clock clock) {
+        this.menuPermissionResolver = menuPermissionResolver;
+        this.employeeProfileCache = employeeProfileCache;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.key = new SecretKeySpec(secretBytes(secret), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    private static String requireSecret(String secret, AuthenticationMode mode) {
+        // TOKEN 모드에서 노드별 임의 키를 쓰면 재시작/다른 노드에서 토큰이 모두 거절되므로 기동 실패로 알림
+        if (mode == AuthenticationMode.TOKEN && !StringUtils.hasText(secret)) {
+            throw new IllegalStateException("security.token.secret must be set when security.auth.mode is TOKEN");
+        }
+        return secret;
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (!StringUtils.hasText(secret)) {
+            // 미설정 시 노드별 임의 키 (SESSION 모드에서는 토큰을 발급하지 않으므로 사용되지 않음)
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = Base64.getDecoder().decode(secret);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("security.token.secret must be at least " + MIN_SECRET_BYTES + " bytes (Base64)");
+        }
+        return bytes;
+    }
+
+    public String getCookieName() {
+        return cookieName;
+    }
+
+    /**
+     * 토큰 전달용 쿠키 (HttpOnly, 만료 = 토큰 유효기간)
+     */
+    public ResponseCookie tokenCookie(String token) {
+        return ResponseCookie.from(cookieName, token)
+            .httpOnly(true)
+            .secure(cookieSecure)
+            .sameSite("Lax")
+            .path("/")
+            .maxAge(ttl)
+            .build();
+    }
+
+    /**
+     * 로그인 성공 사용자에 대한 토큰 발급 (메뉴 권한은 지문으로 등록)
+     */
+    public String issue(CustomUserDetails user) {
+        MenuPermissionSet menus = user.getAccessibleMenuIds() != null ? user.getAccessibleMenuIds() : MenuPermissionSet.EMPTY;
+        long fingerprint = menuPermissionResolver.register(user.getCmpCd(), menus);
+        long now = clock.millis() / 1000;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TOKEN_VERSION);
+            out.writeLong(now);
+            out.writeLong(now + ttl.toSeconds());
+            out.writeUTF(user.getCmpCd());
+            out.writeUTF(user.getEmpId());
+            out.writeUTF(user.getEmpNm() != null ? user.getEmpNm() : "");
+            Collection<? extends GrantedAuthority> authorities = user.getAuthorities() != null ? user.getAuthorities() : List.of();
+            out.writeShort(authorities.size());
+            for (GrantedAuthority authority : authorities) {
+                out.writeUTF(authority.getAuthority());
+            }
+            out.writeLong(fingerprint);
+            out.writeLong(user.getAuthoritySeq());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write auth token", e);
+        }
+        byte[] payload = bytes.toByteArray();
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac.get().doFinal(payload));
+    }
+
+    /**
+     * 토큰 검증 후 인증 객체 생성
+     * @param token 토큰 문자열
+     * @return 인증 객체, 서명 불일치/만료/형식 오류/권한 변경/퇴직 시 empty
+     */
+    public Optional<CmpUserAuthenticationToken> authenticate(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(mac.get().doFinal(payload), signature)) {
+            log.debug("Auth token signature mismatch");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != TOKEN_VERSION && version != 1) {
+                return Optional.empty();
+            }
+            in.readLong(); // issuedAt
+            long expiresAt = in.readLong();
+            if (clock.millis() / 1000 >= expiresAt) {
+                log.debug("Auth token expired");
+                return Optional.empty();
+            }
+            String cmpCd = in.readUTF();
+            String empId = in.readUTF();
+            in.readUTF(); // empNm (직원 정보는 EmployeeProfileCache 기준)
+            int count = in.readShort();
+            List<String> authGrpIds = new ArrayList<>(count);
+            List<GrantedAuthority> authorities = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String authGrpId = in.readUTF();
+                authGrpIds.add(authGrpId);
+                authorities.add(new SimpleGrantedAuthority(authGrpId));
+            }
+            long fingerprint = in.readLong();
+            long authoritySeq = version >= 2 ? in.readLong() : 0;
+            if (PermissionChanges.global().isStale(cmpCd, empId, authorities, authoritySeq)) {
+                log.debug("Auth token authorities changed after issue, cmpCd: {}, empId: {}", cmpCd, empId);
+                return Optional.empty();
+            }
+
+            MenuPermissionSet menus = menuPermissionResolver.resolve(cmpCd, authGrpIds, fingerprint);
+            if (menus == null) {
+                return Optional.empty();
+            }
+            EmployeeProfile profile = employeeProfileCache.get(cmpCd, empId).orElse(null);
+            if (profile == null) {
+                log.debug("Auth token employee not found or retired, cmpCd: {}, empId: {}", cmpCd, empId);
+                return Optional.empty();
+            }
+            // 회사/부서는 ReferenceData 공유 인스턴스 (미적재/미존재 시 null)
+            ReferenceData referenceData = ReferenceData.global();
+            CustomUserDetails user = CustomUserDetails.builder()
+                .empId(empId)
+                .cmpCd(cmpCd)
+                .empNm(profile.empNm())
+                .deptCd(profile.deptCd())
+                .jobclsCd(profile.jobclsCd())
+                .jobclsNm(profile.jobclsNm())
+                .telNo(profile.telNo())
+                .hpNo(profile.hpNo())
+                .mail(profile.mail())
+                .company(referenceData.company(cmpCd))
+                .department(referenceData.department(cmpCd, profile.deptCd()))
+                .authorities(authorities)
+                .enabled(true)
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .accessibleMenuIds(menus)
+                .authoritySeq(authoritySeq)
+                .build();
+            return Optional.of(new CmpUserAuthenticationToken(cmpCd, user, null, authorities));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + HMAC_ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.laze.backend.security.token;
+
+/**
+ * 로그인 상태 유지 방식 (security.auth.mode)
+ */
+public enum AuthenticationMode {
+    /** HttpSession 에 SecurityContext 저장 (기본값) */
+    SESSION,
+    /** 세션 없이 HMAC 서명 토큰(AuthTokenService)으로 요청마다 인증 */
+    TOKEN
+}
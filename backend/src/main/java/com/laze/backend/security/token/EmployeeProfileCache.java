@@ -0,0 +1,58 @@
+package com.laze.backend.security.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laze.backend.user.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 토큰 모드의 직원 정보(FW_EMP) 복원용 캐시.
+ *
+ * 토큰에는 식별 정보만 담으므로 부서/직급/연락처는 직원 단건 조회로 채운다.
+ * 요청마다 조회하지 않도록 노드별로 security.token.profile-cache-ttl 동안 캐시한다. (비밀번호 해시는 보관하지 않음)
+ * 퇴직(RETM_YN = Y) 또는 삭제된 직원은 empty 로 캐시되어 토큰이 거절된다.
+ */
+@Slf4j
+@Component
+public class EmployeeProfileCache {
+
+    /**
+     * 토큰 사용자 복원에 필요한 직원 정보
+     */
+    public record EmployeeProfile(String empNm, String deptCd, String jobclsCd, String jobclsNm,
+                                  String telNo, String hpNo, String mail) {
+    }
+
+    private final UserMapper userMapper;
+    private final Cache<String, Optional<EmployeeProfile>> cache;
+
+    public EmployeeProfileCache(UserMapper userMapper,
+                                @Value("${security.token.profile-cache-size:10000}") long maxSize,
+                                @Value("${security.token.profile-cache-ttl:10m}") Duration ttl) {
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * 직원 정보 조회 (캐시 미스 시 DB 조회)
+     * @return 직원 정보, 없거나 퇴직이면 empty
+     */
+    public Optional<EmployeeProfile> get(String cmpCd, String empId) {
+        return cache.get(cmpCd + ':' + empId, key -> load(cmpCd, empId));
+    }
+
+    private Optional<EmployeeProfile> load(String cmpCd, String empId) {
+        return userMapper.findEmpByCmpCdAndEmpId(cmpCd, empId)
+            .filter(emp -> !"Y".equalsIgnoreCase(emp.getRetmYn()))
+            .map(emp -> new EmployeeProfile(emp.getEmpNm(), emp.getDeptCd(), emp.getJobclsCd(), emp.getJobclsNm(),
+                emp.getTelNo(), emp.getHpNo(), emp.getMail()));
+    }
+}
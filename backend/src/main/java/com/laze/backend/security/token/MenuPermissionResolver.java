@@ -0,0 +1,126 @@
+package com.laze.backend.security.token;
+
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.ReferenceData;
+import com.laze.backend.user.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 모드의 메뉴 권한 복원.
+ *
+ * 토큰에는 메뉴 ID 목록 대신 메뉴 권한 지문(fingerprint, 회사 코드 + 정렬된 메뉴 ID 의 SHA-256 앞 8바이트)만 담는다.
+ * 같은 권한 구성을 가진 사용자는 같은 지문을 가지므로 노드마다 지문 -> MenuPermissionSet 을 캐시하여 공유하고,
+ * 캐시에 없을 때만(노드별 권한 구성당 1회) 토큰의 권한 그룹으로 메뉴 ID 를 조회한다.
+ * 조회 결과의 지문이 토큰과 다르면 발급 이후 권한이 변경된 것이므로 null 을 반환한다. (재로그인 유도)
+ * 캐시된 지문은 DB 와 다시 비교하지 않으므로 MenuChangedEvent 수신 시, 또는 ReferenceData 버전이 바뀌면
+ * (파일 스냅샷 복원 등 이벤트 없는 교체 포함) 캐시를 비워 다음 요청에서 다시 비교하게 한다.
+ */
+@Slf4j
+@Component
+public class MenuPermissionResolver {
+
+    private final UserMapper userMapper;
+    private final int maxEntries;
+    private final Map<Long, MenuPermissionSet> cache = new ConcurrentHashMap<>();
+    private volatile long referenceVersion = ReferenceData.global().version();
+
+    public MenuPermissionResolver(UserMapper userMapper,
+                                  @Value("${security.token.menu-cache-size:10000}") int maxEntries) {
+        this.userMapper = userMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 메뉴 권한 지문 계산
+     * @param cmpCd 회사 코드
+     * @param menuIds 접근 가능 메뉴 ID
+     */
+    public static long fingerprint(String cmpCd, Collection<String> menuIds) {
+        // 중복 제거 + 정렬 (조회 순서/중복과 무관하게 같은 구성이면 같은 지문)
+        SortedSet<String> sorted = new TreeSet<>(menuIds);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(cmpCd.getBytes(StandardCharsets.UTF_8));
+            for (String menuId : sorted) {
+                digest.update((byte) 0);
+                digest.update(menuId.getBytes(StandardCharsets.UTF_8));
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 로그인 시 계산된 메뉴 권한을 캐시에 등록하고 지문을 반환
+     */
+    public long register(String cmpCd, MenuPermissionSet menus) {
+        long fingerprint = fingerprint(cmpCd, menus);
+        put(fingerprint, menus);
+        return fingerprint;
+    }
+
+    /**
+     * 지문에 해당하는 메뉴 권한 조회
+     * @param cmpCd 회사 코드
+     * @param authGrpIds 권한 그룹 ID (캐시 미스 시 메뉴 조회에 사용)
+     * @param fingerprint 토큰의 메뉴 권한 지문
+     * @return 메뉴 권한, 현재 권한과 지문이 다르면 null
+     */
+    public MenuPermissionSet resolve(String cmpCd, Collection<String> authGrpIds, long fingerprint) {
+        clearIfReferenceChanged();
+        MenuPermissionSet cached = cache.get(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> menuIds = authGrpIds.isEmpty()
+            ? Collections.emptyList()
+            : userMapper.findMenuIdsByCmpCdAndAuthGrpIds(cmpCd, authGrpIds);
+        if (fingerprint(cmpCd, menuIds) != fingerprint) {
+            log.info("Menu permissions changed since token was issued. cmpCd: {}, authGrpIds: {}", cmpCd, authGrpIds);
+            return null;
+        }
+        MenuPermissionSet menus = MenuPermissionSet.of(menuIds);
+        put(fingerprint, menus);
+        return menus;
+    }
+
+    @EventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        cache.clear();
+        log.info("Menu permission cache cleared: {}", event.reason());
+    }
+
+    private void clearIfReferenceChanged() {
+        long current = ReferenceData.global().version();
+        if (current != referenceVersion) {
+            referenceVersion = current;
+            cache.clear();
+            log.info("Menu permission cache cleared: reference data version {}", current);
+        }
+    }
+
+    private void put(long fingerprint, MenuPermissionSet menus) {
+        if (cache.size() >= maxEntries) {
+            // 권한 구성 수는 보통 적으므로 상한 초과 시 단순 초기화
+            cache.clear();
+        }
+        cache.put(fingerprint, menus);
+    }
+}
@@ -0,0 +1,92 @@
+package com.laze.backend.user.controller;
+
+import com.laze.backend.common.dto.ApiResponse;
+import com.laze.backend.security.crypto.AdaptiveBCryptPasswordEncoder;
+import com.laze.backend.security.service.PasswordFailureCounter;
+import com.laze.backend.security.throttle.LoginThrottle;
+import com.laze.backend.user.dto.PasswordHashCostDto;
+import com.laze.backend.user.dto.PasswordHashCostReportDto;
+import com.laze.backend.user.mapper.UserMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 사용자 관리(관리자) API. /api/admin/** 는 ADMIN 권한 필요 (SecurityConfig.routeAuthorizationTable)
+ */
+@Slf4j
+@Tag(name = "User Admin API", description = "사용자 관리 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+public class UserAdminController {
+
+    private final UserMapper userMapper;
+    private final AdaptiveBCryptPasswordEncoder passwordEncoder;
+    private final PasswordFailureCounter passwordFailureCounter;
+    private final LoginThrottle loginThrottle;
+
+    @Operation(summary = "비밀번호 해시 cost 분포 조회",
+        description = "재직자 비밀번호 해시의 BCrypt cost 별 인원 수와 현재 노드 기준 로그인 1회 검증 비용")
+    @GetMapping("/password-hash-costs")
+    public ApiResponse<PasswordHashCostReportDto> getPasswordHashCosts() {
+        List<PasswordHashCostDto> costs = userMapper.countPasswordHashCosts();
+        int targetCost = passwordEncoder.getTargetCost();
+        long total = 0;
+        long rehashPending = 0;
+        for (PasswordHashCostDto row : costs) {
+            total += row.getEmpCnt();
+            int cost = parseCost(row.getCost());
+            if (cost == AdaptiveBCryptPasswordEncoder.UNKNOWN_COST) {
+                continue;
+            }
+            double millis = passwordEncoder.estimateMillis(cost);
+            row.setEstimatedMillis(millis);
+            row.setLoginsPerCoreSecond(1000.0 / millis);
+            row.setRehashPending(cost < targetCost);
+            if (cost < targetCost) {
+                rehashPending += row.getEmpCnt();
+            }
+        }
+
+        return ApiResponse.ok(PasswordHashCostReportDto.builder()
+            .targetCost(targetCost)
+            .targetEstimatedMillis(passwordEncoder.estimateMillis(targetCost))
+            .availableProcessors(Runtime.getRuntime().availableProcessors())
+            .totalEmpCnt(total)
+            .rehashPendingEmpCnt(rehashPending)
+            .costs(costs)
+            .build());
+    }
+
+    @Operation(summary = "계정 잠금 해제",
+        description = "비밀번호 오류 횟수 초기화 (DB 는 다음 배치 반영) + 이 노드의 잠김 계정 캐시 삭제 (다른 노드는 캐시 TTL 이내 반영)")
+    @PostMapping("/{cmpCd}/{empId}/unlock")
+    public ApiResponse<Void> unlock(@PathVariable String cmpCd, @PathVariable String empId) {
+        passwordFailureCounter.recordReset(cmpCd, empId);
+        loginThrottle.clear(cmpCd, empId);
+        log.info("Account unlocked. cmpCd: {}, empId: {}", cmpCd, empId);
+        return ApiResponse.ok();
+    }
+
+    /**
+     * 해시 문자열에서 잘라낸 cost 부분("10") 변환
+     * @return cost, 숫자가 아니거나 BCrypt 범위(4 ~ 31) 밖이면 UNKNOWN_COST
+     */
+    private static int parseCost(String cost) {
+        if (cost == null || cost.length() != 2
+            || !Character.isDigit(cost.charAt(0)) || !Character.isDigit(cost.charAt(1))) {
+            return AdaptiveBCryptPasswordEncoder.UNKNOWN_COST;
+        }
+        int value = Integer.parseInt(cost);
+        return value >= 4 && value <= 31 ? value : AdaptiveBCryptPasswordEncoder.UNKNOWN_COST;
+    }
+}
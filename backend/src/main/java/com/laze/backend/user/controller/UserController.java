@@ -45,7 +45,7 @@ public class UserController {
     @GetMapping("/me")
     public ApiResponse<UserInfo> getCurrentUserInfo(@CurrentUser CustomUserDetails customUserDetails) {
         if (customUserDetails == null) {
-            throw new BusinessException(ErrorCode.AUTHENTICATION_FAILED);
+            throw BusinessException.of(ErrorCode.AUTHENTICATION_FAILED);
         }
 
         UserInfo userInfo = userMapStructMapper.toUserInfo(customUserDetails);
@@ -0,0 +1,15 @@
+package com.laze.backend.user.dto;
+
+import lombok.Data;
+
+/**
+ * 비밀번호 해시 cost 별 인원 수 (+ 이 장비 기준 로그인 1회 검증 예상 비용)
+ */
+@Data
+public class PasswordHashCostDto {
+    private String cost;                 // 해시 문자열의 cost 부분 (BCrypt 가 아니면 원문)
+    private Long empCnt;                 // 인원 수
+    private Double estimatedMillis;      // 검증 1회 예상 소요 시간 (BCrypt 가 아니면 null)
+    private Double loginsPerCoreSecond;  // 코어 1개가 초당 처리 가능한 로그인 수
+    private boolean rehashPending;       // 목표 cost 보다 낮아 다음 로그인 시 재해싱 대상인지 여부
+}
@@ -0,0 +1,20 @@
+package com.laze.backend.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 비밀번호 해시 cost 분포 보고서 (로그인 처리 용량 산정용)
+ */
+@Getter
+@Builder
+public class PasswordHashCostReportDto {
+    private final int targetCost;                   // 현재 노드의 목표 cost
+    private final double targetEstimatedMillis;     // 목표 cost 검증 1회 예상 소요 시간
+    private final int availableProcessors;          // 현재 노드 CPU 코어 수
+    private final long totalEmpCnt;                 // 재직자 수
+    private final long rehashPendingEmpCnt;         // 재해싱 대상 인원 수
+    private final List<PasswordHashCostDto> costs;  // cost 별 분포
+}
@@ -1,18 +1,43 @@
 package com.laze.backend.user.mapper;
 
 import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.user.dto.PasswordHashCostDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Mapper
 public interface UserMapper {
-    // 사용자 이름으로 인증/부가 정보 조회
+    // 사용자 이름으로 인증/부가 정보 조회 (단일 JOIN, 권한/메뉴 컬렉션 포함)
     Optional<UserInfo> findUserInfoByCmpCdAndEmpId(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
 
-    // 로그인 성공/실패시 오류 회수 업데이트
-    void resetPasswordFailureCount(@Param("empId") String empId, @Param("cmpCd") String cmpCd);
-    void incrementPasswordFailureCount(@Param("empId") String empId, @Param("cmpCd") String cmpCd);
+    // 분할 조회: 직원/회사/부서 단건 정보 (권한/메뉴 컬렉션 미포함)
+    Optional<UserInfo> findUserBaseByCmpCdAndEmpId(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
+
+    // 참조 데이터 조회: 직원 정보만 (회사/부서는 ReferenceData 캐시 사용)
+    Optional<UserInfo> findEmpByCmpCdAndEmpId(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
+
+    // 분할 조회: 직원이 속한 활성 권한 그룹 ID 목록
+    List<String> findAuthGrpIdsByCmpCdAndEmpId(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
+
+    // 분할 조회: 권한 그룹 ID 목록에 매핑된 활성 메뉴 ID 목록 (authGrpIds 는 비어있으면 안 됨)
+    List<String> findMenuIdsByCmpCdAndAuthGrpIds(@Param("cmpCd") String cmpCd, @Param("authGrpIds") Collection<String> authGrpIds);
+
+    // 로그인 성공/실패시 오류 회수 업데이트 (단건 즉시 반영용)
+    void resetPasswordFailureCount(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
+    void incrementPasswordFailureCount(@Param("cmpCd") String cmpCd, @Param("empId") String empId);
+
+    // 누적된 오류 회수 반영 (PasswordFailureCounter 배치 플러시용, reset 이면 delta 로 설정 / 아니면 delta 만큼 증가)
+    void updatePasswordFailureCount(@Param("cmpCd") String cmpCd, @Param("empId") String empId,
+                                    @Param("delta") int delta, @Param("reset") boolean reset);
+
+    // 비밀번호 해시 교체 (cost 재해싱용, 저장된 해시가 expectedPwno 일 때만 반영)
+    int updatePasswordHash(@Param("cmpCd") String cmpCd, @Param("empId") String empId,
+                           @Param("expectedPwno") String expectedPwno, @Param("pwno") String pwno);
+
+    // 재직자 비밀번호 해시의 cost 별 인원 수 (BCrypt 형식이 아니면 cost 문자열 그대로)
+    List<PasswordHashCostDto> countPasswordHashCosts();
 }
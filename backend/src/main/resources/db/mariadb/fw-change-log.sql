@@ -0,0 +1,47 @@
+-- 메뉴/권한 변경 로그 (security.change-log.enabled=true)
+-- FW_MENU / FW_AUTH_GRP / FW_AUTH_MENU / FW_AUTH_EMP 변경 시 트리거가 1건씩 기록하고,
+-- 각 노드가 CHG_SEQ 기준으로 주기 조회하여 메뉴 그래프/참조 데이터 재적재 및 세션 권한 갱신을 수행한다.
+-- 오래된 행은 노드가 주기적으로 삭제한다. (security.change-log.retention-hours)
+CREATE TABLE FW_CHG_LOG (
+    CHG_SEQ BIGINT NOT NULL AUTO_INCREMENT,
+    TBL_NM VARCHAR(30) NOT NULL, -- 변경 테이블
+    CMP_CD VARCHAR(20), -- 회사 코드 (FW_MENU 는 NULL)
+    AUTH_GRP_ID VARCHAR(20), -- 권한 그룹 ID (FW_AUTH_GRP / FW_AUTH_MENU / FW_AUTH_EMP)
+    EMP_ID VARCHAR(20), -- 사원 ID (FW_AUTH_EMP)
+    CHG_DT DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    CONSTRAINT FW_CHG_LOG_PK PRIMARY KEY (CHG_SEQ)
+) ENGINE=InnoDB;
+
+CREATE INDEX FW_CHG_LOG_IX1 ON FW_CHG_LOG (CHG_DT);
+
+DELIMITER //
+
+CREATE TRIGGER FW_MENU_CHG_AI AFTER INSERT ON FW_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM) VALUES ('FW_MENU')//
+CREATE TRIGGER FW_MENU_CHG_AU AFTER UPDATE ON FW_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM) VALUES ('FW_MENU')//
+CREATE TRIGGER FW_MENU_CHG_AD AFTER DELETE ON FW_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM) VALUES ('FW_MENU')//
+
+CREATE TRIGGER FW_AUTH_GRP_CHG_AI AFTER INSERT ON FW_AUTH_GRP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_GRP', NEW.CMP_CD, NEW.AUTH_GRP_ID)//
+CREATE TRIGGER FW_AUTH_GRP_CHG_AU AFTER UPDATE ON FW_AUTH_GRP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_GRP', NEW.CMP_CD, NEW.AUTH_GRP_ID)//
+CREATE TRIGGER FW_AUTH_GRP_CHG_AD AFTER DELETE ON FW_AUTH_GRP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_GRP', OLD.CMP_CD, OLD.AUTH_GRP_ID)//
+
+CREATE TRIGGER FW_AUTH_MENU_CHG_AI AFTER INSERT ON FW_AUTH_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_MENU', NEW.CMP_CD, NEW.AUTH_GRP_ID)//
+CREATE TRIGGER FW_AUTH_MENU_CHG_AU AFTER UPDATE ON FW_AUTH_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_MENU', NEW.CMP_CD, NEW.AUTH_GRP_ID)//
+CREATE TRIGGER FW_AUTH_MENU_CHG_AD AFTER DELETE ON FW_AUTH_MENU FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID) VALUES ('FW_AUTH_MENU', OLD.CMP_CD, OLD.AUTH_GRP_ID)//
+
+CREATE TRIGGER FW_AUTH_EMP_CHG_AI AFTER INSERT ON FW_AUTH_EMP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID, EMP_ID) VALUES ('FW_AUTH_EMP', NEW.CMP_CD, NEW.AUTH_GRP_ID, NEW.EMP_ID)//
+CREATE TRIGGER FW_AUTH_EMP_CHG_AU AFTER UPDATE ON FW_AUTH_EMP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID, EMP_ID) VALUES ('FW_AUTH_EMP', NEW.CMP_CD, NEW.AUTH_GRP_ID, NEW.EMP_ID)//
+CREATE TRIGGER FW_AUTH_EMP_CHG_AD AFTER DELETE ON FW_AUTH_EMP FOR EACH ROW
+    INSERT INTO FW_CHG_LOG (TBL_NM, CMP_CD, AUTH_GRP_ID, EMP_ID) VALUES ('FW_AUTH_EMP', OLD.CMP_CD, OLD.AUTH_GRP_ID, OLD.EMP_ID)//
+
+DELIMITER ;
@@ -0,0 +1,24 @@
+-- 메뉴 API 분 단위 사용 통계 (menu.access-stats.persist=true)
+-- 각 노드가 (STAT_DTM, CMP_CD, MENU_ID) 별 1분 집계를 배치로 더한다. (여러 노드의 값은 ON DUPLICATE KEY UPDATE 로 합산)
+-- BKT_* 는 처리 시간 구간별 요청 수 (BKT_10MS: 10ms 이하, ..., BKT_OVER: 3초 초과)
+CREATE TABLE FW_MENU_ACCESS_STAT (
+    STAT_DTM DATETIME NOT NULL, -- 집계 구간 시작 (분)
+    CMP_CD VARCHAR(20) NOT NULL,
+    MENU_ID VARCHAR(20) NOT NULL,
+    REQ_CNT BIGINT NOT NULL,
+    ERR_CNT BIGINT NOT NULL, -- 5xx 또는 처리 중 예외
+    ELAPSED_MS_SUM BIGINT NOT NULL,
+    ELAPSED_MS_MAX BIGINT NOT NULL,
+    BKT_10MS BIGINT NOT NULL,
+    BKT_50MS BIGINT NOT NULL,
+    BKT_100MS BIGINT NOT NULL,
+    BKT_250MS BIGINT NOT NULL,
+    BKT_500MS BIGINT NOT NULL,
+    BKT_1S BIGINT NOT NULL,
+    BKT_3S BIGINT NOT NULL,
+    BKT_OVER BIGINT NOT NULL,
+    CONSTRAINT FW_MENU_ACCESS_STAT_PK PRIMARY KEY (STAT_DTM, CMP_CD, MENU_ID)
+) ENGINE=InnoDB;
+
+-- 메뉴별 기간 조회 (업무 영역별 용량 산정)
+CREATE INDEX FW_MENU_ACCESS_STAT_IX1 ON FW_MENU_ACCESS_STAT (MENU_ID, STAT_DTM);
@@ -0,0 +1,67 @@
+-- 메뉴 계층 closure 테이블 (menu.hierarchy.query=CLOSURE)
+-- FW_MENU 의 모든 (상위, 하위, 거리) 쌍을 보관한다. 자기 자신도 거리 0 으로 포함.
+-- FW_MENU 의 INSERT / 상위 메뉴(HRN_MENU_ID) 변경 / DELETE 시 트리거가 해당 하위 트리만 갱신한다. (MENU_ID 는 변경하지 않는다고 가정)
+-- 사용 여부(USE_YN)는 조회 시 판단하므로 USE_YN 변경은 closure 갱신이 없다.
+CREATE TABLE FW_MENU_CLOSURE (
+    ANCESTOR_ID VARCHAR(20) NOT NULL,
+    DESCENDANT_ID VARCHAR(20) NOT NULL,
+    DEPTH INT NOT NULL, -- 0: 자기 자신, 1: 직속 상위, ...
+    CONSTRAINT FW_MENU_CLOSURE_PK PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID)
+) ENGINE=InnoDB;
+
+CREATE INDEX FW_MENU_CLOSURE_IX1 ON FW_MENU_CLOSURE (DESCENDANT_ID, DEPTH, ANCESTOR_ID);
+
+-- 초기 적재 (기존 메뉴 전체, 재구성 시에는 DELETE FROM FW_MENU_CLOSURE 후 다시 실행)
+INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+WITH RECURSIVE paths (ANCESTOR_ID, DESCENDANT_ID, DEPTH) AS (
+    SELECT MENU_ID, MENU_ID, 0 FROM FW_MENU
+    UNION ALL
+    SELECT m.HRN_MENU_ID, p.DESCENDANT_ID, p.DEPTH + 1
+    FROM paths p
+    JOIN FW_MENU m ON m.MENU_ID = p.ANCESTOR_ID
+    JOIN FW_MENU parent ON parent.MENU_ID = m.HRN_MENU_ID
+)
+SELECT ANCESTOR_ID, DESCENDANT_ID, DEPTH FROM paths;
+
+DELIMITER //
+
+-- 신규 메뉴: 자기 자신 + 상위 메뉴의 조상들, 먼저 등록된 하위 메뉴가 있으면 그 하위 트리도 연결
+CREATE TRIGGER FW_MENU_CLOSURE_AI AFTER INSERT ON FW_MENU FOR EACH ROW
+BEGIN
+    INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH) VALUES (NEW.MENU_ID, NEW.MENU_ID, 0);
+    INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+    SELECT a.ANCESTOR_ID, NEW.MENU_ID, a.DEPTH + 1
+    FROM FW_MENU_CLOSURE a
+    WHERE a.DESCENDANT_ID = NEW.HRN_MENU_ID;
+    INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+    SELECT a.ANCESTOR_ID, d.DESCENDANT_ID, a.DEPTH + d.DEPTH + 1
+    FROM FW_MENU_CLOSURE a
+    JOIN FW_MENU child ON child.HRN_MENU_ID = NEW.MENU_ID
+    JOIN FW_MENU_CLOSURE d ON d.ANCESTOR_ID = child.MENU_ID
+    WHERE a.DESCENDANT_ID = NEW.MENU_ID;
+END//
+
+-- 상위 메뉴 변경: 하위 트리(자신 포함)와 이전 조상 사이 경로 제거 후 새 조상과 연결
+CREATE TRIGGER FW_MENU_CLOSURE_AU AFTER UPDATE ON FW_MENU FOR EACH ROW
+BEGIN
+    IF NOT (NEW.HRN_MENU_ID <=> OLD.HRN_MENU_ID) THEN
+        DELETE c FROM FW_MENU_CLOSURE c
+        JOIN FW_MENU_CLOSURE d ON d.DESCENDANT_ID = c.DESCENDANT_ID AND d.ANCESTOR_ID = NEW.MENU_ID
+        JOIN FW_MENU_CLOSURE a ON a.ANCESTOR_ID = c.ANCESTOR_ID AND a.DESCENDANT_ID = NEW.MENU_ID AND a.DEPTH > 0;
+        INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+        SELECT a.ANCESTOR_ID, d.DESCENDANT_ID, a.DEPTH + d.DEPTH + 1
+        FROM FW_MENU_CLOSURE a
+        JOIN FW_MENU_CLOSURE d ON d.ANCESTOR_ID = NEW.MENU_ID
+        WHERE a.DESCENDANT_ID = NEW.HRN_MENU_ID;
+    END IF;
+END//
+
+-- 메뉴 삭제: 삭제 메뉴를 지나는 경로 전체 제거 (하위 메뉴는 최상위로 취급, 재귀 조회와 동일)
+CREATE TRIGGER FW_MENU_CLOSURE_AD AFTER DELETE ON FW_MENU FOR EACH ROW
+BEGIN
+    DELETE c FROM FW_MENU_CLOSURE c
+    JOIN FW_MENU_CLOSURE d ON d.DESCENDANT_ID = c.DESCENDANT_ID AND d.ANCESTOR_ID = OLD.MENU_ID
+    JOIN FW_MENU_CLOSURE a ON a.ANCESTOR_ID = c.ANCESTOR_ID AND a.DESCENDANT_ID = OLD.MENU_ID;
+END//
+
+DELIMITER ;
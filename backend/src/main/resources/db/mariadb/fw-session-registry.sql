@@ -0,0 +1,14 @@
+-- 다중 노드 동시 세션 제어 테이블 (security.session.registry=jdbc)
+-- 마지막 요청 시각은 노드별로 모아서 주기적으로 갱신 (security.session.registry-sync.interval-ms)
+CREATE TABLE FW_SESSION_REGISTRY (
+    SESSION_ID VARCHAR(100) NOT NULL,
+    PRINCIPAL_KEY VARCHAR(100) NOT NULL, -- cmpCd:empId
+    LAST_REQUEST_TIME BIGINT NOT NULL, -- epoch ms
+    EXPIRED_YN CHAR(1) NOT NULL DEFAULT 'N',
+    EXPIRED_TIME BIGINT, -- epoch ms
+    CONSTRAINT FW_SESSION_REGISTRY_PK PRIMARY KEY (SESSION_ID)
+) ENGINE=InnoDB ROW_FORMAT=DYNAMIC;
+
+CREATE INDEX FW_SESSION_REGISTRY_IX1 ON FW_SESSION_REGISTRY (PRINCIPAL_KEY);
+CREATE INDEX FW_SESSION_REGISTRY_IX2 ON FW_SESSION_REGISTRY (EXPIRED_YN, EXPIRED_TIME);
+CREATE INDEX FW_SESSION_REGISTRY_IX3 ON FW_SESSION_REGISTRY (LAST_REQUEST_TIME);
@@ -0,0 +1,8 @@
+-- TB_SAMPLE 등록/수정자 컬럼 추가 (기존 테이블 마이그레이션, 신규 설치는 tb-sample.sql 에 포함)
+-- insertSample 이 REG_EMP_ID/NM, CHG_EMP_ID/NM 을 함께 저장하므로 애플리케이션 배포 전에 실행한다.
+-- 이미 컬럼이 있으면 건너뛴다. (MariaDB ADD COLUMN IF NOT EXISTS)
+ALTER TABLE TB_SAMPLE
+    ADD COLUMN IF NOT EXISTS REG_EMP_ID VARCHAR(20) NULL AFTER DESCRIPTION,
+    ADD COLUMN IF NOT EXISTS REG_EMP_NM VARCHAR(100) NULL AFTER REG_EMP_ID,
+    ADD COLUMN IF NOT EXISTS CHG_EMP_ID VARCHAR(20) NULL AFTER REG_EMP_NM,
+    ADD COLUMN IF NOT EXISTS CHG_EMP_NM VARCHAR(100) NULL AFTER CHG_EMP_ID;
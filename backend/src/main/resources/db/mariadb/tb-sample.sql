@@ -0,0 +1,15 @@
+-- 샘플 테이블 (sample 도메인 예시)
+-- 목록은 SAMPLE_ID 내림차순 정렬이므로 keyset 페이징(SAMPLE_ID < 마지막 ID)은 PK 인덱스 범위 조회로 처리된다.
+-- 기존 TB_SAMPLE 에 등록/수정자 컬럼을 추가하려면 tb-sample-audit-columns.sql 실행
+CREATE TABLE TB_SAMPLE (
+    SAMPLE_ID BIGINT NOT NULL AUTO_INCREMENT,
+    SAMPLE_NAME VARCHAR(100) NOT NULL,
+    DESCRIPTION VARCHAR(255) NULL,
+    REG_EMP_ID VARCHAR(20) NULL,
+    REG_EMP_NM VARCHAR(100) NULL,
+    CHG_EMP_ID VARCHAR(20) NULL,
+    CHG_EMP_NM VARCHAR(100) NULL,
+    CREATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (SAMPLE_ID)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,51 @@
+package com.laze.backend.common.aop;
+
+import com.laze.backend.sample.dto.SampleRequestDto;
+import com.laze.backend.sample.service.SampleService;
+import com.laze.backend.security.dto.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuditingAspectTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 목록의 모든 항목에 로그인 사용자와 같은 등록 시각을 설정")
+    void createSamples_ShouldStampEveryItem() {
+        CustomUserDetails user = CustomUserDetails.builder().cmpCd("AD1000").empId("admin").empNm("홍길동").build();
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+        SampleService target = mock(SampleService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new AuditingAspect());
+        SampleService proxy = factory.getProxy();
+
+        List<SampleRequestDto> samples = List.of(new SampleRequestDto(), new SampleRequestDto());
+        proxy.createSamples(samples);
+
+        verify(target).createSamples(samples);
+        for (SampleRequestDto sample : samples) {
+            assertEquals("admin", sample.getRegEmpId());
+            assertEquals("홍길동", sample.getRegEmpNm());
+            assertEquals("admin", sample.getChgEmpId());
+            assertNotNull(sample.getRegDtm());
+            assertSame(samples.get(0).getRegDtm(), sample.getRegDtm());
+        }
+    }
+}
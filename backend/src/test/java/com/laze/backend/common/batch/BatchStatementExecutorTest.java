@@ -0,0 +1,99 @@
+package com.laze.backend.common.batch;
+
+import com.laze.backend.common.config.MyBatisBatchConfig;
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.sample.dto.SampleRequestDto;
+import com.laze.backend.sample.mapper.SampleMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MyBatisBatchConfig.class)
+@Sql("/db/h2/sample-schema.sql")
+class BatchStatementExecutorTest {
+
+    private static final LocalDateTime REG_DTM = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    @Qualifier("batchSqlSessionTemplate")
+    private SqlSessionTemplate batchSqlSessionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("flush-size 단위로 배치 실행하고 생성된 ID 를 요청 순서대로 각 항목에 설정")
+    void execute_ShouldInsertInBatchesAndAssignGeneratedKeys() {
+        BatchStatementExecutor executor = new BatchStatementExecutor(batchSqlSessionTemplate, 500, 10000);
+        List<SampleRequestDto> samples = IntStream.rangeClosed(1, 1234).mapToObj(BatchStatementExecutorTest::sample).toList();
+
+        Integer inserted = new TransactionTemplate(transactionManager)
+            .execute(status -> executor.execute(SampleMapper.class, samples, SampleMapper::insertSample));
+
+        assertEquals(1234, inserted);
+        assertEquals(1234, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TB_SAMPLE", Integer.class));
+        List<Long> ids = new ArrayList<>();
+        samples.forEach(sample -> ids.add(sample.getSampleId()));
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1), "generated keys follow request order");
+        }
+        assertEquals("sample-1234", jdbcTemplate.queryForObject("SELECT SAMPLE_NAME FROM TB_SAMPLE WHERE SAMPLE_ID = ?",
+            String.class, ids.get(1233)));
+        assertEquals(1234, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM TB_SAMPLE WHERE REG_EMP_ID = 'admin' AND CHG_EMP_NM = '홍길동' AND CREATED_AT = ?",
+            Integer.class, REG_DTM));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 호출과 최대 항목 수 초과는 실행하지 않고 거절")
+    void execute_ShouldRejectWithoutTransactionOrOverLimit() {
+        BatchStatementExecutor executor = new BatchStatementExecutor(batchSqlSessionTemplate, 500, 2);
+
+        assertThrows(IllegalStateException.class,
+            () -> executor.execute(SampleMapper.class, List.of(sample(1)), SampleMapper::insertSample));
+        assertThrows(BusinessException.class, () -> new TransactionTemplate(transactionManager).execute(status ->
+            executor.execute(SampleMapper.class, List.of(sample(1), sample(2), sample(3)), SampleMapper::insertSample)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TB_SAMPLE", Integer.class));
+    }
+
+    private static SampleRequestDto sample(int i) {
+        SampleRequestDto sample = new SampleRequestDto();
+        sample.setSampleName("sample-" + i);
+        // 감사 필드 (서비스 호출 시 AuditingAspect 가 설정하는 값)
+        sample.setRegEmpId("admin");
+        sample.setRegEmpNm("홍길동");
+        sample.setRegDtm(REG_DTM);
+        sample.setChgEmpId("admin");
+        sample.setChgEmpNm("홍길동");
+        sample.setChgDtm(REG_DTM);
+        return sample;
+    }
+}
@@ -0,0 +1,123 @@
+package com.laze.backend.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.dto.ApiResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 고정 에러 응답 1건 처리 비용 비교 (예외 생성 + 본문 직렬화/기록)
+ * - 기존: 스택 트레이스 수집 예외 + ApiResponse 생성 + ObjectMapper.writeValue(Writer)
+ * - 변경: BusinessException.of (공유 stackless 인스턴스) + 미리 직렬화된 byte[] 기록
+ *
+ * 응답 Writer/OutputStream 은 컨테이너가 요청마다 재사용하므로 여기서도 버리는 스트림 하나를 재사용한다.
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*ErrorResponseBenchmarkTest"
+ */
+@Tag("benchmark")
+class ErrorResponseBenchmarkTest {
+
+    private static final int ITERATIONS = 500_000;
+    private static final ErrorCode[] CODES = {
+        ErrorCode.AUTH_REQUIRED, ErrorCode.MENU_ACCESS_DENIED, ErrorCode.SECURITY_ACCESS_DENIED,
+        ErrorCode.LOGIN_BAD_CREDENTIALS, ErrorCode.ACCOUNT_LOCKED,
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NullWriter nullWriter = new NullWriter();
+    private final NullOutputStream nullStream = new NullOutputStream();
+
+    @Test
+    void compareSerializedAndPreEncoded() throws Exception {
+        ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            runLegacy();
+            runPreEncoded(writer);
+        }
+
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long legacyChars = runLegacy();
+        double legacyNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+        double legacyAlloc = (allocatedBytes() - allocBefore) / (double) ITERATIONS;
+
+        allocBefore = allocatedBytes();
+        start = System.nanoTime();
+        long preEncodedBytes = runPreEncoded(writer);
+        double preEncodedNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+        double preEncodedAlloc = (allocatedBytes() - allocBefore) / (double) ITERATIONS;
+
+        System.out.printf("%n[ErrorResponse] %d rejections, %d codes%n", ITERATIONS, CODES.length);
+        System.out.printf("  %-44s %8.1f ns/response  %7.1f B/response%n", "stack trace + ApiResponse + ObjectMapper", legacyNanos, legacyAlloc);
+        System.out.printf("  %-44s %8.1f ns/response  %7.1f B/response%n", "stackless shared exception + byte[]", preEncodedNanos, preEncodedAlloc);
+
+        assertTrue(legacyChars > 0 && preEncodedBytes > 0);
+        assertTrue(preEncodedNanos < legacyNanos);
+    }
+
+    private long runLegacy() throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            ErrorCode errorCode = CODES[i % CODES.length];
+            try {
+                throw new RuntimeException(errorCode.getMessage());
+            } catch (RuntimeException e) {
+                objectMapper.writeValue(nullWriter, ApiResponse.fail(errorCode.getCode(), e.getMessage()));
+            }
+        }
+        return nullWriter.count;
+    }
+
+    private long runPreEncoded(ErrorResponseWriter writer) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            ErrorCode errorCode = CODES[i % CODES.length];
+            try {
+                throw BusinessException.of(errorCode);
+            } catch (BusinessException e) {
+                nullStream.write(writer.body(e.getErrorCode()));
+            }
+        }
+        return nullStream.count;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    /** ObjectMapper.writeValue 가 close 해도 재사용 가능한 버리는 Writer */
+    private static final class NullWriter extends Writer {
+        private long count;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
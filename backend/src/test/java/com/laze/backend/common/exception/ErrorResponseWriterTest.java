@@ -0,0 +1,58 @@
+package com.laze.backend.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.dto.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("미리 직렬화된 본문은 ApiResponse.fail 직렬화 결과와 동일")
+    void body_ShouldMatchApiResponseSerialization() throws Exception {
+        ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage())),
+                writer.body(errorCode), errorCode.name());
+        }
+    }
+
+    @Test
+    @DisplayName("응답 기록: 상태 코드, Content-Type, 본문")
+    void write_ShouldSetStatusAndBody() throws Exception {
+        ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(response, ErrorCode.MENU_ACCESS_DENIED);
+
+        assertEquals(403, response.getStatus());
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertEquals("{\"success\":false,\"code\":\"MENU_ACCESS_DENIED\",\"message\":\"메뉴 접근 권한이 없습니다.\"}",
+            response.getContentAsString(StandardCharsets.UTF_8));
+
+        ResponseEntity<byte[]> entity = writer.toResponseEntity(ErrorCode.AUTH_REQUIRED);
+        assertEquals(401, entity.getStatusCode().value());
+        assertArrayEquals(writer.body(ErrorCode.AUTH_REQUIRED), entity.getBody());
+    }
+
+    @Test
+    @DisplayName("4xx BusinessException 은 스택 트레이스 없음, of() 는 공유 인스턴스")
+    void businessException_4xxShouldBeStackless() {
+        assertEquals(0, new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "id: 1").getStackTrace().length);
+        assertSame(BusinessException.of(ErrorCode.ACCESS_DENIED), BusinessException.of(ErrorCode.ACCESS_DENIED));
+        assertTrue(BusinessException.of(ErrorCode.ACCESS_DENIED).hasDefaultMessage());
+        assertFalse(new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "id: 1").hasDefaultMessage());
+
+        BusinessException serverError = BusinessException.of(ErrorCode.INTERNAL_SERVER_ERROR);
+        assertNotSame(serverError, BusinessException.of(ErrorCode.INTERNAL_SERVER_ERROR));
+        assertTrue(serverError.getStackTrace().length > 0);
+    }
+}
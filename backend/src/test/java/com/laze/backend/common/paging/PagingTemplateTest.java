@@ -0,0 +1,184 @@
+package com.laze.backend.common.paging;
+
+import com.laze.backend.common.dto.PageResponseDto;
+import com.laze.backend.common.dto.SliceResponseDto;
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.sample.dto.SampleResponseDto;
+import com.laze.backend.sample.mapper.SampleMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/h2/sample-schema.sql")
+class PagingTemplateTest {
+
+    private static final int TOTAL = 25;
+
+    @Autowired
+    private SampleMapper sampleMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PagingTemplate pagingTemplate;
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // 동시 count 는 끔 (먼저 시작한 count 가 쓰이지 않아도 실행되어 count 횟수를 검증할 수 없음)
+        pagingTemplate = new PagingTemplate(new SimpleMeterRegistry(), 100, false, 2, 8, 60, 100, 5000);
+        for (int i = 1; i <= TOTAL; i++) {
+            jdbcTemplate.update("INSERT INTO TB_SAMPLE (SAMPLE_NAME) VALUES (?)", "sample-" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pagingTemplate.shutdown();
+    }
+
+    @Test
+    @DisplayName("keyset 페이징은 커서를 따라 전체 행을 SAMPLE_ID 내림차순으로 중복 없이 조회")
+    void keyset_ShouldTraverseAllRowsInOrder() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SliceResponseDto<SampleResponseDto> slice = pagingTemplate.keyset(PageCursor.decodeLong(cursor), 10,
+                sampleMapper::findSamplesPage, sample -> PageCursor.encodeLong(sample.getSampleId()));
+            slice.getContent().forEach(sample -> ids.add(sample.getSampleId()));
+            cursor = slice.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(LongStream.iterate(TOTAL, id -> id - 1).limit(TOTAL).boxed().toList(), ids);
+        assertThrows(BusinessException.class, () -> PageCursor.decodeLong("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("offset 페이징은 마지막 페이지에서 count 를 생략하고 CACHED 는 최근 건수를 재사용")
+    void offset_ShouldAvoidCountWhenPossible() {
+        // 마지막 페이지: 조회 결과로 전체 건수 계산
+        PageResponseDto<SampleResponseDto> last = pagingTemplate.offset(2, 10, CountMode.EXACT, "sample",
+            sampleMapper::findSamplesPage, countingSamples());
+        assertEquals(5, last.getNumberOfElements());
+        assertEquals(TOTAL, last.getTotalElements());
+        assertTrue(last.isLast());
+        assertEquals(0, counts.get());
+
+        // 첫 페이지 EXACT: 다음 페이지가 있으므로 count 실행
+        PageResponseDto<SampleResponseDto> first = pagingTemplate.offset(0, 10, CountMode.EXACT, "sample",
+            sampleMapper::findSamplesPage, countingSamples());
+        assertEquals(List.of(25L, 24L, 23L), first.getContent().subList(0, 3).stream().map(SampleResponseDto::getSampleId).toList());
+        assertEquals(TOTAL, first.getTotalElements());
+        assertEquals(3, first.getTotalPages());
+        assertFalse(first.isLast());
+        assertEquals(1, counts.get());
+
+        // CACHED: 행이 늘어도 캐시 유효 기간 동안은 count 없이 최근 건수 사용
+        jdbcTemplate.update("INSERT INTO TB_SAMPLE (SAMPLE_NAME) VALUES ('sample-26')");
+        PageResponseDto<SampleResponseDto> cached = pagingTemplate.offset(1, 10, CountMode.CACHED, "sample",
+            sampleMapper::findSamplesPage, countingSamples());
+        assertEquals(TOTAL, cached.getTotalElements());
+        assertEquals(1, counts.get());
+
+        // 캐시 무효화 후에는 다시 count
+        pagingTemplate.evictCount("sample");
+        PageResponseDto<SampleResponseDto> evicted = pagingTemplate.offset(1, 10, CountMode.CACHED, "sample",
+            sampleMapper::findSamplesPage, countingSamples());
+        assertEquals(TOTAL + 1, evicted.getTotalElements());
+        assertEquals(2, counts.get());
+        assertNull(pagingTemplate.keyset(null, 100, sampleMapper::findSamplesPage, sample -> "unused").getNextCursor());
+    }
+
+    @Test
+    @DisplayName("동시 count 는 트랜잭션 밖에서만 전용 스레드로 실행하고, 필요 없어지면 취소")
+    void offset_ShouldCountConcurrentlyOutsideTransaction() throws InterruptedException {
+        PagingTemplate concurrent = new PagingTemplate(new SimpleMeterRegistry(), 100, true, 2, 8, 60, 100, 5000);
+        try {
+            // 트랜잭션 밖: 전용 스레드에서 count
+            AtomicReference<String> countThread = new AtomicReference<>();
+            PageResponseDto<SampleResponseDto> first = concurrent.offset(0, 10, CountMode.EXACT, "sample",
+                sampleMapper::findSamplesPage, () -> {
+                    countThread.set(Thread.currentThread().getName());
+                    return sampleMapper.countSamples();
+                });
+            assertEquals(TOTAL, first.getTotalElements());
+            assertTrue(countThread.get().startsWith("page-count-"), countThread.get());
+
+            // 트랜잭션 안: 호출 스레드에서 목록 조회 후 count
+            concurrent.evictCount("sample");
+            String caller = Thread.currentThread().getName();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                PageResponseDto<SampleResponseDto> inTx = concurrent.offset(0, 10, CountMode.EXACT, "sample",
+                    sampleMapper::findSamplesPage, () -> {
+                        countThread.set(Thread.currentThread().getName());
+                        return sampleMapper.countSamples();
+                    });
+                assertEquals(TOTAL, inTx.getTotalElements());
+            });
+            assertEquals(caller, countThread.get());
+
+            // 마지막 페이지: 먼저 시작한 count 는 결과를 쓰지 않으므로 취소 (대기 중인 count 스레드 인터럽트)
+            concurrent.evictCount("sample");
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            PageResponseDto<SampleResponseDto> last = concurrent.offset(2, 10, CountMode.EXACT, "sample",
+                sampleMapper::findSamplesPage, () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return -1L;
+                });
+            assertEquals(TOTAL, last.getTotalElements());
+            assertTrue(!started.await(5, TimeUnit.SECONDS) || interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            concurrent.shutdown();
+        }
+    }
+
+    private LongSupplier countingSamples() {
+        return () -> {
+            counts.incrementAndGet();
+            return sampleMapper.countSamples();
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.laze.backend.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("burst 만큼 연속 허용 후 거절, 충전 간격이 지나면 1건 허용")
+    void tryAcquire_ShouldAllowBurstThenRefillAtRate() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3, now::get); // 1초에 1개
+
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertEquals(0, limiter.tryAcquire("ip"));
+        long wait = limiter.tryAcquire("ip");
+        assertEquals(TimeUnit.SECONDS.toNanos(1), wait);
+        assertEquals(0, limiter.tryAcquire("other"), "키별로 독립된 버킷");
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertTrue(limiter.tryAcquire("ip") > 0);
+    }
+
+    @Test
+    @DisplayName("유휴 버킷 정리: 가득 찬 버킷만 제거")
+    void evictIdle_ShouldRemoveOnlyFullBuckets() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 2, now::get);
+        limiter.tryAcquire("idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.tryAcquire("busy");
+
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 burst 를 초과하여 허용하지 않음")
+    void tryAcquire_Concurrent_ShouldNotOverAdmit() throws Exception {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 50, now::get); // 시계 고정
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire("key") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(50, allowed.get());
+    }
+}
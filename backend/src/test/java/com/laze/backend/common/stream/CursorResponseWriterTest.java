@@ -0,0 +1,168 @@
+package com.laze.backend.common.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.common.exception.BusinessException;
+import com.laze.backend.common.exception.ErrorCode;
+import com.laze.backend.common.exception.StreamAbortedException;
+import com.laze.backend.sample.mapper.SampleMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/h2/sample-schema.sql")
+class CursorResponseWriterTest {
+
+    private static final int TOTAL = 30;
+
+    @Autowired
+    private SampleMapper sampleMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= TOTAL; i++) {
+            jdbcTemplate.update("INSERT INTO TB_SAMPLE (SAMPLE_NAME) VALUES (?)", "sample-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 행마다 한 줄, JSON 은 ApiResponse 와 같은 구조의 data 배열로 Cursor 결과를 순서대로 스트리밍")
+    void write_ShouldStreamCursorRows() throws Exception {
+        CursorResponseWriter writer = new CursorResponseWriter(objectMapper, transactionManager, new SimpleMeterRegistry(), 1);
+
+        MockHttpServletResponse ndjson = new MockHttpServletResponse();
+        writer.write(StreamFormat.NDJSON, ndjson, sampleMapper::streamAllSamples);
+        String[] lines = ndjson.getContentAsString().split("\n");
+        assertEquals("application/x-ndjson;charset=UTF-8", ndjson.getContentType());
+        assertEquals(TOTAL, lines.length);
+        assertEquals(TOTAL, objectMapper.readTree(lines[0]).get("sampleId").asLong());
+        assertEquals("sample-1", objectMapper.readTree(lines[TOTAL - 1]).get("sampleName").asText());
+        assertTrue(ndjson.getContentAsString().endsWith("}\n"));
+
+        MockHttpServletResponse json = new MockHttpServletResponse();
+        writer.write(StreamFormat.JSON, json, sampleMapper::streamAllSamples);
+        JsonNode body = objectMapper.readTree(json.getContentAsString());
+        assertTrue(body.get("success").asBoolean());
+        assertEquals("OK", body.get("code").asText());
+        assertEquals(TOTAL, body.get("data").size());
+        assertEquals(TOTAL, body.get("data").get(0).get("sampleId").asLong());
+    }
+
+    @Test
+    @DisplayName("응답 커밋 후 실패는 StreamAbortedException (에러 본문 없음), 커밋 전 실패는 원래 예외")
+    void write_ShouldAbortWhenFailingAfterCommit() throws Exception {
+        CursorResponseWriter writer = new CursorResponseWriter(objectMapper, transactionManager, new SimpleMeterRegistry(), 1);
+
+        MockHttpServletResponse committed = new MockHttpServletResponse();
+        committed.setBufferSize(16);
+        StreamAbortedException aborted = assertThrows(StreamAbortedException.class,
+            () -> writer.write(StreamFormat.NDJSON, committed, () -> failingCursor(sampleMapper.streamAllSamples(), 5)));
+        assertEquals("boom", aborted.getCause().getMessage());
+        assertTrue(committed.isCommitted());
+        assertEquals(5, committed.getContentAsString().split("\n").length);
+
+        MockHttpServletResponse uncommitted = new MockHttpServletResponse();
+        IllegalStateException early = assertThrows(IllegalStateException.class,
+            () -> writer.write(StreamFormat.JSON, uncommitted, () -> {
+                throw new IllegalStateException("boom"); // Cursor 조회 실패 (응답 쓰기 전)
+            }));
+        assertEquals("boom", early.getMessage());
+        assertFalse(uncommitted.isCommitted());
+    }
+
+    /**
+     * rows 건을 읽은 뒤 다음 행 조회에서 실패하는 Cursor
+     */
+    private static <T> Cursor<T> failingCursor(Cursor<T> cursor, int rows) {
+        return new Cursor<>() {
+            @Override
+            public boolean isOpen() {
+                return cursor.isOpen();
+            }
+
+            @Override
+            public boolean isConsumed() {
+                return false;
+            }
+
+            @Override
+            public int getCurrentIndex() {
+                return cursor.getCurrentIndex();
+            }
+
+            @Override
+            public void close() throws IOException {
+                cursor.close();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                Iterator<T> rowIterator = cursor.iterator();
+                return new Iterator<>() {
+                    private int read;
+
+                    @Override
+                    public boolean hasNext() {
+                        if (read == rows) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return rowIterator.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        read++;
+                        return rowIterator.next();
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("동시 스트리밍 수를 초과하면 응답을 쓰기 전에 STREAM_BUSY")
+    void write_ShouldRejectWhenBusy() {
+        CursorResponseWriter writer = new CursorResponseWriter(objectMapper, transactionManager, new SimpleMeterRegistry(), 1);
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+
+        BusinessException busy = assertThrows(BusinessException.class, () -> writer.write(StreamFormat.NDJSON, new MockHttpServletResponse(), () -> {
+            // 첫 스트리밍이 진행 중일 때 두 번째 요청
+            writer.write(StreamFormat.NDJSON, inner, sampleMapper::streamAllSamples);
+            return sampleMapper.streamAllSamples();
+        }));
+        assertEquals(ErrorCode.STREAM_BUSY, busy.getErrorCode());
+        assertEquals(0, inner.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,46 @@
+package com.laze.backend.menu.controller;
+
+import com.laze.backend.menu.dto.MenuTree;
+import com.laze.backend.menu.service.MenuService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class MenuControllerTest {
+
+    private static final String ETAG = "\"0a1b2c\"";
+    private static final String BODY = "{\"success\":true,\"code\":\"OK\",\"message\":\"Request successful\",\"data\":[]}";
+
+    private final MenuService menuService = mock(MenuService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new MenuController(menuService)).build();
+
+    @Test
+    @DisplayName("ETag 와 재검증용 Cache-Control 을 내려주고, If-None-Match 가 같으면 본문 없이 304")
+    void getMyMenus_ShouldSupportConditionalRequest() throws Exception {
+        when(menuService.getUserMenuTree()).thenReturn(new MenuTree(List.of(), BODY.getBytes(StandardCharsets.UTF_8), ETAG));
+
+        mockMvc.perform(get("/api/menus"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().json(BODY));
+
+        mockMvc.perform(get("/api/menus").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/menus").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,65 @@
+package com.laze.backend.menu.mapper;
+
+import com.laze.backend.menu.dto.MenuDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql({"/db/h2/login-schema.sql", "/db/h2/menu-schema.sql"})
+class MenuMapperTest {
+
+    @Autowired
+    private MenuMapper menuMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("closure 테이블 조회는 재귀 CTE 와 같은 메뉴를 같은 순서로 반환 (비활성 메뉴에서 상위 탐색 중단)")
+    void findAccessibleMenusByClosure_ShouldMatchRecursiveQuery() {
+        // M1 ─ M11 ─ M111 (권한)
+        //    └ M12(비활성) ─ M121 (권한, 상위 비활성이므로 M121 만)
+        // M2(비활성) (권한, 제외)
+        insertMenu("M1", null, 1, 1, "Y");
+        insertMenu("M11", "M1", 2, 1, "Y");
+        insertMenu("M111", "M11", 3, 1, "Y");
+        insertMenu("M12", "M1", 2, 2, "N");
+        insertMenu("M121", "M12", 3, 2, "Y");
+        insertMenu("M2", null, 1, 2, "N");
+        jdbcTemplate.update("INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH) VALUES "
+            + "('M1', 'M1', 0), ('M11', 'M11', 0), ('M111', 'M111', 0), ('M12', 'M12', 0), ('M121', 'M121', 0), ('M2', 'M2', 0), "
+            + "('M1', 'M11', 1), ('M1', 'M12', 1), ('M11', 'M111', 1), ('M12', 'M121', 1), ('M1', 'M111', 2), ('M1', 'M121', 2)");
+        jdbcTemplate.update("INSERT INTO FW_AUTH_MENU (CMP_CD, AUTH_GRP_ID, MENU_ID, USE_YN) VALUES "
+            + "('AD1000', 'G1', 'M111', 'Y'), ('AD1000', 'G1', 'M121', 'Y'), ('AD1000', 'G2', 'M2', 'Y')");
+
+        List<String> recursive = menuIds(menuMapper.findAccessibleMenus(List.of("G1", "G2")));
+        List<String> closure = menuIds(menuMapper.findAccessibleMenusByClosure(List.of("G1", "G2")));
+
+        assertEquals(List.of("M1", "M11", "M111", "M121"), recursive);
+        assertEquals(recursive, closure);
+    }
+
+    private void insertMenu(String menuId, String hrnMenuId, int menuLev, int menuOrd, String useYn) {
+        jdbcTemplate.update("INSERT INTO FW_MENU (MENU_ID, MENU_NM, BIZ_DVCD, HRN_MENU_ID, MENU_LEV, MENU_ORD, SCR_ID, MENU_MRK_YN, MENU_ICON, USE_YN) "
+            + "VALUES (?, ?, 'FW', ?, ?, ?, NULL, 'Y', NULL, ?)", menuId, menuId, hrnMenuId, menuLev, menuOrd, useYn);
+    }
+
+    private static List<String> menuIds(List<MenuDto> menus) {
+        return menus.stream().map(MenuDto::getMenuId).toList();
+    }
+}
@@ -0,0 +1,164 @@
+package com.laze.backend.menu.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuTree;
+import com.laze.backend.menu.mapper.MenuMapper;
+import com.laze.backend.menu.service.MenuGraph;
+import com.laze.backend.menu.service.MenuGraphLoader;
+import com.laze.backend.menu.service.MenuTreeCache;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * 메뉴 트리 구성 SQL 재귀 조회(findAccessibleMenus) vs closure 테이블 조회(findAccessibleMenusByClosure)
+ * vs 메모리 그래프(MenuGraph.tree) 비교 벤치마크, 메모리 메뉴 검색(MenuGraph.search) 지연시간
+ * (3단계 메뉴 1천/1만 개, 말단 메뉴 1/3 에 권한, 트리 캐시 미스 1회 기준 지연시간)
+ *
+ * 매 호출마다 새 SqlSession 을 사용하도록(1차 캐시 배제) 테스트 트랜잭션 없이 실행한다.
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*MenuGraphBenchmarkTest"
+ */
+@Tag("benchmark")
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql({"/db/h2/login-schema.sql", "/db/h2/menu-schema.sql"})
+class MenuGraphBenchmarkTest {
+
+    private static final String CMP_CD = "AD1000";
+    private static final String AUTH_GRP_ID = "GRP0";
+
+    @Autowired
+    private MenuMapper menuMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareRecursiveQueryAndGraph() {
+        MenuTreeCache menuTreeCache = new MenuTreeCache(new SimpleMeterRegistry(), 100, 10);
+        MenuGraphLoader menuGraphLoader = new MenuGraphLoader(menuMapper, menuTreeCache);
+        MenuServiceImpl menuService = new MenuServiceImpl(menuMapper, menuTreeCache, menuGraphLoader, new ObjectMapper());
+        MenuServiceImpl closureService = new MenuServiceImpl(menuMapper, menuTreeCache, menuGraphLoader, new ObjectMapper());
+        ReflectionTestUtils.setField(closureService, "hierarchyQuery", MenuServiceImpl.HierarchyQuery.CLOSURE);
+
+        System.out.printf("%n[MenuGraph] tree build per cache miss%n");
+        for (int size : new int[]{1_000, 10_000}) {
+            List<String> granted = insertMenus(size);
+            menuGraphLoader.reload();
+            MenuGraph graph = menuGraphLoader.current();
+            MenuPermissionSet permissions = MenuPermissionSet.of(granted);
+
+            Supplier<MenuTree> recursive = () -> menuService.loadMenuTree(Set.of(AUTH_GRP_ID));
+            Supplier<MenuTree> closure = () -> closureService.loadMenuTree(Set.of(AUTH_GRP_ID));
+            Supplier<MenuTree> inMemory = () -> menuService.toMenuTree(graph.tree(permissions));
+
+            // 두 방식의 결과(직렬화 JSON)가 동일한지 먼저 확인
+            assertArrayEquals(recursive.get().json(), closure.get().json());
+            assertArrayEquals(recursive.get().json(), inMemory.get().json());
+
+            int iterations = size >= 10_000 ? 20 : 200;
+            double recursiveMicros = measure(recursive, iterations);
+            double closureMicros = measure(closure, iterations);
+            double graphMicros = measure(inMemory, iterations);
+            long started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                graph.tree(permissions);
+            }
+            double treeOnlyMicros = (System.nanoTime() - started) / 1_000.0 / iterations;
+
+            // 메뉴 검색 (메모리 색인, 접두어/부분 일치 각각)
+            for (String query : new String[]{"메뉴12", "뉴99"}) {
+                graph.search(query, permissions, 20);
+            }
+            started = System.nanoTime();
+            for (int i = 0; i < iterations * 10; i++) {
+                graph.search(i % 2 == 0 ? "메뉴12" : "뉴99", permissions, 20);
+            }
+            double searchMicros = (System.nanoTime() - started) / 1_000.0 / (iterations * 10);
+
+            System.out.printf("  menus=%6d granted=%5d  CTE=%10.1f us  closure=%10.1f us  graph=%8.1f us (tree only %7.1f us)  x%.0f  search=%6.1f us%n",
+                size, granted.size(), recursiveMicros, closureMicros, graphMicros, treeOnlyMicros, recursiveMicros / graphMicros, searchMicros);
+        }
+    }
+
+    /**
+     * 3단계 메뉴 (1단계 1%, 2단계 9%, 3단계 90%) 와 closure 행 생성 후 말단 메뉴 1/3 에 권한 부여
+     * @return 권한 메뉴 ID
+     */
+    private List<String> insertMenus(int size) {
+        jdbcTemplate.update("DELETE FROM FW_AUTH_MENU");
+        jdbcTemplate.update("DELETE FROM FW_MENU");
+        jdbcTemplate.update("DELETE FROM FW_MENU_CLOSURE");
+
+        int roots = size / 100;
+        int branches = size / 10 - roots;
+        List<Object[]> menus = new ArrayList<>(size);
+        List<Object[]> paths = new ArrayList<>();
+        List<Object[]> grants = new ArrayList<>();
+        List<String> granted = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String menuId = String.format("BM%05d", i);
+            String hrnMenuId;
+            int menuLev;
+            if (i < roots) {
+                hrnMenuId = null;
+                menuLev = 1;
+            } else if (i < roots + branches) {
+                hrnMenuId = String.format("BM%05d", i % roots);
+                menuLev = 2;
+            } else {
+                hrnMenuId = String.format("BM%05d", roots + i % branches);
+                menuLev = 3;
+                if (i % 3 == 0) {
+                    grants.add(new Object[]{CMP_CD, AUTH_GRP_ID, menuId});
+                    granted.add(menuId);
+                }
+            }
+            menus.add(new Object[]{menuId, "메뉴" + i, "FW", hrnMenuId, menuLev, i, "SCR" + i, "fa-menu"});
+            paths.add(new Object[]{menuId, menuId, 0});
+            if (menuLev >= 2) {
+                paths.add(new Object[]{hrnMenuId, menuId, 1});
+            }
+            if (menuLev == 3) {
+                paths.add(new Object[]{String.format("BM%05d", (i % branches) % roots), menuId, 2});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FW_MENU (MENU_ID, MENU_NM, BIZ_DVCD, HRN_MENU_ID, MENU_LEV, MENU_ORD, SCR_ID, MENU_MRK_YN, MENU_ICON, USE_YN) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 'Y', ?, 'Y')", menus);
+        jdbcTemplate.batchUpdate("INSERT INTO FW_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH) VALUES (?, ?, ?)", paths);
+        jdbcTemplate.batchUpdate("INSERT INTO FW_AUTH_MENU VALUES (?, ?, ?, 'Y')", grants);
+        return granted;
+    }
+
+    private static double measure(Supplier<MenuTree> builder, int iterations) {
+        for (int i = 0; i < iterations / 2; i++) {
+            builder.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            builder.get();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+}
@@ -0,0 +1,164 @@
+package com.laze.backend.menu.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.dto.MenuSearchHit;
+import com.laze.backend.menu.dto.MenuTree;
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.menu.mapper.MenuMapper;
+import com.laze.backend.menu.service.MenuGraph;
+import com.laze.backend.menu.service.MenuGraphLoader;
+import com.laze.backend.menu.service.MenuTreeCache;
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class MenuServiceImplTest {
+
+    private final MenuMapper menuMapper = mock(MenuMapper.class);
+    private final MenuTreeCache menuTreeCache = new MenuTreeCache(new SimpleMeterRegistry(), 100, 10);
+    private final MenuGraphLoader menuGraphLoader = mock(MenuGraphLoader.class);
+    private final MenuServiceImpl menuService = new MenuServiceImpl(menuMapper, menuTreeCache, menuGraphLoader, new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 권한 구성(순서 무관)은 DB 조회 없이 같은 트리를 공유, 메뉴 변경 이벤트 후 재조회")
+    void getUserMenuTree_ShouldShareTreeByAuthoritySet() {
+        when(menuMapper.findAccessibleMenus(anyCollection())).thenAnswer(invocation -> List.of(
+            menu("FW0000", null), menu("FW0001", "FW0000"), menu("FW0002", "FW0000")));
+
+        login("GRP1", "GRP2");
+        MenuTree first = menuService.getUserMenuTree();
+        login("GRP2", "GRP1");
+        MenuTree second = menuService.getUserMenuTree();
+
+        assertSame(first, second);
+        verify(menuMapper, times(1)).findAccessibleMenus(anyCollection());
+        assertEquals(2, first.roots().get(0).getChildren().size());
+        assertThrows(UnsupportedOperationException.class, () -> first.roots().get(0).getChildren().clear());
+        assertTrue(new String(first.json(), StandardCharsets.UTF_8).startsWith("{\"success\":true,\"code\":\"OK\""));
+        assertTrue(new String(first.json(), StandardCharsets.UTF_8).contains("\"menuId\":\"FW0001\""));
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+
+        menuTreeCache.onMenuChanged(new MenuChangedEvent("test"));
+        assertNotSame(first, menuService.getUserMenuTree());
+        verify(menuMapper, times(2)).findAccessibleMenus(anyCollection());
+    }
+
+    @Test
+    @DisplayName("권한이 없으면 DB 조회 없이 빈 트리")
+    void getUserMenuTree_WithoutAuthorities_ShouldReturnEmptyTree() {
+        login();
+        assertTrue(menuService.getUserMenus().isEmpty());
+        verifyNoInteractions(menuMapper);
+    }
+
+    @Test
+    @DisplayName("메뉴 그래프가 있으면 세션 메뉴 권한과 상위 메뉴로 SQL 없이 트리 구성 (비활성 상위는 최상위 취급)")
+    void getUserMenuTree_WithGraph_ShouldBuildTreeWithoutQuery() {
+        when(menuGraphLoader.current()).thenReturn(MenuGraph.of(List.of(
+            menu("GR0000", null, 1, 1), menu("GR0001", "GR0000", 2, 2), menu("GR0002", "GR0000", 2, 1),
+            menu("GR0003", "GR0001", 3, 1), menu("GR0004", "GR9999", 2, 1), menu("GR0005", null, 1, 2))));
+
+        CustomUserDetails user = CustomUserDetails.builder()
+            .empId("user")
+            .cmpCd("AD1000")
+            .authorities(List.of(new SimpleGrantedAuthority("GRP1")))
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("GR0003", "GR0002", "GR0004")))
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        List<MenuDto> roots = menuService.getUserMenus();
+
+        verifyNoInteractions(menuMapper);
+        assertEquals(List.of("GR0000", "GR0004"), roots.stream().map(MenuDto::getMenuId).toList());
+        assertEquals(List.of("GR0002", "GR0001"), roots.get(0).getChildren().stream().map(MenuDto::getMenuId).toList());
+        assertEquals("GR0003", roots.get(0).getChildren().get(1).getChildren().get(0).getMenuId());
+
+        // 권한 그룹이 같아도 메뉴 권한 내용이 다르면(갱신 전 세션 등) 다른 트리
+        CustomUserDetails stale = user.toBuilder()
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("GR0005")))
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(stale, null, stale.getAuthorities()));
+        assertEquals(List.of("GR0005"), menuService.getUserMenus().stream().map(MenuDto::getMenuId).toList());
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+        assertEquals(List.of("GR0000", "GR0004"), menuService.getUserMenus().stream().map(MenuDto::getMenuId).toList());
+    }
+
+    @Test
+    @DisplayName("메뉴 검색은 권한 메뉴만 접두어 일치 우선으로 반환 (대소문자/공백 무시, 한글 부분 일치/초성)")
+    void searchMenus_ShouldReturnGrantedMatchesOnly() {
+        when(menuGraphLoader.current()).thenReturn(MenuGraph.of(List.of(
+            menu("SR0000", null, 1, 1, "시스템 관리"), menu("SR0001", "SR0000", 2, 1, "사용자관리"),
+            menu("SR0002", "SR0000", 2, 2, "권한 그룹 관리"), menu("SR0003", "SR0000", 2, 3, "관리자 로그"),
+            menu("SR0004", null, 1, 2, "User Report"))));
+        CustomUserDetails user = CustomUserDetails.builder()
+            .empId("user")
+            .cmpCd("AD1000")
+            .authorities(List.of(new SimpleGrantedAuthority("GRP1")))
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("SR0001", "SR0003", "SR0004")))
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        // "관리": 관리자 로그(단어 접두어) -> 사용자관리(부분 일치), 권한 없는 권한 그룹 관리/시스템 관리 제외
+        assertEquals(List.of("SR0003", "SR0001"), menuIds(menuService.searchMenus("관리", 10)));
+        assertEquals("시스템 관리", menuService.searchMenus("사용자관리", 10).get(0).path());
+        assertEquals(List.of("SR0001"), menuIds(menuService.searchMenus("ㅅㅇㅈ", 10)));
+        assertEquals(List.of("SR0004"), menuIds(menuService.searchMenus("user rep", 10)));
+        assertEquals(List.of("SR0003"), menuIds(menuService.searchMenus("관리", 1)));
+        assertTrue(menuService.searchMenus("권한", 10).isEmpty());
+        assertTrue(menuService.searchMenus(" ", 10).isEmpty());
+        verifyNoInteractions(menuMapper);
+    }
+
+    private static List<String> menuIds(List<MenuSearchHit> hits) {
+        return hits.stream().map(MenuSearchHit::menuId).toList();
+    }
+
+    private static void login(String... authorities) {
+        List<SimpleGrantedAuthority> granted = Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList();
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated("user", null, granted));
+    }
+
+    private static MenuDto menu(String menuId, String hrnMenuId) {
+        MenuDto menu = new MenuDto();
+        menu.setMenuId(menuId);
+        menu.setHrnMenuId(hrnMenuId);
+        return menu;
+    }
+
+    private static MenuDto menu(String menuId, String hrnMenuId, int menuLev, int menuOrd) {
+        MenuDto menu = menu(menuId, hrnMenuId);
+        menu.setMenuLev(menuLev);
+        menu.setMenuOrd(menuOrd);
+        return menu;
+    }
+
+    private static MenuDto menu(String menuId, String hrnMenuId, int menuLev, int menuOrd, String menuNm) {
+        MenuDto menu = menu(menuId, hrnMenuId, menuLev, menuOrd);
+        menu.setMenuNm(menuNm);
+        return menu;
+    }
+}
@@ -0,0 +1,100 @@
+package com.laze.backend.menu.stats;
+
+import com.laze.backend.common.config.MyBatisBatchConfig;
+import com.laze.backend.menu.dto.MenuAccessReport;
+import com.laze.backend.security.permission.MenuIdRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 노드가 같은 FW_MENU_ACCESS_STAT 에 합산하는 상황 (H2)
+ */
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MyBatisBatchConfig.class)
+@Sql("/db/h2/menu-access-stat-schema.sql")
+class MenuAccessStatsTest {
+
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Autowired
+    @Qualifier("batchSqlSessionTemplate")
+    private SqlSessionTemplate batchSqlSessionTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("(회사, 메뉴)별 1분 집계를 노드 간 합산 저장, 보고서는 노드 누적 + 진행 중 값")
+    void flush_ShouldUpsertMinuteRowsAndKeepNodeTotals() {
+        int menu1 = MenuIdRegistry.global().intern("ST0001");
+        int menu2 = MenuIdRegistry.global().intern("ST0002");
+        MenuAccessStats nodeA = node();
+        MenuAccessStats nodeB = node();
+
+        nodeA.record("AD1000", menu1, TimeUnit.MILLISECONDS.toNanos(5), false);
+        nodeA.record("AD1000", menu1, TimeUnit.MILLISECONDS.toNanos(200), true);
+        nodeA.record("AD2000", menu1, TimeUnit.MILLISECONDS.toNanos(4000), false);
+        nodeB.record("AD1000", menu1, TimeUnit.MILLISECONDS.toNanos(60), false);
+        nodeB.record("AD1000", menu2, TimeUnit.MILLISECONDS.toNanos(1), false);
+        nodeA.flush(MINUTE);
+        nodeB.flush(MINUTE);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT SUM(REQ_CNT) REQ_CNT, SUM(ERR_CNT) ERR_CNT, MAX(ELAPSED_MS_MAX) ELAPSED_MS_MAX, SUM(BKT_10MS) BKT_10MS, "
+                + "SUM(BKT_100MS) BKT_100MS, SUM(BKT_250MS) BKT_250MS, COUNT(*) ROW_CNT "
+                + "FROM FW_MENU_ACCESS_STAT WHERE CMP_CD = 'AD1000' AND MENU_ID = 'ST0001'");
+        assertEquals(3L, ((Number) row.get("REQ_CNT")).longValue());
+        assertEquals(1L, ((Number) row.get("ERR_CNT")).longValue());
+        assertEquals(200L, ((Number) row.get("ELAPSED_MS_MAX")).longValue());
+        assertEquals(1L, ((Number) row.get("BKT_10MS")).longValue());
+        assertEquals(1L, ((Number) row.get("BKT_100MS")).longValue());
+        assertEquals(1L, ((Number) row.get("BKT_250MS")).longValue());
+        assertEquals(1L, ((Number) row.get("ROW_CNT")).longValue()); // 같은 분은 한 행에 합산
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT BKT_OVER FROM FW_MENU_ACCESS_STAT WHERE CMP_CD = 'AD2000'", Integer.class));
+
+        // 반영 후 기록분은 다음 1분 (보고서에는 누적 + 진행 중 값)
+        nodeA.record("AD1000", menu1, TimeUnit.MILLISECONDS.toNanos(1), false);
+        MenuAccessReport report = nodeA.report(null, 10);
+        assertEquals(4, report.requestCount());
+        assertEquals("ST0001", report.menus().get(0).menuId());
+        assertEquals(4, report.menus().get(0).requests());
+        assertEquals(List.of(2L, 0L, 0L, 1L, 0L, 0L, 0L, 0L), report.companyMenus().get(0).buckets());
+        assertEquals(1, nodeA.report("AD2000", 10).requestCount());
+
+        nodeA.flush(MINUTE.plusMinutes(1));
+        nodeA.flush(MINUTE.plusMinutes(2)); // 새 기록이 없으면 반영할 행 없음
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT STAT_DTM) FROM FW_MENU_ACCESS_STAT", Integer.class));
+        assertEquals(4, nodeA.report(null, 10).requestCount());
+    }
+
+    private MenuAccessStats node() {
+        return new MenuAccessStats(batchSqlSessionTemplate, transactionTemplate, new SimpleMeterRegistry(), true, true, 500, 1000);
+    }
+}
@@ -0,0 +1,48 @@
+package com.laze.backend.security.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private final AdaptiveBCryptPasswordEncoder encoder = AdaptiveBCryptPasswordEncoder.fixed(5);
+
+    @Test
+    @DisplayName("cost 파싱: BCrypt 형식이 아니면 UNKNOWN_COST")
+    void costOf_ShouldParseBCryptPrefix() {
+        assertEquals(10, AdaptiveBCryptPasswordEncoder.costOf("$2a$10$JqYPnA5Wx0MAveZ0LWfl9OmNtrIuPBcCtmyQXri4E3zaxLtV1/NZO"));
+        assertEquals(4, AdaptiveBCryptPasswordEncoder.costOf("$2b$04$abc"));
+        assertEquals(AdaptiveBCryptPasswordEncoder.UNKNOWN_COST, AdaptiveBCryptPasswordEncoder.costOf("plain"));
+        assertEquals(AdaptiveBCryptPasswordEncoder.UNKNOWN_COST, AdaptiveBCryptPasswordEncoder.costOf(null));
+        assertEquals(AdaptiveBCryptPasswordEncoder.UNKNOWN_COST, AdaptiveBCryptPasswordEncoder.costOf("$2a$x1$abc"));
+    }
+
+    @Test
+    @DisplayName("다른 cost 의 해시도 검증되고, 목표 cost 보다 낮은 해시만 재해싱 대상")
+    void matchesAndUpgradeEncoding_ShouldHandleOtherCosts() {
+        String lower = new BCryptPasswordEncoder(4).encode("1234");
+        String higher = new BCryptPasswordEncoder(6).encode("1234");
+        String current = encoder.encode("1234");
+
+        assertTrue(encoder.matches("1234", lower));
+        assertTrue(encoder.matches("1234", higher));
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(higher));
+        assertFalse(encoder.upgradeEncoding(current));
+        assertFalse(encoder.upgradeEncoding("not-bcrypt"));
+        assertEquals(5, AdaptiveBCryptPasswordEncoder.costOf(current));
+    }
+
+    @Test
+    @DisplayName("측정: 결과 cost 는 [min, max] 범위, 추정 시간은 cost 1 증가 시 2배")
+    void calibrate_ShouldStayInRange() {
+        AdaptiveBCryptPasswordEncoder calibrated = AdaptiveBCryptPasswordEncoder.calibrate(1, 4, 6);
+        assertTrue(calibrated.getTargetCost() >= 4 && calibrated.getTargetCost() <= 6);
+        assertEquals(calibrated.estimateMillis(5) * 2, calibrated.estimateMillis(6), 1e-9);
+
+        assertEquals(4, AdaptiveBCryptPasswordEncoder.calibrate(Long.MAX_VALUE, 4, 4).getTargetCost());
+    }
+}
@@ -0,0 +1,124 @@
+package com.laze.backend.security.permission;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 세션별 메뉴 권한 표현 비교: HashSet&lt;String&gt; vs MenuPermissionSet(비트셋)
+ * (메뉴 3,000개 카탈로그, 세션 10,000개, 세션당 권한 메뉴 300개 기준 힙 사용량 / contains 처리량)
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*MenuPermissionBenchmarkTest"
+ */
+@Tag("benchmark")
+class MenuPermissionBenchmarkTest {
+
+    private static final int CATALOG = 3_000;
+    private static final int SESSIONS = 10_000;
+    private static final int GRANTED = 300;
+    private static final int LOOKUPS = 5_000_000;
+
+    @Test
+    void compareMemoryAndThroughput() {
+        List<String> catalog = new ArrayList<>(CATALOG);
+        for (int i = 0; i < CATALOG; i++) {
+            catalog.add(String.format("BM%05d", i));
+        }
+        MenuPermissionSet.of(catalog); // 카탈로그 선등록 (인덱스 부여)
+
+        Random random = new Random(42);
+        List<List<String>> grants = new ArrayList<>(SESSIONS);
+        for (int s = 0; s < SESSIONS; s++) {
+            List<String> granted = new ArrayList<>(GRANTED);
+            int offset = random.nextInt(CATALOG);
+            for (int m = 0; m < GRANTED; m++) {
+                // 로그인마다 DB 에서 새 문자열로 조회되는 상황을 재현 (new String)
+                granted.add(new String(catalog.get((offset + m * 7) % CATALOG)));
+            }
+            grants.add(granted);
+        }
+
+        long hashSetBytes = retainedBytes(s -> new HashSet<>(grants.get(s)));
+        long bitsetBytes = retainedBytes(s -> MenuPermissionSet.of(grants.get(s)));
+
+        // contains 처리량 (요청마다 URI 에서 추출된 메뉴 ID 로 확인)
+        List<Set<String>> hashSets = new ArrayList<>();
+        List<MenuPermissionSet> bitsets = new ArrayList<>();
+        for (int s = 0; s < 1_000; s++) {
+            hashSets.add(new HashSet<>(grants.get(s)));
+            bitsets.add(MenuPermissionSet.of(grants.get(s)));
+        }
+        String[] probes = new String[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = new String(catalog.get(random.nextInt(CATALOG)));
+        }
+        MenuIdRegistry registry = MenuIdRegistry.global();
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            lookupHashSet(hashSets, probes);
+            lookupBitset(bitsets, probes, registry);
+        }
+        long start = System.nanoTime();
+        int hashHits = lookupHashSet(hashSets, probes);
+        double hashNanos = (System.nanoTime() - start) / (double) LOOKUPS;
+        start = System.nanoTime();
+        int bitHits = lookupBitset(bitsets, probes, registry);
+        double bitNanos = (System.nanoTime() - start) / (double) LOOKUPS;
+
+        System.out.printf("%n[MenuPermission] catalog=%d, sessions=%d, granted/session=%d%n", CATALOG, SESSIONS, GRANTED);
+        System.out.printf("  %-18s heap/session=%8d B  contains=%6.1f ns (hits=%d)%n", "HashSet<String>", hashSetBytes / SESSIONS, hashNanos, hashHits);
+        System.out.printf("  %-18s heap/session=%8d B  contains=%6.1f ns (hits=%d)%n", "MenuPermissionSet", bitsetBytes / SESSIONS, bitNanos, bitHits);
+
+        assertTrue(bitsetBytes * 10 < hashSetBytes, "bitset should be at least an order of magnitude smaller");
+    }
+
+    private static int lookupHashSet(List<Set<String>> sets, String[] probes) {
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (sets.get(i % sets.size()).contains(probes[i & 1023])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int lookupBitset(List<MenuPermissionSet> sets, String[] probes, MenuIdRegistry registry) {
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (sets.get(i % sets.size()).containsIndex(registry.indexOf(probes[i & 1023]))) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 세션 수만큼 권한 집합을 만들어 보관했을 때 증가한 힙 (GC 후 측정, 근사치)
+     */
+    private static long retainedBytes(IntFunction<Set<String>> factory) {
+        Object[] holder = new Object[SESSIONS];
+        long before = usedHeap();
+        for (int s = 0; s < SESSIONS; s++) {
+            holder[s] = factory.apply(s);
+        }
+        long after = usedHeap();
+        assertTrue(holder[SESSIONS - 1] != null);
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,70 @@
+package com.laze.backend.security.permission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuPermissionSetTest {
+
+    private final MenuIdRegistry registry = MenuIdRegistry.global();
+
+    @Test
+    @DisplayName("Set<String> 뷰: contains / size / 반복이 메뉴 ID 기준으로 동작")
+    void of_ShouldBehaveAsStringSet() {
+        MenuPermissionSet set = MenuPermissionSet.of(List.of("PSTEST01", "PSTEST02", "PSTEST01"));
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains("PSTEST01"));
+        assertTrue(set.contains("PSTEST02"));
+        assertFalse(set.contains("PSTEST03"));
+        assertEquals(Set.of("PSTEST01", "PSTEST02"), Set.copyOf(set));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("PSTEST04"));
+    }
+
+    @Test
+    @DisplayName("미등록 메뉴 ID 조회는 레지스트리에 등록하지 않음")
+    void contains_WithUnknownMenu_ShouldNotIntern() {
+        MenuPermissionSet set = MenuPermissionSet.of(List.of("PSTEST10"));
+        int before = registry.size();
+
+        assertFalse(set.contains("PSTEST_UNKNOWN"));
+        assertEquals(MenuIdRegistry.NOT_FOUND, registry.indexOf("PSTEST_UNKNOWN"));
+        assertEquals(before, registry.size());
+    }
+
+    @Test
+    @DisplayName("구간 조회: URI 일부 구간으로 substring 없이 인덱스 조회")
+    void indexOf_WithRegion_ShouldMatchInternedId() {
+        int index = registry.intern("PSTEST20");
+        String uri = "/api/PSTEST20/list";
+
+        assertEquals(index, registry.indexOf(uri, 5, 13));
+        assertEquals(MenuIdRegistry.NOT_FOUND, registry.indexOf(uri, 5, 12));
+    }
+
+    @Test
+    @DisplayName("직렬화: 인덱스 대신 메뉴 ID 로 기록되고 역직렬화 후 동일 집합 복원")
+    void serialization_ShouldRoundTripByMenuId() throws Exception {
+        MenuPermissionSet set = MenuPermissionSet.of(List.of("PSTEST30", "PSTEST31"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(set);
+        }
+        Object restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = in.readObject();
+        }
+
+        assertInstanceOf(MenuPermissionSet.class, restored);
+        assertEquals(set, restored);
+    }
+}
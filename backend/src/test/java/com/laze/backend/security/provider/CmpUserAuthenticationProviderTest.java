@@ -2,8 +2,13 @@ package com.laze.backend.security.provider;
 
 import com.laze.backend.security.dto.CustomUserDetails;
 import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.exception.LoginBusyException;
+import com.laze.backend.security.service.PasswordFailureCounter;
+import com.laze.backend.security.service.PasswordRehashService;
+import com.laze.backend.security.service.PasswordVerificationExecutor;
+import com.laze.backend.security.service.UserInfoLoader;
+import com.laze.backend.security.throttle.LoginThrottle;
 import com.laze.backend.security.token.CmpUserAuthenticationToken;
-import com.laze.backend.user.mapper.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +17,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -25,6 +30,7 @@ import java.util.HashSet;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -32,10 +38,19 @@ import static org.mockito.Mockito.*;
 class CmpUserAuthenticationProviderTest {
 
     @Mock
-    private UserMapper userMapper;
+    private PasswordFailureCounter passwordFailureCounter;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UserInfoLoader userInfoLoader;
+
+    @Mock
+    private PasswordVerificationExecutor passwordVerificationExecutor;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
 
     @InjectMocks
     private CmpUserAuthenticationProvider authProvider;
@@ -77,9 +92,10 @@ class CmpUserAuthenticationProviderTest {
     @DisplayName("인증 성공: 유효한 사용자 정보로 인증 시도")
     void authenticate_WithValidCredentials_ShouldReturnAuthenticatedToken() {
         // Given
-        when(userMapper.findUserInfoByCmpCdAndEmpId(cmpCd, empId))
+        when(userInfoLoader.load(cmpCd, empId))
             .thenReturn(Optional.of(userInfo));
-        when(passwordEncoder.matches(password, password)).thenReturn(true);
+        when(passwordVerificationExecutor.matches(password, password)).thenReturn(true);
+        when(passwordFailureCounter.currentCount(cmpCd, empId, 0)).thenReturn(2);
 
         // When
         Authentication result = authProvider.authenticate(token);
@@ -87,35 +103,88 @@ class CmpUserAuthenticationProviderTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isAuthenticated());
-        verify(userMapper, never()).incrementPasswordFailureCount(anyString(), anyString());
+        verify(passwordFailureCounter, never()).recordFailure(anyString(), anyString());
+        verify(passwordFailureCounter).recordSuccess(cmpCd, empId, 2);
+        verify(passwordRehashService).rehashIfNeeded(cmpCd, empId, password, password);
+    }
+
+    @Test
+    @DisplayName("인증 실패: DB 미반영분 포함 실패 횟수가 임계치 이상이면 비밀번호 검증 없이 LockedException")
+    void authenticate_WithPendingFailuresOverThreshold_ShouldThrowLockedException() {
+        // Given
+        when(userInfoLoader.load(cmpCd, empId))
+            .thenReturn(Optional.of(userInfo));
+        when(passwordFailureCounter.currentCount(cmpCd, empId, 0)).thenReturn(5);
+
+        // When & Then
+        assertThrows(LockedException.class, () -> {
+            authProvider.authenticate(token);
+        });
+        verify(passwordVerificationExecutor, never()).matches(any(), any());
+        verify(passwordFailureCounter, never()).recordSuccess(anyString(), anyString(), anyInt());
+        verify(loginThrottle).markLocked(cmpCd, empId);
+    }
+
+    @Test
+    @DisplayName("인증 실패: 임계치에 도달하는 비밀번호 오류는 잠긴 계정으로 기록")
+    void authenticate_WithFailureReachingThreshold_ShouldMarkLocked() {
+        // Given
+        when(userInfoLoader.load(cmpCd, empId))
+            .thenReturn(Optional.of(userInfo));
+        when(passwordFailureCounter.currentCount(cmpCd, empId, 0)).thenReturn(4);
+        when(passwordVerificationExecutor.matches(password, password)).thenReturn(false);
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> {
+            authProvider.authenticate(token);
+        });
+        verify(passwordFailureCounter).recordFailure(cmpCd, empId);
+        verify(loginThrottle).markLocked(cmpCd, empId);
     }
 
     @Test
     @DisplayName("인증 실패: 존재하지 않는 사용자로 인증 시도")
     void authenticate_WithNonExistentUser_ShouldThrowUsernameNotFoundException() {
         // Given
-        when(userMapper.findUserInfoByCmpCdAndEmpId(cmpCd, empId))
+        when(userInfoLoader.load(cmpCd, empId))
             .thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(UsernameNotFoundException.class, () -> {
             authProvider.authenticate(token);
         });
+        verify(loginThrottle).markUnknown(cmpCd, empId);
     }
 
     @Test
     @DisplayName("인증 실패: 잘못된 비밀번호로 인증 시도")
     void authenticate_WithInvalidPassword_ShouldThrowBadCredentialsException() {
         // Given
-        when(userMapper.findUserInfoByCmpCdAndEmpId(cmpCd, empId))
+        when(userInfoLoader.load(cmpCd, empId))
             .thenReturn(Optional.of(userInfo));
-        when(passwordEncoder.matches(password, password)).thenReturn(false);
+        when(passwordVerificationExecutor.matches(password, password)).thenReturn(false);
 
         // When & Then
         assertThrows(BadCredentialsException.class, () -> {
             authProvider.authenticate(token);
         });
-        verify(userMapper).incrementPasswordFailureCount(cmpCd, empId);
+        verify(passwordFailureCounter).recordFailure(cmpCd, empId);
+    }
+
+    @Test
+    @DisplayName("인증 실패: 비밀번호 검증 풀 포화 시 LoginBusyException 전파 (실패 횟수 미증가)")
+    void authenticate_WhenVerifierSaturated_ShouldThrowLoginBusyException() {
+        // Given
+        when(userInfoLoader.load(cmpCd, empId))
+            .thenReturn(Optional.of(userInfo));
+        when(passwordVerificationExecutor.matches(password, password))
+            .thenThrow(new LoginBusyException("saturated"));
+
+        // When & Then
+        assertThrows(LoginBusyException.class, () -> {
+            authProvider.authenticate(token);
+        });
+        verify(passwordFailureCounter, never()).recordFailure(anyString(), anyString());
     }
 
     @Test
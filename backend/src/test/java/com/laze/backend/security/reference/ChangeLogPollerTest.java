@@ -0,0 +1,101 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.mapper.ChangeLogMapper;
+import com.laze.backend.security.permission.PermissionChanges;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 재조회마다 새 SqlSession (1차 캐시 배제)
+@Sql("/db/h2/change-log-schema.sql")
+class ChangeLogPollerTest {
+
+    private static final List<SimpleGrantedAuthority> G1 = List.of(new SimpleGrantedAuthority("G1"));
+
+    @Autowired
+    private ChangeLogMapper changeLogMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ReferenceDataLoader referenceDataLoader = mock(ReferenceDataLoader.class);
+    private final PermissionChanges permissionChanges = new PermissionChanges();
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    @DisplayName("첫 조회는 표시만, 이후 변경은 재적재 + 사용자/권한 그룹 표시")
+    void poll_ShouldReloadAndMarkChangedPermissions() {
+        ChangeLogPoller poller = poller(0);
+
+        // 1. 기동 전 변경: 표시만 (기동 시 전체 적재하므로 재적재 없음)
+        insert(1, "FW_AUTH_EMP", "AD1000", "G1", "E1");
+        assertEquals(1, poller.poll());
+        verifyNoInteractions(referenceDataLoader);
+        assertTrue(events.isEmpty());
+        assertEquals(1, permissionChanges.appliedSeq());
+        assertTrue(permissionChanges.isStale("AD1000", "E1", List.of(), 0));
+        assertFalse(permissionChanges.isStale("AD1000", "E1", List.of(), 1));
+        assertFalse(permissionChanges.isStale("AD1000", "E2", G1, 0));
+
+        // 2. 권한 그룹 메뉴 / 메뉴 변경: 참조 데이터 재적재 + MenuChangedEvent + 권한 그룹 표시
+        insert(2, "FW_AUTH_MENU", "AD1000", "G1", null);
+        insert(3, "FW_MENU", null, null, null);
+        assertEquals(2, poller.poll());
+        verify(referenceDataLoader, times(1)).refresh();
+        assertEquals(1, events.size());
+        assertInstanceOf(MenuChangedEvent.class, events.get(0));
+        assertTrue(permissionChanges.isStale("AD1000", "E2", G1, 1));
+        assertFalse(permissionChanges.isStale("AD1000", "E2", G1, 3));
+        assertFalse(permissionChanges.isStale("BD2000", "E2", G1, 1));
+        assertEquals(0, poller.poll());
+    }
+
+    @Test
+    @DisplayName("커밋 지연 구간은 다시 읽어 늦게 커밋된 앞 번호도 적용, 구간이 지나기 전에는 적용 완료 번호를 올리지 않음")
+    void poll_ShouldApplyLateCommittedEntries() {
+        ChangeLogPoller poller = poller(60_000);
+
+        insert(2, "FW_AUTH_EMP", "AD1000", "G1", "E2");
+        assertEquals(1, poller.poll());
+        assertEquals(0, permissionChanges.appliedSeq());
+
+        insert(1, "FW_AUTH_EMP", "AD1000", "G1", "E1"); // 2번보다 늦게 커밋
+        assertEquals(1, poller.poll());
+        assertEquals(0, poller.poll());
+        assertTrue(permissionChanges.isStale("AD1000", "E1", List.of(), permissionChanges.appliedSeq()));
+
+        ReflectionTestUtils.setField(poller, "commitLagMillis", 0L);
+        poller.poll();
+        assertEquals(2, permissionChanges.appliedSeq());
+    }
+
+    private ChangeLogPoller poller(long commitLagMillis) {
+        ChangeLogPoller poller = new ChangeLogPoller(changeLogMapper, referenceDataLoader, permissionChanges, events::add);
+        ReflectionTestUtils.setField(poller, "commitLagMillis", commitLagMillis);
+        return poller;
+    }
+
+    private void insert(long seq, String tblNm, String cmpCd, String authGrpId, String empId) {
+        jdbcTemplate.update("INSERT INTO FW_CHG_LOG (CHG_SEQ, TBL_NM, CMP_CD, AUTH_GRP_ID, EMP_ID) VALUES (?, ?, ?, ?, ?)",
+            seq, tblNm, cmpCd, authGrpId, empId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.security.mapper.ReferenceDataMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 재조회마다 새 SqlSession (1차 캐시 배제)
+@Sql("/db/h2/login-schema.sql")
+class ReferenceDataLoaderTest {
+
+    @Autowired
+    private ReferenceDataMapper referenceDataMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("활성 회사/부서/권한 그룹 메뉴만 적재, 비활성 그룹 메뉴 변경 후 재적재 시 버전 증가")
+    void refresh_ShouldLoadActiveRowsOnly() {
+        jdbcTemplate.update("INSERT INTO FW_CMP (CMP_CD, CMP_NM, USE_YN) VALUES ('AD1000', '테스트 주식회사', 'Y'), ('AD2000', '폐업', 'N')");
+        jdbcTemplate.update("INSERT INTO FW_DEPT (CMP_CD, DEPT_CD, DEPT_NM, USE_YN) VALUES ('AD1000', 'D1', '개발팀', 'Y'), ('AD1000', 'D2', '폐지', 'N')");
+        jdbcTemplate.update("INSERT INTO FW_AUTH_GRP (CMP_CD, AUTH_GRP_ID, USE_YN) VALUES ('AD1000', 'G1', 'Y'), ('AD1000', 'G2', 'N')");
+        jdbcTemplate.update("INSERT INTO FW_AUTH_MENU (CMP_CD, AUTH_GRP_ID, MENU_ID, USE_YN) VALUES "
+            + "('AD1000', 'G1', 'RLM01', 'Y'), ('AD1000', 'G1', 'RLM02', 'N'), ('AD1000', 'G2', 'RLM03', 'Y')");
+        ReferenceData referenceData = new ReferenceData();
+        ReferenceDataLoader loader = new ReferenceDataLoader(referenceDataMapper, referenceData, event -> { });
+
+        assertTrue(loader.refresh());
+        assertFalse(loader.refresh());
+        assertEquals("테스트 주식회사", referenceData.company("AD1000").cmpNm());
+        assertNull(referenceData.company("AD2000"));
+        assertNotNull(referenceData.department("AD1000", "D1"));
+        assertNull(referenceData.department("AD1000", "D2"));
+        assertEquals(List.of("RLM01"), List.copyOf(referenceData.menusOf("AD1000", List.of("G1", "G2"))));
+
+        jdbcTemplate.update("UPDATE FW_AUTH_MENU SET USE_YN = 'Y' WHERE MENU_ID = 'RLM02'");
+        assertTrue(loader.refresh());
+        assertEquals(2, referenceData.version());
+        assertEquals(2, referenceData.menusOf("AD1000", List.of("G1")).size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataTest {
+
+    private static final CompanyInfo COMPANY = new CompanyInfo("RDTEST", "참조 주식회사", null, null, null, null, "서울");
+    private static final DepartmentInfo DEPARTMENT = new DepartmentInfo("RDTEST", "D1", "개발팀", "HQ1", "기술본부", null);
+
+    @Test
+    @DisplayName("내용이 같으면 버전 유지, 같은 권한 그룹 조합은 같은 인스턴스 공유")
+    void replace_ShouldBumpVersionOnlyOnChange_AndShareMenuUnions() {
+        ReferenceData referenceData = new ReferenceData();
+        assertNull(referenceData.menusOf("RDTEST", List.of("G1")));
+
+        assertTrue(referenceData.replace(List.of(COMPANY), List.of(DEPARTMENT), menus("G1", "RDM01", "G2", "RDM02")));
+        assertFalse(referenceData.replace(List.of(COMPANY), List.of(DEPARTMENT), menus("G1", "RDM01", "G2", "RDM02")));
+        assertEquals(1, referenceData.version());
+        assertSame(COMPANY, referenceData.company("RDTEST"));
+        assertSame(DEPARTMENT, referenceData.department("RDTEST", "D1"));
+
+        MenuPermissionSet union = referenceData.menusOf("RDTEST", List.of("G2", "G1"));
+        assertSame(union, referenceData.menusOf("RDTEST", List.of("G1", "G2", "G1")));
+        assertTrue(union.contains("RDM01") && union.contains("RDM02"));
+        assertTrue(referenceData.menusOf("RDTEST", List.of("UNKNOWN")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전이 바뀌면 로그인 사용자의 회사 정보/메뉴 권한을 재조회 (버전 0 사용자는 그대로)")
+    void customUserDetails_ShouldFollowGlobalSnapshot() {
+        ReferenceData global = ReferenceData.global();
+        global.replace(List.of(COMPANY), List.of(DEPARTMENT), menus("G1", "RDM01", "G2", "RDM02"));
+        CustomUserDetails bound = user(global.version());
+        CustomUserDetails unbound = user(0);
+        assertTrue(bound.hasMenuAccess("RDM01"));
+
+        CompanyInfo renamed = new CompanyInfo("RDTEST", "변경 주식회사", null, null, null, null, "부산");
+        global.replace(List.of(renamed), List.of(DEPARTMENT), menus("G1", "RDM03", "G2", "RDM02"));
+
+        assertEquals("변경 주식회사", bound.getCmpNm());
+        assertFalse(bound.hasMenuAccess("RDM01"));
+        assertTrue(bound.hasMenuAccess("RDM03"));
+        assertEquals("참조 주식회사", unbound.getCmpNm());
+        assertTrue(unbound.hasMenuAccess("RDM01"));
+    }
+
+    private static CustomUserDetails user(long referenceVersion) {
+        return CustomUserDetails.builder()
+            .cmpCd("RDTEST")
+            .empId("user")
+            .deptCd("D1")
+            .authorities(List.of(new SimpleGrantedAuthority("G1")))
+            .company(COMPANY)
+            .department(DEPARTMENT)
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("RDM01")))
+            .referenceVersion(referenceVersion)
+            .build();
+    }
+
+    private static List<AuthGroupMenu> menus(String group1, String menu1, String group2, String menu2) {
+        return List.of(new AuthGroupMenu("RDTEST", group1, menu1), new AuthGroupMenu("RDTEST", group2, menu2));
+    }
+}
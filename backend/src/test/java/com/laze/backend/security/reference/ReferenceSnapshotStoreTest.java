@@ -0,0 +1,126 @@
+package com.laze.backend.security.reference;
+
+import com.laze.backend.menu.dto.MenuDto;
+import com.laze.backend.menu.mapper.MenuMapper;
+import com.laze.backend.menu.service.MenuGraphLoader;
+import com.laze.backend.menu.service.MenuTreeCache;
+import com.laze.backend.security.mapper.ReferenceDataMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceSnapshotStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ReferenceDataMapper referenceDataMapper = mock(ReferenceDataMapper.class);
+    private final MenuMapper menuMapper = mock(MenuMapper.class);
+
+    @Test
+    @DisplayName("DB 조회 이후에만 저장, 재기동 시 DB 조회 없이 같은 참조 데이터/메뉴 그래프로 복원")
+    void saveAndRestore_ShouldRoundTripWithoutQuery() throws Exception {
+        when(referenceDataMapper.findActiveCompanies()).thenReturn(List.of(
+            new CompanyInfo("AD1000", "테스트 주식회사", "123-45-67890", "대표", null, "06000", "서울")));
+        when(referenceDataMapper.findActiveDepartments()).thenReturn(List.of(
+            new DepartmentInfo("AD1000", "D1", "개발팀", "HQ1", "본부", null)));
+        when(referenceDataMapper.findActiveAuthGroupMenus()).thenReturn(List.of(
+            new AuthGroupMenu("AD1000", "G1", "SN0001"), new AuthGroupMenu("AD1000", "G1", "SN0002"),
+            new AuthGroupMenu("AD1000", "G2", "SN0002")));
+        MenuDto child = menu("SN0001", "SN0000", 2);
+        child.setCreatedAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 600_000_000));
+        when(menuMapper.findActiveMenus()).thenReturn(List.of(menu("SN0000", null, 1), child, menu("SN0002", "SN0000", 2)));
+        Path path = directory.resolve("snapshot/reference-snapshot.bin");
+
+        // 1. 기동 중인 노드: 파일 없음, DB 적재 전에는 저장하지 않음, 적재 후 1회만 저장
+        ReferenceDataLoader runningReference = new ReferenceDataLoader(referenceDataMapper, new ReferenceData(), event -> { });
+        MenuGraphLoader runningGraph = graphLoader();
+        ReferenceSnapshotStore running = new ReferenceSnapshotStore(runningReference, runningGraph, path.toString(), 60);
+        assertFalse(running.restore());
+        assertFalse(running.save());
+        runningReference.refresh();
+        runningGraph.reload();
+        assertTrue(running.save());
+        assertFalse(running.save());
+
+        // 2. 재기동한 노드: DB 조회 없이 복원, 복원만 된 상태에서는 저장하지 않음
+        clearInvocations(referenceDataMapper, menuMapper);
+        ReferenceData restoredData = new ReferenceData();
+        ReferenceDataLoader restartedReference = new ReferenceDataLoader(referenceDataMapper, restoredData, event -> { });
+        MenuGraphLoader restartedGraph = graphLoader();
+        ReferenceSnapshotStore restarted = new ReferenceSnapshotStore(restartedReference, restartedGraph, path.toString(), 60);
+        assertTrue(restarted.restore());
+        verifyNoInteractions(referenceDataMapper, menuMapper);
+        assertFalse(restarted.save());
+
+        assertEquals("테스트 주식회사", restoredData.company("AD1000").cmpNm());
+        assertEquals("개발팀", restoredData.department("AD1000", "D1").deptNm());
+        assertEquals(Set.of("SN0001", "SN0002"), Set.copyOf(restoredData.menusOf("AD1000", List.of("G1"))));
+        assertEquals(runningGraph.current().menus(), restartedGraph.current().menus());
+        if (Files.getFileStore(path).supportsFileAttributeView("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(path));
+        }
+
+        // 3. 백그라운드 DB 확인 결과가 같으면 교체 없음 (버전 유지)
+        assertFalse(restartedReference.refresh());
+        assertFalse(restartedGraph.reload());
+        assertEquals(1, restoredData.version());
+    }
+
+    @Test
+    @DisplayName("손상되었거나 오래된 파일은 복원하지 않음")
+    void restore_WithCorruptOrExpiredFile_ShouldWaitForDb() throws Exception {
+        Path path = directory.resolve("reference-snapshot.bin");
+        new ReferenceSnapshot(System.currentTimeMillis(), List.of(), List.of(),
+            List.of(new AuthGroupMenu("AD1000", "G1", "SN0001")), List.of(menu("SN0001", null, 1))).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        ReferenceData referenceData = new ReferenceData();
+        MenuGraphLoader menuGraphLoader = graphLoader();
+        ReferenceDataLoader referenceDataLoader = new ReferenceDataLoader(referenceDataMapper, referenceData, event -> { });
+        assertFalse(new ReferenceSnapshotStore(referenceDataLoader, menuGraphLoader, path.toString(), 60).restore());
+
+        new ReferenceSnapshot(System.currentTimeMillis() - 61 * 60_000L, List.of(), List.of(), List.of(), List.of()).write(path);
+        assertFalse(new ReferenceSnapshotStore(referenceDataLoader, menuGraphLoader, path.toString(), 60).restore());
+        assertFalse(referenceData.isLoaded());
+        assertNull(menuGraphLoader.current());
+    }
+
+    @Test
+    @DisplayName("저장 경로가 비어 있거나 상대 경로면 기동 실패")
+    void constructor_WithRelativePath_ShouldFail() {
+        ReferenceDataLoader referenceDataLoader = new ReferenceDataLoader(referenceDataMapper, new ReferenceData(), event -> { });
+        assertThrows(IllegalStateException.class,
+            () -> new ReferenceSnapshotStore(referenceDataLoader, graphLoader(), "data/reference-snapshot.bin", 60));
+        assertThrows(IllegalStateException.class, () -> new ReferenceSnapshotStore(referenceDataLoader, graphLoader(), "", 60));
+    }
+
+    private MenuGraphLoader graphLoader() {
+        return new MenuGraphLoader(menuMapper, new MenuTreeCache(new SimpleMeterRegistry(), 100, 10));
+    }
+
+    private static MenuDto menu(String menuId, String hrnMenuId, int menuLev) {
+        MenuDto menu = new MenuDto();
+        menu.setMenuId(menuId);
+        menu.setMenuNm("메뉴 " + menuId);
+        menu.setHrnMenuId(hrnMenuId);
+        menu.setMenuLev(menuLev);
+        menu.setMenuOrd(menuId.hashCode() % 10);
+        menu.setUseYn("Y");
+        return menu;
+    }
+}
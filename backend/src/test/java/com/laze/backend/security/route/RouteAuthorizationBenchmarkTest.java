@@ -0,0 +1,127 @@
+package com.laze.backend.security.route;
+
+import com.laze.backend.security.permission.MenuIdRegistry;
+import com.laze.backend.security.route.RouteAuthorizationTable.RouteDecision;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청당 라우트 판별 비용 비교
+ * - 기존: authorizeHttpRequests 의 AntPathRequestMatcher 체인 + MenuAccessControlFilter 의 shouldNotFilter + Pattern/Matcher
+ * - 변경: RouteAuthorizationTable.resolve 1회
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*RouteAuthorizationBenchmarkTest"
+ */
+@Tag("benchmark")
+class RouteAuthorizationBenchmarkTest {
+
+    private static final int ITERATIONS = 2_000_000;
+
+    private static final String[] URIS = {
+        "/api/FW0001/list", "/api/FW0002/detail/10", "/api/SM0101/save", "/api/user/me",
+        "/api/menus", "/api/admin/users", "/api/user/login", "/api/FW0003",
+    };
+
+    // --- 기존 방식 ---
+    private final List<RequestMatcher> permitAll = List.of(new AntPathRequestMatcher("/"), new AntPathRequestMatcher("/error"),
+        new AntPathRequestMatcher("/api/user/login"), new AntPathRequestMatcher("/api/user/csrf"));
+    private final RequestMatcher menus = new AntPathRequestMatcher("/api/menus");
+    private final RequestMatcher admin = new AntPathRequestMatcher("/api/admin/**");
+    private final Pattern menuIdPattern = Pattern.compile("/api/([A-Z0-9]+)(?:/.*)?");
+
+    // --- 변경 방식 ---
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.builder()
+        .permitAll("/", "/error", "/api/user/login", "/api/user/csrf")
+        .authenticated("/api/menus", "/api/csrf", "/api/user/**")
+        .hasAuthority("ADMIN", "/api/admin/**")
+        .menuPrefix("/api/")
+        .build();
+
+    @Test
+    void compareLegacyMatchersAndRouteTable() {
+        MenuIdRegistry.global().internAll(List.of("FW0001", "FW0002", "FW0003", "SM0101"));
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[URIS.length];
+        for (int i = 0; i < URIS.length; i++) {
+            requests[i] = new MockHttpServletRequest("GET", URIS[i]);
+        }
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            runLegacy(requests);
+            runTable(requests);
+        }
+
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long legacyHits = runLegacy(requests);
+        double legacyNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+        double legacyAlloc = (allocatedBytes() - allocBefore) / (double) ITERATIONS;
+
+        allocBefore = allocatedBytes();
+        start = System.nanoTime();
+        long tableHits = runTable(requests);
+        double tableNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+        double tableAlloc = (allocatedBytes() - allocBefore) / (double) ITERATIONS;
+
+        System.out.printf("%n[RouteAuthorization] %d requests, %d URIs%n", ITERATIONS, URIS.length);
+        System.out.printf("  %-34s %7.1f ns/request  %6.1f B/request%n", "AntPathRequestMatcher + Pattern", legacyNanos, legacyAlloc);
+        System.out.printf("  %-34s %7.1f ns/request  %6.1f B/request%n", "RouteAuthorizationTable", tableNanos, tableAlloc);
+
+        assertTrue(legacyHits == tableHits, "both paths must find the same menu routes");
+        assertTrue(tableNanos < legacyNanos);
+    }
+
+    private long runLegacy(MockHttpServletRequest[] requests) {
+        long menuRoutes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            HttpServletRequest request = requests[i % requests.length];
+            // AuthorizationFilter: requestMatchers 순차 평가
+            boolean matched = false;
+            for (RequestMatcher matcher : permitAll) {
+                if (matcher.matches(request)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched && !menus.matches(request)) {
+                admin.matches(request);
+            }
+            // MenuAccessControlFilter: shouldNotFilter + 정규식 추출
+            String path = request.getRequestURI();
+            if (path.startsWith("/api/user/") || path.equals("/api/csrf") || path.equals("/api/menus") || !path.startsWith("/api/")) {
+                continue;
+            }
+            Matcher matcher = menuIdPattern.matcher(path);
+            if (matcher.find() && MenuIdRegistry.global().indexOf(matcher.group(1)) != MenuIdRegistry.NOT_FOUND) {
+                menuRoutes++;
+            }
+        }
+        return menuRoutes;
+    }
+
+    private long runTable(MockHttpServletRequest[] requests) {
+        long menuRoutes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            // 인가 단계 1회 조회 후 필터는 요청 속성 재사용 -> 요청당 조회 1회
+            RouteDecision decision = table.resolve(requests[i % requests.length].getRequestURI());
+            if (decision.isMenu() && decision.menuIndex() != MenuIdRegistry.NOT_FOUND) {
+                menuRoutes++;
+            }
+        }
+        return menuRoutes;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
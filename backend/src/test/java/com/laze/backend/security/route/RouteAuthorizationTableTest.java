@@ -0,0 +1,92 @@
+package com.laze.backend.security.route;
+
+import com.laze.backend.security.permission.MenuIdRegistry;
+import com.laze.backend.security.route.RouteAuthorizationTable.Access;
+import com.laze.backend.security.route.RouteAuthorizationTable.RouteDecision;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteAuthorizationTableTest {
+
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.builder()
+        .permitAll("/", "/error", "/api/user/login", "/api/user/csrf")
+        .authenticated("/api/menus", "/api/csrf", "/api/user/**")
+        .hasAuthority("ADMIN", "/api/admin/**")
+        .menuPrefix("/api/")
+        .build();
+
+    @Test
+    @DisplayName("정확한 경로 / 접두어 경로 / 기본 규칙 판별")
+    void resolve_ShouldApplyExactThenPrefixThenDefault() {
+        assertEquals(Access.PERMIT_ALL, table.resolve("/api/user/login").access());
+        assertEquals(Access.PERMIT_ALL, table.resolve("/error").access());
+        assertEquals(Access.AUTHENTICATED, table.resolve("/api/user/me").access());
+        assertEquals(Access.AUTHENTICATED, table.resolve("/api/menus").access());
+        assertEquals(Access.AUTHENTICATED, table.resolve("/static/app.js").access());
+
+        RouteDecision admin = table.resolve("/api/admin/users");
+        assertEquals(Access.AUTHORITY, admin.access());
+        assertEquals("ADMIN", admin.authority());
+        assertEquals(Access.AUTHORITY, table.resolve("/api/admin").access());
+    }
+
+    @Test
+    @DisplayName("메뉴 경로: /api/ 뒤 [A-Z0-9] 연속 구간을 메뉴 ID 로 추출 (기존 정규식과 동일)")
+    void resolve_ShouldExtractMenuIdLikeLegacyPattern() {
+        int index = MenuIdRegistry.global().intern("RTTEST01");
+
+        RouteDecision decision = table.resolve("/api/RTTEST01/list");
+        assertEquals(Access.MENU, decision.access());
+        assertEquals(index, decision.menuIndex());
+        assertEquals("RTTEST01", decision.menuId());
+        assertSame(decision, table.resolve("/api/RTTEST01"));
+        assertSame(decision, table.resolve("/api/RTTEST01abc/list"));
+
+        // 미등록 메뉴도 메뉴 경로로 판별 (권한 보유자가 없으므로 필터에서 403)
+        RouteDecision unknown = table.resolve("/api/RTUNKNOWN/list");
+        assertTrue(unknown.isMenu());
+        assertEquals(MenuIdRegistry.NOT_FOUND, unknown.menuIndex());
+
+        // 소문자 경로는 메뉴 경로 아님
+        assertFalse(table.resolve("/api/sample/list").isMenu());
+    }
+
+    @Test
+    @DisplayName("요청 속성 재사용: REQUEST 디스패치만 캐시 사용, error 디스패치는 재조회")
+    void resolve_WithRequest_ShouldReuseOnlyForRequestDispatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        RouteDecision first = table.resolve(request);
+        assertSame(first, request.getAttribute(RouteAuthorizationTable.DECISION_ATTRIBUTE));
+
+        request.setRequestURI("/error");
+        assertSame(first, table.resolve(request));
+
+        request.setDispatcherType(DispatcherType.ERROR);
+        assertEquals(Access.PERMIT_ALL, table.resolve(request).access());
+    }
+
+    @Test
+    @DisplayName("요청은 디코딩된 애플리케이션 경로로 조회 (퍼센트 인코딩으로 규칙 우회 불가)")
+    void resolve_WithRequest_ShouldUseDecodedPath() {
+        MockHttpServletRequest admin = new MockHttpServletRequest("POST", "/api/%61dmin/users/AD1000/victim/unlock");
+        RouteDecision adminDecision = table.resolve(admin);
+        assertEquals(Access.AUTHORITY, adminDecision.access());
+        assertEquals("ADMIN", adminDecision.authority());
+
+        assertEquals(Access.PERMIT_ALL, table.resolve(new MockHttpServletRequest("POST", "/api/user/%6Cogin")).access());
+
+        int index = MenuIdRegistry.global().intern("RTTEST02");
+        RouteDecision menu = table.resolve(new MockHttpServletRequest("GET", "/api/%52TTEST02/list"));
+        assertTrue(menu.isMenu());
+        assertEquals(index, menu.menuIndex());
+
+        // 컨텍스트 경로는 제외하고 조회
+        MockHttpServletRequest withContext = new MockHttpServletRequest("GET", "/app/api/%61dmin/users");
+        withContext.setContextPath("/app");
+        assertEquals(Access.AUTHORITY, table.resolve(withContext).access());
+    }
+}
@@ -0,0 +1,88 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.user.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordFailureCounterTest {
+
+    private final UserMapper batchUserMapper = mock(UserMapper.class);
+    private PasswordFailureCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        SqlSessionTemplate batchTemplate = mock(SqlSessionTemplate.class);
+        when(batchTemplate.getMapper(UserMapper.class)).thenReturn(batchUserMapper);
+        counter = new PasswordFailureCounter(batchTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("실패 누적: 반영 전에도 잠금 판단에 포함되고, flush 시 계정별 1건으로 병합")
+    void recordFailure_ShouldCoalesceAndCountBeforeFlush() {
+        counter.recordFailure("AD1000", "user");
+        counter.recordFailure("AD1000", "user");
+        counter.recordFailure("AD1000", "user");
+
+        assertEquals(4, counter.currentCount("AD1000", "user", 1));
+
+        counter.flush();
+
+        verify(batchUserMapper, times(1)).updatePasswordFailureCount("AD1000", "user", 3, false);
+        assertEquals(4, counter.currentCount("AD1000", "user", 4));
+    }
+
+    @Test
+    @DisplayName("성공 후 실패: 초기화 후 누적분으로 설정, 실패 이력 없는 성공은 기록하지 않음")
+    void recordSuccess_ThenFailure_ShouldResetToDelta() {
+        counter.recordSuccess("AD1000", "clean", 0);
+        counter.recordFailure("AD1000", "user");
+        counter.recordSuccess("AD1000", "user", 3);
+        counter.recordFailure("AD1000", "user");
+
+        assertEquals(1, counter.currentCount("AD1000", "user", 3));
+
+        counter.flush();
+
+        verify(batchUserMapper).updatePasswordFailureCount("AD1000", "user", 1, true);
+        verify(batchUserMapper, never()).updatePasswordFailureCount(eq("AD1000"), eq("clean"), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("잠금 해제: 잠금 기준 이상이던 실패 횟수가 즉시 0, flush 시 초기화 반영")
+    void recordReset_ShouldClearCountImmediately() {
+        counter.recordFailure("AD1000", "user");
+
+        counter.recordReset("AD1000", "user");
+
+        assertEquals(0, counter.currentCount("AD1000", "user", 5));
+        counter.flush();
+        verify(batchUserMapper).updatePasswordFailureCount("AD1000", "user", 0, true);
+    }
+
+    @Test
+    @DisplayName("반영 실패: 누적분을 유지하여 잠금 판단 및 다음 주기 재시도")
+    void flush_WhenUpdateFails_ShouldRequeue() {
+        doThrow(new IllegalStateException("db down")).doNothing()
+            .when(batchUserMapper).updatePasswordFailureCount(anyString(), anyString(), anyInt(), anyBoolean());
+        counter.recordFailure("AD1000", "user");
+
+        counter.flush();
+        counter.recordFailure("AD1000", "user");
+        assertEquals(2, counter.currentCount("AD1000", "user", 0));
+
+        counter.flush();
+        verify(batchUserMapper).updatePasswordFailureCount("AD1000", "user", 2, false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.laze.backend.security.service;
+
+import com.laze.backend.security.exception.LoginBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordVerificationExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private PasswordVerificationExecutor verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("검증 성공: 전용 풀에서 matches 결과를 반환하고 검증 시간을 기록")
+    void matches_ShouldDelegateToEncoderAndRecordTime() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches("pw", "hash")).thenReturn(true);
+        verifier = new PasswordVerificationExecutor(encoder, meterRegistry, 1, 1, 1_000);
+
+        assertTrue(verifier.matches("pw", "hash"));
+        assertEquals(1, meterRegistry.get("login.password.verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("포화: 스레드와 대기열이 모두 찬 경우 즉시 LoginBusyException")
+    void matches_WhenSaturated_ShouldRejectImmediately() throws Exception {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        verifier = new PasswordVerificationExecutor(encoder, meterRegistry, 1, 1, 5_000);
+
+        // 1건은 실행 중, 1건은 대기열에 적재 (순서대로 상태 확인 후 다음 요청)
+        callers.submit(() -> verifier.matches("a", "h"));
+        awaitGauge("login.password.verify.active", 1);
+        callers.submit(() -> verifier.matches("b", "h"));
+        awaitGauge("login.password.verify.queue", 1);
+
+        assertThrows(LoginBusyException.class, () -> verifier.matches("c", "h"));
+        assertEquals(1.0, meterRegistry.get("login.password.verify.rejected").counter().count());
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.get(name).gauge().value() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
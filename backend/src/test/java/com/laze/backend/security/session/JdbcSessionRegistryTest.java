@@ -0,0 +1,115 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.common.config.MyBatisBatchConfig;
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.mapper.SessionRegistryMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 노드가 같은 FW_SESSION_REGISTRY 를 공유하는 상황 (H2)
+ */
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MyBatisBatchConfig.class)
+@Sql("/db/h2/session-registry-schema.sql")
+class JdbcSessionRegistryTest {
+
+    @Autowired
+    private SessionRegistryMapper sessionRegistryMapper;
+
+    @Autowired
+    @Qualifier("batchSqlSessionTemplate")
+    private SqlSessionTemplate batchSqlSessionTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcSessionRegistry nodeA;
+    private JdbcSessionRegistry nodeB;
+    private final CustomUserDetails user = CustomUserDetails.builder().cmpCd("AD1000").empId("user").build();
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 만료시킨 세션은 동기화 후 만료로 보임")
+    void expireOnOtherNode_ShouldPropagateOnSync() {
+        nodeA.registerNewSession("s1", user);
+        assertFalse(nodeA.getSessionInformation("s1").isExpired());
+
+        // 노드 B 에서 같은 사용자 로그인 -> 기존 세션 만료 (ConcurrentSessionControlAuthenticationStrategy 동작)
+        List<SessionInformation> sessions = nodeB.getAllSessions(user, false);
+        assertEquals(1, sessions.size());
+        sessions.get(0).expireNow();
+        nodeB.registerNewSession("s2", user);
+
+        assertFalse(nodeA.getSessionInformation("s1").isExpired(), "동기화 전에는 로컬 캐시 값 사용");
+        nodeA.sync();
+        assertTrue(nodeA.getSessionInformation("s1").isExpired());
+
+        assertEquals(1, nodeA.getAllSessions(user, false).size());
+        assertEquals(2, nodeA.getAllSessions(user, true).size());
+        assertEquals(List.of("AD1000:user"), nodeA.getAllPrincipals());
+    }
+
+    @Test
+    @DisplayName("미등록 세션은 동기화 주기 동안 부정 캐시, 마지막 요청 시각은 배치로 기록")
+    void unknownSessionAndLastRequest_ShouldBeBatched() throws Exception {
+        assertNull(nodeA.getSessionInformation("s1"));
+        nodeB.registerNewSession("s1", user);
+        assertNull(nodeA.getSessionInformation("s1"), "부정 캐시");
+        nodeA.sync();
+        SessionInformation info = nodeA.getSessionInformation("s1");
+        assertNotNull(info);
+
+        long registered = lastRequestTime("s1");
+        Thread.sleep(5);
+        nodeA.refreshLastRequest("s1");
+        assertEquals(registered, lastRequestTime("s1"), "요청 경로에서는 DB 기록 없음");
+        nodeA.sync();
+        assertEquals(info.getLastRequest().getTime(), lastRequestTime("s1"));
+
+        nodeA.removeSessionInformation("s1");
+        assertNull(nodeB.getSessionInformation("unknown"));
+        assertTrue(nodeB.getAllSessions(user, true).isEmpty());
+    }
+
+    private long lastRequestTime(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT LAST_REQUEST_TIME FROM FW_SESSION_REGISTRY WHERE SESSION_ID = ?", Long.class, sessionId);
+    }
+
+    private JdbcSessionRegistry node() {
+        JdbcSessionRegistry registry = new JdbcSessionRegistry(sessionRegistryMapper, batchSqlSessionTemplate, transactionTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "touchIntervalMillis", 0L);
+        return registry;
+    }
+}
@@ -0,0 +1,55 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.web.session.HttpSessionDestroyedEvent;
+import org.springframework.security.web.session.HttpSessionIdChangedEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalSessionRegistryTest {
+
+    private final LocalSessionRegistry registry = new LocalSessionRegistry();
+
+    @Test
+    @DisplayName("사용자 키(cmpCd:empId) 기준으로 세션을 묶고 만료/제거 반영")
+    void registerAndExpire_ShouldGroupByPrincipalKey() {
+        registry.registerNewSession("s1", user());
+        registry.registerNewSession("s2", user()); // 다른 인스턴스, 같은 사용자
+
+        List<SessionInformation> sessions = registry.getAllSessions(user(), false);
+        assertEquals(2, sessions.size());
+
+        registry.getSessionInformation("s1").expireNow();
+        assertEquals(1, registry.getAllSessions(user(), false).size());
+        assertEquals(2, registry.getAllSessions(user(), true).size());
+
+        registry.onApplicationEvent(new HttpSessionDestroyedEvent(new MockHttpSession(null, "s1")));
+        registry.removeSessionInformation("s2");
+        assertTrue(registry.getAllSessions(user(), true).isEmpty());
+        assertTrue(registry.getAllPrincipals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("세션 ID 변경 이벤트: 새 ID 로 다시 등록")
+    void sessionIdChanged_ShouldMoveRegistration() {
+        registry.registerNewSession("old", user());
+        long before = registry.getSessionInformation("old").getLastRequest().getTime();
+
+        registry.onApplicationEvent(new HttpSessionIdChangedEvent(new MockHttpSession(null, "new"), "old"));
+
+        assertNull(registry.getSessionInformation("old"));
+        assertNotNull(registry.getSessionInformation("new"));
+        registry.refreshLastRequest("new");
+        assertTrue(registry.getSessionInformation("new").getLastRequest().getTime() >= before);
+    }
+
+    private static CustomUserDetails user() {
+        return CustomUserDetails.builder().cmpCd("AD1000").empId("user").build();
+    }
+}
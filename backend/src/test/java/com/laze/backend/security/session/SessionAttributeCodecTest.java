@@ -0,0 +1,134 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.token.CmpUserAuthenticationToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionAttributeCodecTest {
+
+    private final SessionAttributeCodec codec = new SessionAttributeCodec();
+
+    @Test
+    @DisplayName("SecurityContext: 바이너리 포맷 왕복, Java 직렬화보다 작고 비밀번호 해시는 기록하지 않음")
+    void securityContext_ShouldRoundTripInCompactFormat() {
+        SecurityContext context = loginContext();
+
+        byte[] encoded = codec.encode(context);
+        byte[] java = new SerializingConverter().convert(context);
+        Object decoded = codec.decode(encoded);
+
+        assertEquals(SessionAttributeCodec.FORMAT_SECURITY_CONTEXT, encoded[0]);
+        assertTrue(encoded.length * 3 < java.length, "compact=" + encoded.length + ", java=" + java.length);
+
+        CmpUserAuthenticationToken token = (CmpUserAuthenticationToken) ((SecurityContext) decoded).getAuthentication();
+        CustomUserDetails user = (CustomUserDetails) token.getPrincipal();
+        assertTrue(token.isAuthenticated());
+        assertEquals("AD1000", token.getCmpCd());
+        assertEquals(List.of(new SimpleGrantedAuthority("ADMIN")), List.copyOf(token.getAuthorities()));
+        assertEquals(new WebAuthenticationDetails("127.0.0.1", "S1"), token.getDetails());
+        assertEquals("admin", user.getUsername());
+        assertEquals("홍길동", user.getEmpNm());
+        assertEquals("서울특별시 강남구", user.getAddr());
+        assertNull(user.getHqCd());
+        assertNull(user.getPassword());
+        assertTrue(user.isAccountNonLocked());
+        assertTrue(user.hasMenuAccess("CDTEST01"));
+        assertFalse(user.hasMenuAccess("CDTEST99"));
+        assertEquals(42, user.getAuthoritySeq());
+    }
+
+    @Test
+    @DisplayName("그 외 속성 및 미지원 버전: Java 직렬화 유지 / 미지원 버전은 null (미인증 처리)")
+    void otherAttributes_ShouldFallBackToJavaSerialization() {
+        Map<String, Object> value = new HashMap<>(Map.of("key", "value"));
+        assertEquals(value, codec.decode(codec.encode(value)));
+
+        byte[] encoded = codec.encode(loginContext());
+        encoded[1] = SessionAttributeCodec.CONTEXT_VERSION + 1;
+        assertNull(codec.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("JDBC 세션 저장소(H2): 저장한 로그인 세션을 다른 저장소 인스턴스(노드)에서 복원")
+    void jdbcSessionRepository_ShouldRestoreLoginOnAnotherNode() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("org/springframework/session/jdbc/schema-h2.sql")
+            .build();
+        try {
+            String sessionId = saveLogin(repository(database));
+
+            Session restored = repository(database).findById(sessionId);
+            SecurityContext context = restored.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+            assertEquals("admin", context.getAuthentication().getName());
+            assertEquals("admin", new JdbcTemplate(database).queryForObject(
+                "SELECT PRINCIPAL_NAME FROM SPRING_SESSION WHERE SESSION_ID = ?", String.class, sessionId));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    private <S extends Session> String saveLogin(SessionRepository<S> repository) {
+        S session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, loginContext());
+        repository.save(session);
+        return session.getId();
+    }
+
+    private JdbcIndexedSessionRepository repository(EmbeddedDatabase database) {
+        JdbcIndexedSessionRepository repository = new JdbcIndexedSessionRepository(
+            new JdbcTemplate(database), new TransactionTemplate(new DataSourceTransactionManager(database)));
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, codec::encode);
+        conversionService.addConverter(byte[].class, Object.class, codec::decode);
+        repository.setConversionService(conversionService);
+        return repository;
+    }
+
+    private SecurityContext loginContext() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ADMIN"));
+        CustomUserDetails user = CustomUserDetails.builder()
+            .empId("admin")
+            .password("$2a$10$JqYPnA5Wx0MAveZ0LWfl9OmNtrIuPBcCtmyQXri4E3zaxLtV1/NZO")
+            .authorities(authorities)
+            .enabled(true)
+            .accountNonExpired(true)
+            .accountNonLocked(true)
+            .credentialsNonExpired(true)
+            .cmpCd("AD1000")
+            .empNm("홍길동")
+            .company(new CompanyInfo("AD1000", "테스트 주식회사", null, null, null, null, "서울특별시 강남구"))
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("CDTEST01", "CDTEST02")))
+            .authoritySeq(42)
+            .build();
+        CmpUserAuthenticationToken token = new CmpUserAuthenticationToken("AD1000", user, null, authorities);
+        token.setDetails(new WebAuthenticationDetails("127.0.0.1", "S1"));
+        return new SecurityContextImpl(token);
+    }
+}
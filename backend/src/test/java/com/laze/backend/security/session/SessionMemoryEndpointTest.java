@@ -0,0 +1,118 @@
+package com.laze.backend.security.session;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.dto.SessionMemoryReport;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.AuthGroupMenu;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.reference.ReferenceData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.session.HttpSessionCreatedEvent;
+import org.springframework.security.web.session.HttpSessionDestroyedEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionMemoryEndpointTest {
+
+    private final HttpSessionTracker tracker = new HttpSessionTracker();
+    private final SessionMemoryEndpoint endpoint = new SessionMemoryEndpoint(tracker);
+
+    @Test
+    @DisplayName("세션별/속성별/회사별 추정 크기 집계, 소멸 세션 제외")
+    void report_ShouldAggregateBySessionAttributeAndCompany() {
+        MockHttpSession small = session("small-session", "AD1000");
+        MockHttpSession large = session("large-session", "AD2000");
+        large.setAttribute("BULK", new byte[10_000]);
+        MockHttpSession destroyed = session("destroyed", "AD1000");
+        tracker.onApplicationEvent(new HttpSessionDestroyedEvent(destroyed));
+
+        SessionMemoryReport report = endpoint.report(1);
+
+        assertEquals(2, report.sessionCount());
+        assertEquals(report.totalBytes() / 2, report.averageBytes());
+        assertEquals(1, report.largestSessions().size());
+        SessionMemoryReport.SessionUsage largest = report.largestSessions().get(0);
+        assertEquals("large-...", largest.sessionId());
+        assertEquals("AD2000", largest.cmpCd());
+        assertTrue(largest.attributes().get("BULK") >= 10_000);
+        assertEquals(List.of("AD2000", "AD1000"), report.companies().stream().map(SessionMemoryReport.CompanyUsage::cmpCd).toList());
+        assertTrue(report.attributes().stream()
+            .anyMatch(usage -> usage.name().equals(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY) && usage.sessions() == 2));
+    }
+
+    @Test
+    @DisplayName("ReferenceData 공유 인스턴스(회사/부서/메뉴 권한)는 세션 크기에서 제외")
+    void report_ShouldExcludeSharedReferenceData() {
+        ReferenceData global = ReferenceData.global();
+        global.replace(List.of(new CompanyInfo("SMTEST", "공유 주식회사", "123-45-67890", "대표", "02-000-0000", "00000", "서울시 어딘가 아주 긴 주소")),
+            List.of(new DepartmentInfo("SMTEST", "D1", "공유 부서", "HQ", "본부", "boss")),
+            List.of(new AuthGroupMenu("SMTEST", "G1", "SMM01"), new AuthGroupMenu("SMTEST", "G1", "SMM02")));
+        CustomUserDetails shared = user(global.company("SMTEST"), global.department("SMTEST", "D1"),
+            global.menusOf("SMTEST", List.of("G1")));
+        CustomUserDetails copied = user(copyOf(shared.getCompany()), copyOf(shared.getDepartment()),
+            MenuPermissionSet.of(List.of("SMM01", "SMM02")));
+
+        MockHttpSession sharedSession = session("shared-session", shared);
+        MockHttpSession copiedSession = session("copied-session", copied);
+        SessionMemoryReport report = endpoint.report(2);
+
+        long sharedBytes = bytesOf(report, "shared...");
+        long copiedBytes = bytesOf(report, "copied...");
+        assertTrue(sharedBytes < copiedBytes, sharedBytes + " < " + copiedBytes);
+        tracker.onApplicationEvent(new HttpSessionDestroyedEvent(sharedSession));
+        tracker.onApplicationEvent(new HttpSessionDestroyedEvent(copiedSession));
+    }
+
+    private static long bytesOf(SessionMemoryReport report, String sessionId) {
+        return report.largestSessions().stream().filter(usage -> usage.sessionId().equals(sessionId))
+            .findFirst().orElseThrow().bytes();
+    }
+
+    private static CustomUserDetails user(CompanyInfo company, DepartmentInfo department, MenuPermissionSet menus) {
+        return CustomUserDetails.builder()
+            .cmpCd("SMTEST")
+            .empId("user")
+            .deptCd("D1")
+            .authorities(List.of(new SimpleGrantedAuthority("G1")))
+            .company(company)
+            .department(department)
+            .accessibleMenuIds(menus)
+            .build();
+    }
+
+    private static CompanyInfo copyOf(CompanyInfo info) {
+        return new CompanyInfo(new String(info.cmpCd()), new String(info.cmpNm()), new String(info.bizcpRegNo()),
+            new String(info.ceoNm()), new String(info.rprsTelNo()), new String(info.postNo()), new String(info.addr()));
+    }
+
+    private static DepartmentInfo copyOf(DepartmentInfo info) {
+        return new DepartmentInfo(new String(info.cmpCd()), new String(info.deptCd()), new String(info.deptNm()),
+            new String(info.hqCd()), new String(info.hqNm()), new String(info.dpldEmpId()));
+    }
+
+    private MockHttpSession session(String id, CustomUserDetails user) {
+        MockHttpSession session = new MockHttpSession(null, id);
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+            new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities())));
+        tracker.onApplicationEvent(new HttpSessionCreatedEvent(session));
+        return session;
+    }
+
+    private MockHttpSession session(String id, String cmpCd) {
+        MockHttpSession session = new MockHttpSession(null, id);
+        CustomUserDetails user = CustomUserDetails.builder().cmpCd(cmpCd).empId("user").build();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+            new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, List.of())));
+        tracker.onApplicationEvent(new HttpSessionCreatedEvent(session));
+        return session;
+    }
+}
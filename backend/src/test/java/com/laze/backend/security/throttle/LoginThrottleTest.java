@@ -0,0 +1,61 @@
+package com.laze.backend.security.throttle;
+
+import com.laze.backend.security.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginThrottle throttle = new LoginThrottle(meterRegistry, true, 60, 10, 1, 3, 60, 100);
+
+    @Test
+    @DisplayName("계정 버킷 초과 시 429 + Retry-After 초")
+    void checkAttempt_OverAccountBurst_ShouldThrottle() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAttempt("10.0.0.1", "AD1000", "user");
+        }
+        LoginThrottledException e = assertThrows(LoginThrottledException.class,
+            () -> throttle.checkAttempt("10.0.0.2", "AD1000", "user"));
+        assertEquals(60, e.getRetryAfterSeconds());
+        throttle.checkAttempt("10.0.0.1", "AD1000", "other");
+    }
+
+    @Test
+    @DisplayName("IP 버킷 초과 시 계정과 무관하게 거절")
+    void checkAttempt_OverIpBurst_ShouldThrottle() {
+        for (int i = 0; i < 10; i++) {
+            throttle.checkAttempt("10.0.0.1", "AD1000", "user" + i);
+        }
+        assertThrows(LoginThrottledException.class, () -> throttle.checkAttempt("10.0.0.1", "AD1000", "new"));
+        assertEquals(1.0, meterRegistry.get("login.throttle.rejected").tag("reason", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("부정 캐시: 잠김/미존재 계정은 검증 없이 거절, clear 후 허용")
+    void checkAttempt_NegativeCache_ShouldRejectUntilCleared() {
+        throttle.markLocked("AD1000", "locked");
+        throttle.markUnknown("AD1000", "ghost");
+
+        assertThrows(LockedException.class, () -> throttle.checkAttempt("10.0.0.1", "AD1000", "locked"));
+        assertThrows(UsernameNotFoundException.class, () -> throttle.checkAttempt("10.0.0.1", "AD1000", "ghost"));
+
+        throttle.clear("AD1000", "locked");
+        throttle.checkAttempt("10.0.0.1", "AD1000", "locked");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 모든 시도 허용")
+    void checkAttempt_Disabled_ShouldAllowAll() {
+        LoginThrottle disabled = new LoginThrottle(meterRegistry, false, 60, 1, 1, 1, 60, 100);
+        disabled.markLocked("AD1000", "locked");
+        for (int i = 0; i < 5; i++) {
+            disabled.checkAttempt("10.0.0.1", "AD1000", "locked");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.laze.backend.security.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantRequestQuotaTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("사용자 동시 처리 한도 초과 시 거절, release 후 허용 및 처리 중 건수 게이지 반영")
+    void tryAcquire_OverUserConcurrency_ShouldRejectUntilReleased() {
+        TenantRequestQuota quota = new TenantRequestQuota(meterRegistry, true, 0, 1, 0, 0, 1, 2);
+        TenantRequestQuota.Lease first = quota.tryAcquire("AD1000", "user");
+        TenantRequestQuota.Lease second = quota.tryAcquire("AD1000", "user");
+        assertTrue(first.granted() && second.granted());
+        assertEquals(2.0, meterRegistry.get("tenant.requests.active").tag("cmpCd", "AD1000").gauge().value());
+
+        TenantRequestQuota.Lease rejected = quota.tryAcquire("AD1000", "user");
+        assertFalse(rejected.granted());
+        assertEquals(1, rejected.getRetryAfterSeconds());
+        assertTrue(quota.tryAcquire("AD1000", "other").granted());
+
+        first.release();
+        assertTrue(quota.tryAcquire("AD1000", "user").granted());
+        assertEquals(1.0, meterRegistry.get("tenant.requests.rejected")
+            .tags("cmpCd", "AD1000", "reason", "user-concurrency").counter().count());
+    }
+
+    @Test
+    @DisplayName("회사 속도 한도는 같은 회사의 모든 사용자에 공동 적용, 다른 회사는 영향 없음")
+    void tryAcquire_OverCompanyRate_ShouldRejectWholeTenant() {
+        TenantRequestQuota quota = new TenantRequestQuota(meterRegistry, true, 60, 3, 0, 0, 1, 0);
+        for (int i = 0; i < 3; i++) {
+            quota.tryAcquire("AD1000", "user" + i).release();
+        }
+        TenantRequestQuota.Lease rejected = quota.tryAcquire("AD1000", "user9");
+        assertFalse(rejected.granted());
+        assertEquals(1, rejected.getRetryAfterSeconds());
+        assertTrue(quota.tryAcquire("AD2000", "user0").granted());
+        assertEquals(3.0, meterRegistry.get("tenant.requests").tag("cmpCd", "AD1000").counter().count());
+    }
+}
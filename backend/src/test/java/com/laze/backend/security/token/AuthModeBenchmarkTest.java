@@ -0,0 +1,191 @@
+package com.laze.backend.security.token;
+
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.security.reference.CompanyInfo;
+import com.laze.backend.security.reference.DepartmentInfo;
+import com.laze.backend.security.session.SessionAttributeCodec;
+import com.laze.backend.user.mapper.UserMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증 상태 복원 처리량 비교: 세션 모드 vs 토큰 모드 (백엔드 노드 3개, sticky session 없음)
+ * - 세션 모드: 요청마다 임의 노드가 공유 JDBC 세션 저장소(H2)에서 세션 조회 + SecurityContext 복원 + 마지막 접근 시각 저장
+ * - 토큰 모드: 요청마다 임의 노드가 서명 검증 + 토큰 디코딩 + 메뉴 권한 지문 캐시 조회
+ *
+ * 임베디드 DB 는 네트워크 왕복이 없으므로 실제 MariaDB 환경에서는 세션 모드 비용이 더 크다.
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*AuthModeBenchmarkTest"
+ */
+@Tag("benchmark")
+class AuthModeBenchmarkTest {
+
+    private static final int NODES = 3;
+    private static final int USERS = 500;
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 40_000;
+    private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    @Test
+    void compareSessionAndTokenThroughput() throws Exception {
+        List<String> menuIds = new ArrayList<>();
+        for (int m = 0; m < 300; m++) {
+            menuIds.add(String.format("AM%04d", m));
+        }
+        UserMapper userMapper = mock(UserMapper.class);
+        when(userMapper.findMenuIdsByCmpCdAndAuthGrpIds(anyString(), any())).thenReturn(menuIds);
+        when(userMapper.findEmpByCmpCdAndEmpId(anyString(), anyString())).thenReturn(Optional.of(new UserInfo()));
+
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("org/springframework/session/jdbc/schema-h2.sql")
+            .build();
+        try {
+            // --- 세션 모드: 노드별 저장소 인스턴스, 같은 DB 공유 ---
+            List<JdbcIndexedSessionRepository> sessionNodes = new ArrayList<>();
+            for (int n = 0; n < NODES; n++) {
+                sessionNodes.add(sessionRepository(database));
+            }
+            String[] sessionIds = new String[USERS];
+            for (int u = 0; u < USERS; u++) {
+                sessionIds[u] = saveLogin(sessionNodes.get(0), user(u, menuIds));
+            }
+
+            // --- 토큰 모드: 노드별 서비스/메뉴 캐시, 비밀키 공유 ---
+            List<AuthTokenService> tokenNodes = new ArrayList<>();
+            for (int n = 0; n < NODES; n++) {
+                tokenNodes.add(new AuthTokenService(new MenuPermissionResolver(userMapper, 10_000),
+                    new EmployeeProfileCache(userMapper, 10_000, Duration.ofMinutes(10)), SECRET, Duration.ofHours(8), Clock.systemUTC()));
+            }
+            String[] tokens = new String[USERS];
+            for (int u = 0; u < USERS; u++) {
+                tokens[u] = tokenNodes.get(0).issue(user(u, menuIds));
+            }
+
+            IntPredicate sessionRequest = i -> {
+                Session session = sessionNodes.get(i % NODES).findById(sessionIds[(i * 31) % USERS]);
+                SecurityContext context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+                save(sessionNodes.get(i % NODES), session);
+                return ((CustomUserDetails) context.getAuthentication().getPrincipal()).hasMenuAccess("AM0001");
+            };
+            IntPredicate tokenRequest = i -> tokenNodes.get(i % NODES).authenticate(tokens[(i * 31) % USERS])
+                .map(auth -> ((CustomUserDetails) auth.getPrincipal()).hasMenuAccess("AM0001"))
+                .orElse(false);
+
+            run(sessionRequest, REQUESTS / 4);
+            run(tokenRequest, REQUESTS / 4);
+            double sessionRps = run(sessionRequest, REQUESTS);
+            double tokenRps = run(tokenRequest, REQUESTS);
+
+            System.out.printf("%n[AuthMode] %d nodes, %d users, %d threads, %d requests%n", NODES, USERS, THREADS, REQUESTS);
+            System.out.printf("  %-28s %10.0f req/s%n", "SESSION (shared JDBC store)", sessionRps);
+            System.out.printf("  %-28s %10.0f req/s%n", "TOKEN (HMAC, no session)", tokenRps);
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    /**
+     * @return 초당 처리 요청 수
+     */
+    private double run(IntPredicate request, int requests) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger granted = new AtomicInteger();
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = sequence.getAndIncrement(); i < requests; i = sequence.getAndIncrement()) {
+                    if (request.test(i)) {
+                        granted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        assertEquals(requests, granted.get());
+        return requests / seconds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Session> void save(SessionRepository<S> repository, Session session) {
+        repository.save((S) session);
+    }
+
+    private static <S extends Session> String saveLogin(SessionRepository<S> repository, CustomUserDetails user) {
+        S session = repository.createSession();
+        CmpUserAuthenticationToken token = new CmpUserAuthenticationToken(user.getCmpCd(), user, null, user.getAuthorities());
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(token));
+        repository.save(session);
+        return session.getId();
+    }
+
+    private static JdbcIndexedSessionRepository sessionRepository(EmbeddedDatabase database) {
+        SessionAttributeCodec codec = new SessionAttributeCodec();
+        JdbcIndexedSessionRepository repository = new JdbcIndexedSessionRepository(
+            new JdbcTemplate(database), new TransactionTemplate(new DataSourceTransactionManager(database)));
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, codec::encode);
+        conversionService.addConverter(byte[].class, Object.class, codec::decode);
+        repository.setConversionService(conversionService);
+        return repository;
+    }
+
+    private static CustomUserDetails user(int index, List<String> menuIds) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("GRP1"), new SimpleGrantedAuthority("GRP2"));
+        return CustomUserDetails.builder()
+            .empId("user" + index)
+            .cmpCd("AD1000")
+            .empNm("사용자" + index)
+            .company(new CompanyInfo("AD1000", null, null, null, null, null, "서울특별시 강남구 테헤란로 123"))
+            .department(new DepartmentInfo("AD1000", null, "플랫폼개발팀", null, null, null))
+            .authorities(authorities)
+            .enabled(true)
+            .accountNonExpired(true)
+            .accountNonLocked(true)
+            .credentialsNonExpired(true)
+            .accessibleMenuIds(MenuPermissionSet.of(menuIds))
+            .build();
+    }
+}
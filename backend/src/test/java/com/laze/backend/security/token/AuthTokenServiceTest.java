@@ -0,0 +1,136 @@
+package com.laze.backend.security.token;
+
+import com.laze.backend.menu.event.MenuChangedEvent;
+import com.laze.backend.security.dto.CustomUserDetails;
+import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.permission.MenuPermissionSet;
+import com.laze.backend.user.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuthTokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+
+    @BeforeEach
+    void setUp() {
+        UserInfo emp = new UserInfo();
+        emp.setCmpCd("AD1000");
+        emp.setEmpId("admin");
+        emp.setEmpNm("홍길동");
+        emp.setDeptCd("D100");
+        emp.setJobclsCd("J01");
+        emp.setMail("admin@laze.com");
+        emp.setRetmYn("N");
+        when(userMapper.findEmpByCmpCdAndEmpId("AD1000", "admin")).thenReturn(Optional.of(emp));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰을 다른 노드(캐시 없음)에서 검증: 권한 그룹으로 메뉴 1회 조회 후 캐시")
+    void authenticate_OnAnotherNode_ShouldRestoreUserWithSingleMenuLookup() {
+        AuthTokenService issuer = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        AuthTokenService otherNode = service(Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+        when(userMapper.findMenuIdsByCmpCdAndAuthGrpIds(eq("AD1000"), any())).thenReturn(List.of("TKTEST02", "TKTEST01"));
+
+        String token = issuer.issue(user());
+        CmpUserAuthenticationToken first = otherNode.authenticate(token).orElseThrow();
+        otherNode.authenticate(token).orElseThrow();
+
+        CustomUserDetails restored = (CustomUserDetails) first.getPrincipal();
+        assertTrue(first.isAuthenticated());
+        assertEquals("admin", restored.getUsername());
+        assertEquals("홍길동", restored.getEmpNm());
+        assertEquals("D100", restored.getDeptCd());
+        assertEquals("J01", restored.getJobclsCd());
+        assertEquals("admin@laze.com", restored.getMail());
+        assertEquals(List.of(new SimpleGrantedAuthority("ADMIN")), List.copyOf(first.getAuthorities()));
+        assertTrue(restored.hasMenuAccess("TKTEST01"));
+        verify(userMapper, times(1)).findMenuIdsByCmpCdAndAuthGrpIds(eq("AD1000"), any());
+        verify(userMapper, times(1)).findEmpByCmpCdAndEmpId("AD1000", "admin");
+    }
+
+    @Test
+    @DisplayName("MenuChangedEvent 수신 시 지문 캐시를 비워 변경된 메뉴 권한의 토큰을 거절")
+    void authenticate_AfterMenuChanged_ShouldRecheckFingerprint() {
+        MenuPermissionResolver resolver = new MenuPermissionResolver(userMapper, 100);
+        AuthTokenService node = service(resolver, Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = node.issue(user());
+        assertTrue(node.authenticate(token).isPresent()); // 로그인 노드는 등록된 지문 사용
+
+        when(userMapper.findMenuIdsByCmpCdAndAuthGrpIds(eq("AD1000"), any())).thenReturn(List.of("TKTEST01"));
+        assertTrue(node.authenticate(token).isPresent()); // 캐시 적중 (DB 재확인 없음)
+
+        resolver.onMenuChanged(new MenuChangedEvent("test"));
+        assertTrue(node.authenticate(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("서명 변조 / 만료 / 발급 이후 메뉴 권한 변경 시 인증 실패")
+    void authenticate_WithInvalidToken_ShouldReturnEmpty() {
+        AuthTokenService issuer = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = issuer.issue(user());
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertTrue(issuer.authenticate(tampered).isEmpty());
+        assertTrue(issuer.authenticate("garbage").isEmpty());
+
+        AuthTokenService later = service(Clock.fixed(NOW.plus(Duration.ofHours(9)), ZoneOffset.UTC));
+        assertTrue(later.authenticate(token).isEmpty());
+
+        when(userMapper.findMenuIdsByCmpCdAndAuthGrpIds(eq("AD1000"), any())).thenReturn(List.of("TKTEST01"));
+        AuthTokenService otherNode = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        assertTrue(otherNode.authenticate(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("TOKEN 모드에서 secret 미설정 시 기동 실패 (SESSION 모드는 허용)")
+    void constructor_WithoutSecretInTokenMode_ShouldFail() {
+        MenuPermissionResolver resolver = new MenuPermissionResolver(userMapper, 100);
+        EmployeeProfileCache profiles = new EmployeeProfileCache(userMapper, 100, Duration.ofMinutes(10));
+
+        assertThrows(IllegalStateException.class,
+            () -> new AuthTokenService(resolver, profiles, "", Duration.ofHours(8), AuthenticationMode.TOKEN));
+        assertDoesNotThrow(() -> new AuthTokenService(resolver, profiles, "", Duration.ofHours(8), AuthenticationMode.SESSION));
+    }
+
+    private AuthTokenService service(Clock clock) {
+        return service(new MenuPermissionResolver(userMapper, 100), clock);
+    }
+
+    private AuthTokenService service(MenuPermissionResolver resolver, Clock clock) {
+        return new AuthTokenService(resolver, new EmployeeProfileCache(userMapper, 100, Duration.ofMinutes(10)),
+            SECRET, Duration.ofHours(8), clock);
+    }
+
+    private CustomUserDetails user() {
+        return CustomUserDetails.builder()
+            .empId("admin")
+            .cmpCd("AD1000")
+            .empNm("홍길동")
+            .authorities(List.of(new SimpleGrantedAuthority("ADMIN")))
+            .enabled(true)
+            .accountNonExpired(true)
+            .accountNonLocked(true)
+            .credentialsNonExpired(true)
+            .accessibleMenuIds(MenuPermissionSet.of(List.of("TKTEST01", "TKTEST02")))
+            .build();
+    }
+}
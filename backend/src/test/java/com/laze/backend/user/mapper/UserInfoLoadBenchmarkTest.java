@@ -0,0 +1,183 @@
+package com.laze.backend.user.mapper;
+
+import com.laze.backend.security.dto.UserInfo;
+import com.laze.backend.security.service.UserInfoLoader;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 로그인 사용자 정보 조회 JOIN 모드 vs SPLIT 모드 비교 벤치마크
+ * (권한 그룹 5개 x 그룹당 메뉴 300개 사용자 기준, 행 수 / 전송 바이트 / 지연시간)
+ *
+ * 매 호출마다 새 SqlSession 을 사용하도록(1차 캐시 배제) 테스트 트랜잭션 없이 실행한다.
+ * 임베디드 DB 는 네트워크 왕복이 없으므로 지연시간 차이는 실제 MariaDB 환경보다 작게(또는 반대로) 나타날 수 있다.
+ *
+ * 실행: ./gradlew :backend:benchmark --tests "*UserInfoLoadBenchmarkTest"
+ */
+@Tag("benchmark")
+@MybatisTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/h2/login-schema.sql")
+class UserInfoLoadBenchmarkTest {
+
+    private static final String CMP_CD = "AD1000";
+    private static final String EMP_ID = "bench";
+    private static final int AUTH_GROUPS = 5;
+    private static final int MENUS = 300;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO FW_CMP VALUES (?, ?, ?, ?, ?, ?, ?, 'Y')",
+            CMP_CD, "테스트 주식회사", "123-45-67890", "홍길동", "02-1234-5678", "06236", "서울특별시 강남구 테헤란로 123 테스트빌딩 10층");
+        jdbcTemplate.update("INSERT INTO FW_DEPT VALUES (?, ?, ?, ?, ?, ?, 'Y')",
+            CMP_CD, "DEPT001", "플랫폼개발팀", "HQ01", "기술본부", "lead01");
+        jdbcTemplate.update("INSERT INTO FW_EMP VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'N', ?, 0, '20260101')",
+            CMP_CD, EMP_ID, "벤치마크 사용자", "DEPT001", "JOB01", "책임", "02-1234-0000", "010-1234-5678",
+            "bench@example.com", "$2a$10$JqYPnA5Wx0MAveZ0LWfl9OmNtrIuPBcCtmyQXri4E3zaxLtV1/NZO");
+
+        List<Object[]> groups = new ArrayList<>();
+        List<Object[]> grants = new ArrayList<>();
+        List<Object[]> menus = new ArrayList<>();
+        for (int g = 0; g < AUTH_GROUPS; g++) {
+            String grpId = "GRP" + g;
+            groups.add(new Object[]{CMP_CD, grpId, "권한그룹" + g});
+            grants.add(new Object[]{CMP_CD, grpId, EMP_ID});
+            for (int m = 0; m < MENUS; m++) {
+                menus.add(new Object[]{CMP_CD, grpId, String.format("FW%04d", m)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO FW_AUTH_GRP VALUES (?, ?, ?, 'Y')", groups);
+        jdbcTemplate.batchUpdate("INSERT INTO FW_AUTH_EMP VALUES (?, ?, ?, 'Y')", grants);
+        jdbcTemplate.batchUpdate("INSERT INTO FW_AUTH_MENU VALUES (?, ?, ?, 'Y')", menus);
+    }
+
+    @Test
+    void compareJoinAndSplitLoading() throws Exception {
+        UserInfoLoader joinLoader = loader(UserInfoLoader.LoadMode.JOIN);
+        UserInfoLoader splitLoader = loader(UserInfoLoader.LoadMode.SPLIT);
+
+        // 두 모드의 결과가 동일한지 먼저 확인
+        UserInfo joined = joinLoader.load(CMP_CD, EMP_ID).orElseThrow();
+        UserInfo split = splitLoader.load(CMP_CD, EMP_ID).orElseThrow();
+        assertEquals(joined.getEmpNm(), split.getEmpNm());
+        assertEquals(joined.getAddr(), split.getAddr());
+        assertEquals(joined.getAccessibleMenuIds(), split.getAccessibleMenuIds());
+        assertEquals(new HashSet<>(joined.getAuthorityGroupIds()), new HashSet<>(split.getAuthorityGroupIds()));
+        assertEquals(MENUS, split.getAccessibleMenuIds().size());
+
+        // 행 수 / 전송 바이트 (컬럼 값 UTF-8 기준 추정)
+        long[] joinStats = transferStats("findUserInfoByCmpCdAndEmpId", Map.of("cmpCd", CMP_CD, "empId", EMP_ID));
+        long[] baseStats = transferStats("findUserBaseByCmpCdAndEmpId", Map.of("cmpCd", CMP_CD, "empId", EMP_ID));
+        long[] grpStats = transferStats("findAuthGrpIdsByCmpCdAndEmpId", Map.of("cmpCd", CMP_CD, "empId", EMP_ID));
+        long[] menuStats = transferStats("findMenuIdsByCmpCdAndAuthGrpIds", Map.of("cmpCd", CMP_CD, "authGrpIds", split.getAuthorityGroupIds()));
+        long splitRows = baseStats[0] + grpStats[0] + menuStats[0];
+        long splitBytes = baseStats[1] + grpStats[1] + menuStats[1];
+
+        // 지연시간
+        double joinMicros = measure(joinLoader);
+        double splitMicros = measure(splitLoader);
+
+        System.out.printf("%n[UserInfoLoad] %d auth groups x %d menus%n", AUTH_GROUPS, MENUS);
+        System.out.printf("  %-6s rows=%6d  bytes=%9d  latency=%8.1f us/login%n", "JOIN", joinStats[0], joinStats[1], joinMicros);
+        System.out.printf("  %-6s rows=%6d  bytes=%9d  latency=%8.1f us/login (3 queries)%n", "SPLIT", splitRows, splitBytes, splitMicros);
+
+        assertEquals((long) AUTH_GROUPS * MENUS, joinStats[0]);
+        assertEquals(1 + AUTH_GROUPS + MENUS, splitRows);
+    }
+
+    private UserInfoLoader loader(UserInfoLoader.LoadMode mode) {
+        UserInfoLoader loader = new UserInfoLoader(userMapper);
+        ReflectionTestUtils.setField(loader, "loadMode", mode);
+        return loader;
+    }
+
+    private double measure(UserInfoLoader loader) {
+        for (int i = 0; i < WARMUP; i++) {
+            loader.load(CMP_CD, EMP_ID);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            loader.load(CMP_CD, EMP_ID);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    /**
+     * MyBatis 매핑 구문을 JDBC 로 직접 실행하여 결과 행 수와 컬럼 값 바이트 합계를 계산
+     * @return [행 수, 바이트 수]
+     */
+    private long[] transferStats(String statementId, Map<String, Object> params) throws Exception {
+        BoundSql boundSql = sqlSessionFactory.getConfiguration()
+            .getMappedStatement(UserMapper.class.getName() + "." + statementId)
+            .getBoundSql(new HashMap<>(params));
+
+        long rows = 0;
+        long bytes = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(boundSql.getSql())) {
+            List<ParameterMapping> mappings = boundSql.getParameterMappings();
+            for (int i = 0; i < mappings.size(); i++) {
+                String property = mappings.get(i).getProperty();
+                Object value = boundSql.hasAdditionalParameter(property)
+                    ? boundSql.getAdditionalParameter(property)
+                    : params.get(property);
+                ps.setObject(i + 1, value);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    rows++;
+                    for (int c = 1; c <= columns; c++) {
+                        String value = rs.getString(c);
+                        if (value != null) {
+                            bytes += value.getBytes(StandardCharsets.UTF_8).length;
+                        }
+                    }
+                }
+            }
+        }
+        return new long[]{rows, bytes};
+    }
+}
@@ -0,0 +1,11 @@
+-- 메뉴/권한 변경 로그 (테스트용, 트리거 없이 직접 INSERT)
+DROP TABLE IF EXISTS FW_CHG_LOG;
+
+CREATE TABLE FW_CHG_LOG (
+    CHG_SEQ     BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    TBL_NM      VARCHAR(30)  NOT NULL,
+    CMP_CD      VARCHAR(20),
+    AUTH_GRP_ID VARCHAR(20),
+    EMP_ID      VARCHAR(20),
+    CHG_DT      TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
@@ -0,0 +1,70 @@
+-- 로그인 조회 대상 테이블 (테스트용 최소 스키마)
+DROP TABLE IF EXISTS FW_AUTH_MENU;
+DROP TABLE IF EXISTS FW_AUTH_EMP;
+DROP TABLE IF EXISTS FW_AUTH_GRP;
+DROP TABLE IF EXISTS FW_EMP;
+DROP TABLE IF EXISTS FW_DEPT;
+DROP TABLE IF EXISTS FW_CMP;
+
+CREATE TABLE FW_CMP (
+    CMP_CD       VARCHAR(20)  NOT NULL PRIMARY KEY,
+    CMP_NM       VARCHAR(100),
+    BIZCP_REG_NO VARCHAR(20),
+    CEO_NM       VARCHAR(50),
+    RPRS_TEL_NO  VARCHAR(20),
+    POST_NO      VARCHAR(10),
+    ADDR         VARCHAR(200),
+    USE_YN       CHAR(1)      DEFAULT 'Y'
+);
+
+CREATE TABLE FW_DEPT (
+    CMP_CD      VARCHAR(20)  NOT NULL,
+    DEPT_CD     VARCHAR(20)  NOT NULL,
+    DEPT_NM     VARCHAR(100),
+    HQ_CD       VARCHAR(20),
+    HQ_NM       VARCHAR(100),
+    DPLD_EMP_ID VARCHAR(20),
+    USE_YN      CHAR(1)      DEFAULT 'Y',
+    PRIMARY KEY (CMP_CD, DEPT_CD)
+);
+
+CREATE TABLE FW_EMP (
+    CMP_CD          VARCHAR(20)  NOT NULL,
+    EMP_ID          VARCHAR(20)  NOT NULL,
+    EMP_NM          VARCHAR(50),
+    DEPT_CD         VARCHAR(20),
+    JOBCLS_CD       VARCHAR(20),
+    JOBCLS_NM       VARCHAR(50),
+    TEL_NO          VARCHAR(20),
+    HP_NO           VARCHAR(20),
+    MAIL            VARCHAR(100),
+    RETM_YN         CHAR(1)      DEFAULT 'N',
+    PWNO            VARCHAR(100),
+    PWNO_ERROR_RTRV INT          DEFAULT 0,
+    PWNO_CHG_DT     CHAR(8),
+    PRIMARY KEY (CMP_CD, EMP_ID)
+);
+
+CREATE TABLE FW_AUTH_GRP (
+    CMP_CD      VARCHAR(20)  NOT NULL,
+    AUTH_GRP_ID VARCHAR(20)  NOT NULL,
+    AUTH_GRP_NM VARCHAR(100),
+    USE_YN      CHAR(1)      DEFAULT 'Y',
+    PRIMARY KEY (CMP_CD, AUTH_GRP_ID)
+);
+
+CREATE TABLE FW_AUTH_EMP (
+    CMP_CD      VARCHAR(20)  NOT NULL,
+    AUTH_GRP_ID VARCHAR(20)  NOT NULL,
+    EMP_ID      VARCHAR(20)  NOT NULL,
+    USE_YN      CHAR(1)      DEFAULT 'Y',
+    PRIMARY KEY (CMP_CD, AUTH_GRP_ID, EMP_ID)
+);
+
+CREATE TABLE FW_AUTH_MENU (
+    CMP_CD      VARCHAR(20)  NOT NULL,
+    AUTH_GRP_ID VARCHAR(20)  NOT NULL,
+    MENU_ID     VARCHAR(20)  NOT NULL,
+    USE_YN      CHAR(1)      DEFAULT 'Y',
+    PRIMARY KEY (CMP_CD, AUTH_GRP_ID, MENU_ID)
+);
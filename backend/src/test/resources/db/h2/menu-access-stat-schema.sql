@@ -0,0 +1,21 @@
+-- 메뉴 API 사용 통계 테이블 (테스트용, 운영 DDL: db/mariadb/fw-menu-access-stat.sql)
+DROP TABLE IF EXISTS FW_MENU_ACCESS_STAT;
+
+CREATE TABLE FW_MENU_ACCESS_STAT (
+    STAT_DTM       TIMESTAMP    NOT NULL,
+    CMP_CD         VARCHAR(20)  NOT NULL,
+    MENU_ID        VARCHAR(20)  NOT NULL,
+    REQ_CNT        BIGINT       NOT NULL,
+    ERR_CNT        BIGINT       NOT NULL,
+    ELAPSED_MS_SUM BIGINT       NOT NULL,
+    ELAPSED_MS_MAX BIGINT       NOT NULL,
+    BKT_10MS       BIGINT       NOT NULL,
+    BKT_50MS       BIGINT       NOT NULL,
+    BKT_100MS      BIGINT       NOT NULL,
+    BKT_250MS      BIGINT       NOT NULL,
+    BKT_500MS      BIGINT       NOT NULL,
+    BKT_1S         BIGINT       NOT NULL,
+    BKT_3S         BIGINT       NOT NULL,
+    BKT_OVER       BIGINT       NOT NULL,
+    PRIMARY KEY (STAT_DTM, CMP_CD, MENU_ID)
+);
@@ -0,0 +1,28 @@
+-- 메뉴 조회 대상 테이블 (테스트용 최소 스키마, FW_AUTH_MENU 는 login-schema.sql)
+DROP TABLE IF EXISTS FW_MENU;
+
+CREATE TABLE FW_MENU (
+    MENU_ID     VARCHAR(20)  NOT NULL PRIMARY KEY,
+    MENU_NM     VARCHAR(100),
+    BIZ_DVCD    VARCHAR(20),
+    HRN_MENU_ID VARCHAR(20),
+    MENU_LEV    INT,
+    MENU_ORD    INT,
+    SCR_ID      VARCHAR(50),
+    MENU_MRK_YN CHAR(1)      DEFAULT 'Y',
+    MENU_ICON   VARCHAR(50),
+    USE_YN      CHAR(1)      DEFAULT 'Y',
+    CREATED_AT  TIMESTAMP,
+    UPDATED_AT  TIMESTAMP
+);
+
+DROP TABLE IF EXISTS FW_MENU_CLOSURE;
+
+CREATE TABLE FW_MENU_CLOSURE (
+    ANCESTOR_ID   VARCHAR(20)  NOT NULL,
+    DESCENDANT_ID VARCHAR(20)  NOT NULL,
+    DEPTH         INT          NOT NULL,
+    PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID)
+);
+
+CREATE INDEX FW_MENU_CLOSURE_IX1 ON FW_MENU_CLOSURE (DESCENDANT_ID, DEPTH, ANCESTOR_ID);
@@ -0,0 +1,15 @@
+-- 샘플 테이블 (테스트용, 운영 DDL: db/mariadb/tb-sample.sql)
+DROP TABLE IF EXISTS TB_SAMPLE;
+
+CREATE TABLE TB_SAMPLE (
+    SAMPLE_ID   BIGINT       NOT NULL AUTO_INCREMENT,
+    SAMPLE_NAME VARCHAR(100) NOT NULL,
+    DESCRIPTION VARCHAR(255),
+    REG_EMP_ID  VARCHAR(20),
+    REG_EMP_NM  VARCHAR(100),
+    CHG_EMP_ID  VARCHAR(20),
+    CHG_EMP_NM  VARCHAR(100),
+    CREATED_AT  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (SAMPLE_ID)
+);
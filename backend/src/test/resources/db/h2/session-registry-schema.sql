@@ -0,0 +1,12 @@
+-- 동시 세션 레지스트리 테이블 (테스트용, 운영 DDL: db/mariadb/fw-session-registry.sql)
+DROP TABLE IF EXISTS FW_SESSION_REGISTRY;
+
+CREATE TABLE FW_SESSION_REGISTRY (
+    SESSION_ID        VARCHAR(100) NOT NULL PRIMARY KEY,
+    PRINCIPAL_KEY     VARCHAR(100) NOT NULL,
+    LAST_REQUEST_TIME BIGINT       NOT NULL,
+    EXPIRED_YN        CHAR(1)      DEFAULT 'N' NOT NULL,
+    EXPIRED_TIME      BIGINT
+);
+
+CREATE INDEX FW_SESSION_REGISTRY_IX1 ON FW_SESSION_REGISTRY (PRINCIPAL_KEY);